@@ -0,0 +1,230 @@
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread sayısını ölçülen yüke göre çalışma sırasında ayarlayan ThreadPoolExecutor.
+ *
+ * Sabit çekirdek/maksimum değerleri (ör. 2/4 ve 10'luk kuyruk) dalgalı trafikte ya işleri kuyrukta uzun
+ * süre bekletir ya da red politikası üzerinden göndericiye geri iter. Bu sınıf, arka plandaki bir denetleyici
+ * ile her aralıkta şunları örnekler:
+ * - Geliş hızı λ (execute çağrıları / s) ve tamamlanma hızı
+ * - Ortalama çalışma süresi S (beforeExecute / afterExecute arası)
+ * - Kuyruk derinliği Q
+ *
+ * Little yasasına göre ortalama meşgul thread sayısı λ·S'dir. Hedef thread sayısı:
+ * <pre>
+ * hedef = ⌈ λ·S / hedefKullanım + Q·S / boşaltmaSüresi ⌉
+ * </pre>
+ * İkinci terim biriken kuyruğu boşaltma süresi içinde eritmek için gereken ek thread'lerdir.
+ * Sönümleme: λ ve S üssel hareketli ortalamayla yumuşatılır, her adımda thread sayısı en fazla mevcut
+ * değerin belirli bir oranı kadar değişir ve küçültme ancak birkaç ardışık aralık boyunca istenirse yapılır.
+ * Sonuç [minThreads, maxThreads] aralığına kırpılır; çekirdek ve maksimum thread sayısı birlikte ayarlanır,
+ * böylece kuyruk dolmadan yeni thread'ler başlar. Fazla thread'ler boşta kaldıklarında sonlanır.
+ */
+public class AdaptiveThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private static final long DEFAULT_INTERVAL_MILLIS = 250;
+
+    private final int minThreads;
+    private final int maxThreads;
+    private final ScheduledExecutorService controller;
+    private final LongAdder arrivals = new LongAdder();
+    private final LongAdder serviceNanos = new LongAdder();
+    private final ThreadLocal<long[]> startNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    // Ayarlar (setTuning ile değişir)
+    private volatile double targetUtilization = 0.8;
+    private volatile long drainNanos = TimeUnit.MILLISECONDS.toNanos(500);
+    private volatile double smoothing = 0.5;      // EWMA ağırlığı: 1 = yalnızca son örnek
+    private volatile double maxStepFraction = 0.5; // Bir adımda en fazla değişim oranı (en az 1 thread)
+    private volatile int shrinkAfterIntervals = 4;
+
+    // Denetleyici durumu (yalnızca denetleyici thread'inde değişir)
+    private long lastSampleNanos = System.nanoTime();
+    private long lastArrivals;
+    private long lastCompleted;
+    private long lastServiceNanos;
+    private double arrivalRate;
+    private double meanServiceNanos;
+    private int shrinkVotes;
+    private volatile Decision lastDecision;
+
+    /**
+     * Varsayılan thread fabrikası ve AbortPolicy ile, 250 ms'de bir ayarlanan havuz.
+     */
+    public AdaptiveThreadPoolExecutor(int minThreads, int maxThreads, BlockingQueue<Runnable> workQueue) {
+        this(minThreads, maxThreads, workQueue, Executors.defaultThreadFactory(), new AbortPolicy(),
+             DEFAULT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param minThreads  Thread sayısının alt sınırı (başlangıç değeri)
+     * @param maxThreads  Thread sayısının üst sınırı
+     * @param interval    Denetleyicinin örnekleme ve karar aralığı
+     */
+    public AdaptiveThreadPoolExecutor(int minThreads, int maxThreads, BlockingQueue<Runnable> workQueue,
+                                      ThreadFactory threadFactory, RejectedExecutionHandler handler,
+                                      long interval, TimeUnit unit) {
+        super(minThreads, minThreads, 1, TimeUnit.SECONDS, workQueue, threadFactory, handler);
+        if (minThreads < 1 || maxThreads < minThreads) {
+            throw new IllegalArgumentException("Geçersiz sınırlar: " + minThreads + ".." + maxThreads);
+        }
+        this.minThreads = minThreads;
+        this.maxThreads = maxThreads;
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "pool-size-controller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::adjust, interval, interval, unit);
+        this.controller = scheduler;
+    }
+
+    /**
+     * Denetleyici ayarları.
+     *
+     * @param targetUtilization    Thread başına hedef doluluk (0-1]; düşük değer daha fazla boş kapasite bırakır
+     * @param drainTime            Biriken kuyruğun eritilmesi hedeflenen süre
+     * @param smoothing            λ ve S için EWMA ağırlığı (0-1]; küçük değer daha yavaş, daha kararlı tepki verir
+     * @param maxStepFraction      Bir aralıkta thread sayısındaki en fazla değişim, mevcut değere oranla (en az 1)
+     * @param shrinkAfterIntervals Küçültmeden önce hedefin kaç ardışık aralık boyunca daha düşük kalması gerektiği
+     */
+    public void setTuning(double targetUtilization, long drainTime, TimeUnit unit, double smoothing,
+                          double maxStepFraction, int shrinkAfterIntervals) {
+        if (!(targetUtilization > 0 && targetUtilization <= 1) || !(smoothing > 0 && smoothing <= 1)
+                || !(maxStepFraction > 0) || drainTime <= 0 || shrinkAfterIntervals < 1) {
+            throw new IllegalArgumentException("Geçersiz denetleyici ayarı");
+        }
+        this.targetUtilization = targetUtilization;
+        this.drainNanos = unit.toNanos(drainTime);
+        this.smoothing = smoothing;
+        this.maxStepFraction = maxStepFraction;
+        this.shrinkAfterIntervals = shrinkAfterIntervals;
+    }
+
+    /**
+     * Denetleyicinin son kararı (henüz karar verilmediyse null).
+     */
+    public Decision getLastDecision() {
+        return lastDecision;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        arrivals.increment(); // Reddedilenler de gelen yüke dahildir
+        super.execute(command);
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        startNanos.get()[0] = System.nanoTime();
+        super.beforeExecute(t, r);
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        super.afterExecute(r, t);
+        serviceNanos.add(System.nanoTime() - startNanos.get()[0]);
+    }
+
+    @Override
+    protected void terminated() {
+        controller.shutdownNow();
+        super.terminated();
+    }
+
+    // Ölçümleri alır, hedef thread sayısını hesaplar ve havuzu yeniden boyutlandırır
+    private void adjust() {
+        if (isShutdown()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long arrived = arrivals.sum();
+        long completed = getCompletedTaskCount();
+        long service = serviceNanos.sum();
+        double seconds = (now - lastSampleNanos) / 1e9;
+        long completedDelta = completed - lastCompleted;
+        double alpha = smoothing;
+        arrivalRate += alpha * ((arrived - lastArrivals) / seconds - arrivalRate);
+        if (completedDelta > 0) {
+            // Bu aralıkta biten iş yoksa önceki tahmin korunur
+            double sample = (double) (service - lastServiceNanos) / completedDelta;
+            meanServiceNanos = meanServiceNanos == 0 ? sample : meanServiceNanos + alpha * (sample - meanServiceNanos);
+        }
+        double throughput = completedDelta / seconds;
+        lastSampleNanos = now;
+        lastArrivals = arrived;
+        lastCompleted = completed;
+        lastServiceNanos = service;
+
+        int queued = getQueue().size();
+        double busyThreads = arrivalRate * meanServiceNanos / 1e9; // Little yasası: L = λ·S
+        double desired = busyThreads / targetUtilization + queued * meanServiceNanos / drainNanos;
+        int target = (int) Math.max(minThreads, Math.min(maxThreads, Math.ceil(desired)));
+
+        int current = getCorePoolSize();
+        int step = Math.max(1, (int) (current * maxStepFraction));
+        int next = current;
+        if (target > current) {
+            next = Math.min(target, current + step);
+            shrinkVotes = 0;
+        } else if (target < current) {
+            if (++shrinkVotes >= shrinkAfterIntervals) {
+                next = Math.max(target, current - step);
+                shrinkVotes = 0;
+            }
+        } else {
+            shrinkVotes = 0;
+        }
+        resize(next);
+        lastDecision = new Decision(arrivalRate, throughput, meanServiceNanos / 1e6, queued, busyThreads, target, next);
+    }
+
+    // Çekirdek ve maksimum birlikte değişir; çekirdek hiçbir an maksimumu geçmemeli
+    private void resize(int threads) {
+        if (threads > getMaximumPoolSize()) {
+            setMaximumPoolSize(threads);
+            setCorePoolSize(threads);
+        } else if (threads < getCorePoolSize()) {
+            setCorePoolSize(threads);
+            setMaximumPoolSize(threads);
+        }
+    }
+
+    /**
+     * Denetleyicinin bir aralıktaki ölçümleri ve kararı.
+     */
+    public static final class Decision {
+        public final double arrivalRate;      // Yumuşatılmış geliş hızı (görev/s)
+        public final double throughput;       // Bu aralıktaki tamamlanma hızı (görev/s)
+        public final double meanServiceMillis; // Yumuşatılmış ortalama çalışma süresi
+        public final int queued;
+        public final double busyThreads;      // λ·S
+        public final int target;              // Sınırlara kırpılmış, sönümlenmemiş hedef
+        public final int threads;             // Uygulanan thread sayısı
+
+        Decision(double arrivalRate, double throughput, double meanServiceMillis, int queued,
+                 double busyThreads, int target, int threads) {
+            this.arrivalRate = arrivalRate;
+            this.throughput = throughput;
+            this.meanServiceMillis = meanServiceMillis;
+            this.queued = queued;
+            this.busyThreads = busyThreads;
+            this.target = target;
+            this.threads = threads;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("λ=%.0f/s, tamamlanan=%.0f/s, S=%.2f ms, kuyruk=%d, λ·S=%.1f, hedef=%d, thread=%d",
+                                 arrivalRate, throughput, meanServiceMillis, queued, busyThreads, target, threads);
+        }
+    }
+}
@@ -129,6 +129,31 @@ public class ExecutorServiceBasics {
             executor.shutdown();
         }
         
+        // 5. Worker başına kuyruk ve iş çalma: tek paylaşılan kuyruk yerine
+        System.out.println("\n5. Parçalı, İş Çalan Havuz (ShardedExecutorService):");
+        ShardedExecutorService sharded = new ShardedExecutorService(3);
+        try {
+            // ExecutorService yerine doğrudan kullanılabilir
+            List<Future<String>> results = sharded.invokeAll(tasks);
+            System.out.println("invokeAll sonuç sayısı: " + results.size());
+            
+            // Aynı anahtarın görevleri aynı worker'da, gönderildikleri sırayla çalışır
+            for (int i = 1; i <= 3; i++) {
+                final int step = i;
+                sharded.execute("hesap-42", () -> System.out.println("hesap-42 adım " + step + " - Thread: "
+                        + Thread.currentThread().getName()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            sharded.shutdown();
+        }
+        try {
+            sharded.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
         System.out.println("\nTüm executor örnekleri tamamlandı.");
     }
 } 
\ No newline at end of file
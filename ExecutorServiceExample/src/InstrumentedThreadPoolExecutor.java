@@ -0,0 +1,398 @@
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Kuyrukta bekleme ve çalışma sürelerini, redleri ve thread yaşam döngüsünü ölçen ThreadPoolExecutor.
+ *
+ * getActiveCount, getQueue().size() ve getCompletedTaskCount ayrı ayrı okunduğunda her biri farklı bir ana
+ * aittir ve kuyrukta ne kadar beklendiği, redlerin hangi politikayla sonuçlandığı gibi sorulara cevap vermez.
+ * Bu sınıf şunları kaydeder:
+ * - Kuyrukta bekleme: execute/submit anındaki damgadan beforeExecute'a kadar geçen süre (mikrosaniye histogramı)
+ * - Çalışma süresi: beforeExecute ile afterExecute arası (mikrosaniye histogramı)
+ * - Gönderilen, tamamlanan ve hata ile biten görevler (submit ile gönderilenlerin hataları Future'da kalsa da sayılır)
+ * - Red politikası başına red sayısı ve CallerRunsPolicy ile göndericide çalıştırılan görevler
+ * - Başlayan ve sonlanan worker thread'ler (boşta kalma süresi dolan veya havuz küçülünce çıkanlar)
+ *
+ * Kayıt yolu kilitsizdir ve nesne ayırmaz: sayaçlar LongAdder, histogramlar önceden ayrılmış kovalardır, çalışma
+ * başlangıcı thread'e ait bir long[] içinde tutulur. submit() zaten bir FutureTask oluşturur; gönderim damgası
+ * bu nesnenin bir alanında durur. Yalnızca execute(Runnable) ile verilen çıplak görevler damga için küçük bir
+ * sarmalayıcıya konur; shutdownNow ve remove sarmalayıcıyı gizler.
+ * <pre>
+ * executor.report(1, TimeUnit.SECONDS, interval -> System.out.println(interval));
+ * InstrumentedThreadPoolExecutor.Snapshot total = executor.snapshot();
+ * </pre>
+ */
+public class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final long createdNanos = System.nanoTime();
+    private final LatencyHistogram queueWait = new LatencyHistogram(HIGHEST_TRACKABLE_MICROS, 5);
+    private final LatencyHistogram serviceTime = new LatencyHistogram(HIGHEST_TRACKABLE_MICROS, 5);
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder threadsStarted = new LongAdder();
+    private final LongAdder threadsRetired = new LongAdder();
+    private final Map<String, LongAdder> rejections = new ConcurrentHashMap<>();
+    private final ThreadLocal<long[]> startNanos = ThreadLocal.withInitial(() -> new long[1]);
+    private ScheduledExecutorService reporter;
+    private Runnable reportInterval;
+    private boolean terminatedHookRan;
+
+    /**
+     * Varsayılan thread fabrikası ve AbortPolicy ile.
+     */
+    public InstrumentedThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                          BlockingQueue<Runnable> workQueue) {
+        this(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, Executors.defaultThreadFactory(),
+             new AbortPolicy());
+    }
+
+    public InstrumentedThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                          BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory,
+                                          RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+        // Sarmalayıcılar sayaçlara eriştiği için super() sonrasında kurulur; o ana kadar hiç thread başlamaz
+        setThreadFactory(threadFactory);
+        setRejectedExecutionHandler(handler);
+    }
+
+    @Override
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        super.setThreadFactory(threadFactory instanceof CountingThreadFactory
+                ? threadFactory : new CountingThreadFactory(threadFactory));
+    }
+
+    @Override
+    public void setRejectedExecutionHandler(RejectedExecutionHandler handler) {
+        super.setRejectedExecutionHandler(handler instanceof CountingHandler ? handler : new CountingHandler(handler));
+    }
+
+    @Override
+    public RejectedExecutionHandler getRejectedExecutionHandler() {
+        return ((CountingHandler) super.getRejectedExecutionHandler()).delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        Stamped stamped = command instanceof Stamped ? (Stamped) command : new StampedRunnable(command);
+        stamped.stamp(System.nanoTime());
+        submitted.increment();
+        super.execute((Runnable) stamped);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new StampedFutureTask<>(runnable, value);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new StampedFutureTask<>(callable);
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        long now = System.nanoTime();
+        if (r instanceof Stamped) { // getQueue() üzerinden doğrudan eklenen görevlerin damgası yoktur
+            queueWait.record((now - ((Stamped) r).stampNanos()) / 1000);
+        }
+        startNanos.get()[0] = now;
+        super.beforeExecute(t, r);
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        super.afterExecute(r, t);
+        serviceTime.record((System.nanoTime() - startNanos.get()[0]) / 1000);
+        completed.increment();
+        if (t != null) {
+            failed.increment();
+        }
+    }
+
+    @Override
+    public boolean remove(Runnable task) {
+        if (super.remove(task)) {
+            return true;
+        }
+        for (Runnable queued : getQueue()) {
+            if (queued instanceof StampedRunnable && ((StampedRunnable) queued).task == task) {
+                return super.remove(queued);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pending = super.shutdownNow();
+        pending.replaceAll(r -> r instanceof StampedRunnable ? ((StampedRunnable) r).task : r);
+        return pending;
+    }
+
+    @Override
+    protected void terminated() {
+        super.terminated();
+        synchronized (this) {
+            terminatedHookRan = true;
+            if (reporter != null) {
+                // Son aralık raporlanır; shutdown periyodik görevi iptal eder ama kuyruktaki bu görevi çalıştırır
+                reporter.execute(reportInterval);
+                reporter.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Oluşturulduğundan bu yana toplam ölçümler. Sayaçlar ve histogramlar ayrı ayrı okunduğu için eşzamanlı
+     * görevler kopyaya kısmen yansıyabilir; değerler hiçbir zaman geriye gitmez.
+     */
+    public Snapshot snapshot() {
+        Map<String, Long> rejected = new TreeMap<>();
+        rejections.forEach((policy, count) -> rejected.put(policy, count.sum()));
+        long now = System.nanoTime();
+        return new Snapshot(now, now - createdNanos, submitted.sum(), completed.sum(),
+                            failed.sum(), rejected, callerRuns.sum(), threadsStarted.sum(), threadsRetired.sum(),
+                            getPoolSize(), getActiveCount(), getQueue().size(), queueWait.snapshot(),
+                            serviceTime.snapshot());
+    }
+
+    /**
+     * Her periyotta son aralığın ölçümlerini (Snapshot.since) listener'a verir. Raporlar ayrı bir daemon
+     * thread'de üretilir; havuz sonlandığında son aralık bir kez daha raporlanır. Bir kez çağrılabilir.
+     */
+    public synchronized void report(long period, TimeUnit unit, Consumer<Snapshot> listener) {
+        if (reporter != null) {
+            throw new IllegalStateException("Raporlama zaten başlatıldı");
+        }
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "executor-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Snapshot[] previous = {snapshot()};
+        Runnable interval = () -> {
+            Snapshot current = snapshot();
+            listener.accept(current.since(previous[0]));
+            previous[0] = current;
+        };
+        reporter = scheduler;
+        reportInterval = interval;
+        if (terminatedHookRan) {
+            scheduler.execute(interval);
+            scheduler.shutdown();
+        } else {
+            scheduler.scheduleAtFixedRate(interval, period, period, unit);
+        }
+    }
+
+    // Gönderim anı damgası taşıyan görevler
+    private interface Stamped {
+        void stamp(long nanos);
+
+        long stampNanos();
+    }
+
+    private static final class StampedRunnable implements Runnable, Stamped {
+        final Runnable task;
+        private long stampNanos;
+
+        StampedRunnable(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public void stamp(long nanos) {
+            stampNanos = nanos;
+        }
+
+        @Override
+        public long stampNanos() {
+            return stampNanos;
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+    // submit() ile gönderilen görev: damga FutureTask'ın kendisinde, Future'da saklanan hatalar da sayılır
+    private final class StampedFutureTask<V> extends FutureTask<V> implements Stamped {
+        private long stampNanos;
+
+        StampedFutureTask(Callable<V> callable) {
+            super(callable);
+        }
+
+        StampedFutureTask(Runnable runnable, V result) {
+            super(runnable, result);
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            failed.increment();
+            super.setException(t);
+        }
+
+        @Override
+        public void stamp(long nanos) {
+            stampNanos = nanos;
+        }
+
+        @Override
+        public long stampNanos() {
+            return stampNanos;
+        }
+    }
+
+    private final class CountingThreadFactory implements ThreadFactory {
+        final ThreadFactory delegate;
+
+        CountingThreadFactory(ThreadFactory delegate) {
+            if (delegate == null) {
+                throw new NullPointerException();
+            }
+            this.delegate = delegate;
+        }
+
+        // Başlama worker gerçekten çalışmaya başladığında sayılır; oluşturulup başlatılmayan thread'ler sayılmaz
+        @Override
+        public Thread newThread(Runnable worker) {
+            return delegate.newThread(() -> {
+                threadsStarted.increment();
+                try {
+                    worker.run();
+                } finally {
+                    threadsRetired.increment();
+                }
+            });
+        }
+    }
+
+    private final class CountingHandler implements RejectedExecutionHandler {
+        final RejectedExecutionHandler delegate;
+        private final LongAdder count;
+
+        CountingHandler(RejectedExecutionHandler delegate) {
+            if (delegate == null) {
+                throw new NullPointerException();
+            }
+            this.delegate = delegate;
+            String simpleName = delegate.getClass().getSimpleName();
+            this.count = rejections.computeIfAbsent(simpleName.isEmpty() ? delegate.getClass().getName() : simpleName,
+                                                    policy -> new LongAdder());
+        }
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            count.increment();
+            if (delegate instanceof CallerRunsPolicy && !executor.isShutdown()) {
+                callerRuns.increment(); // CallerRunsPolicy kapanmış havuzda görevi sessizce atar
+            }
+            delegate.rejectedExecution(r, executor);
+        }
+    }
+
+    /**
+     * Toplam veya bir aralığa ait ölçümler. Havuz boyutu, aktif thread ve kuyruk alanları alındığı andaki
+     * değerlerdir; diğerleri aralık boyunca biriken sayılardır.
+     */
+    public static final class Snapshot {
+        public final long nanoTime;       // Alındığı an (System.nanoTime)
+        public final long intervalNanos;  // Kapsanan süre
+        public final long submitted;      // execute/submit çağrıları (reddedilenler dahil)
+        public final long completed;      // Worker'larda biten görevler
+        public final long failed;
+        public final Map<String, Long> rejections; // Red politikası sınıf adı → red sayısı
+        public final long callerRuns;     // CallerRunsPolicy ile göndericide çalışan görevler
+        public final long threadsStarted;
+        public final long threadsRetired;
+        public final int poolSize;
+        public final int activeThreads;
+        public final int queued;
+        public final LatencyHistogram.Snapshot queueWaitMicros;
+        public final LatencyHistogram.Snapshot serviceMicros;
+
+        Snapshot(long nanoTime, long intervalNanos, long submitted, long completed, long failed,
+                 Map<String, Long> rejections, long callerRuns, long threadsStarted, long threadsRetired,
+                 int poolSize, int activeThreads, int queued, LatencyHistogram.Snapshot queueWaitMicros,
+                 LatencyHistogram.Snapshot serviceMicros) {
+            this.nanoTime = nanoTime;
+            this.intervalNanos = intervalNanos;
+            this.submitted = submitted;
+            this.completed = completed;
+            this.failed = failed;
+            this.rejections = Collections.unmodifiableMap(rejections);
+            this.callerRuns = callerRuns;
+            this.threadsStarted = threadsStarted;
+            this.threadsRetired = threadsRetired;
+            this.poolSize = poolSize;
+            this.activeThreads = activeThreads;
+            this.queued = queued;
+            this.queueWaitMicros = queueWaitMicros;
+            this.serviceMicros = serviceMicros;
+        }
+
+        /**
+         * Tüm politikalardaki toplam red sayısı.
+         */
+        public long getRejected() {
+            long total = 0;
+            for (long count : rejections.values()) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * Bu kopya ile aynı havuzdan daha önce alınmış bir kopya arasındaki aralık.
+         */
+        public Snapshot since(Snapshot earlier) {
+            Map<String, Long> rejected = new TreeMap<>(rejections);
+            earlier.rejections.forEach((policy, count) -> rejected.merge(policy, -count, Long::sum));
+            return new Snapshot(nanoTime, nanoTime - earlier.nanoTime, submitted - earlier.submitted,
+                                completed - earlier.completed, failed - earlier.failed, rejected,
+                                callerRuns - earlier.callerRuns, threadsStarted - earlier.threadsStarted,
+                                threadsRetired - earlier.threadsRetired, poolSize, activeThreads, queued,
+                                queueWaitMicros.minus(earlier.queueWaitMicros), serviceMicros.minus(earlier.serviceMicros));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.1f sn: gönderilen=%d, tamamlanan=%d, hatalı=%d, red=%s, göndericide=%d, " +
+                                 "thread +%d/-%d, havuz=%d, aktif=%d, kuyruk=%d%n" +
+                                 "  kuyrukta bekleme (µs): %s%n  çalışma (µs): %s",
+                                 intervalNanos / 1e9, submitted, completed, failed, rejections, callerRuns,
+                                 threadsStarted, threadsRetired, poolSize, activeThreads, queued,
+                                 queueWaitMicros, serviceMicros);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sabit bellekli, HDR tarzı (log-lineer kovalı) bir gecikme histogramı.
+ *
+ * Değerler 2'nin kuvvetleri arasında eşit genişlikte alt kovalara ayrılır; her kovanın göreli
+ * hatası en fazla 2^-significantBits kadardır (ör. 5 bit için %3,1). Kova sayısı oluşturulurken
+ * belirlenir, kayıt sırasında nesne oluşturulmaz ve kilit kullanılmaz:
+ * her kayıt bir kova sayacını, toplamı ve en büyük değeri atomik olarak günceller.
+ *
+ * İzlenebilir en büyük değerden büyük kayıtlar o değere, negatif kayıtlar 0'a yuvarlanır.
+ * Değerlerin birimi kullanan koda bağlıdır (ör. mikrosaniye).
+ */
+public class LatencyHistogram {
+
+    private final int significantBits;
+    private final int subBucketCount;
+    private final long highestTrackableValue;
+    private final AtomicLongArray counts;
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param highestTrackableValue İzlenebilir en büyük değer
+     * @param significantBits Kova hassasiyeti (1-10 arası); bellek yaklaşık
+     *                        (log2(highestTrackableValue) - significantBits + 1) * 2^significantBits * 8 byte
+     */
+    public LatencyHistogram(long highestTrackableValue, int significantBits) {
+        if (significantBits < 1 || significantBits > 10) {
+            throw new IllegalArgumentException("significantBits 1-10 arasında olmalı: " + significantBits);
+        }
+        if (highestTrackableValue < 1) {
+            throw new IllegalArgumentException("highestTrackableValue pozitif olmalı: " + highestTrackableValue);
+        }
+        this.significantBits = significantBits;
+        this.subBucketCount = 1 << significantBits;
+        this.highestTrackableValue = highestTrackableValue;
+        this.counts = new AtomicLongArray(indexOf(highestTrackableValue) + 1);
+    }
+
+    /**
+     * Bir değeri kaydeder.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        } else if (value > highestTrackableValue) {
+            value = highestTrackableValue;
+        }
+        counts.incrementAndGet(indexOf(value));
+        sum.addAndGet(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Histogramın anlık bir kopyasını döndürür. Eşzamanlı kayıtlar kopyaya kısmen yansıyabilir.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[counts.length()];
+        long total = 0;
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(this, copy, total, sum.get(), max.get());
+    }
+
+    // Değerin kova indeksi: küçük değerler birebir, sonrakiler üs + en anlamlı bitler
+    private int indexOf(long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - significantBits;
+        return (shift + 1) * subBucketCount + (int) ((value >>> shift) - subBucketCount);
+    }
+
+    // Kovadaki en büyük değer
+    private long highestValueAt(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int shift = index / subBucketCount - 1;
+        long mantissa = subBucketCount + index % subBucketCount;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    // Kovadaki en küçük değer
+    private long lowestValueAt(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int shift = index / subBucketCount - 1;
+        return (long) (subBucketCount + index % subBucketCount) << shift;
+    }
+
+    /**
+     * Bir LatencyHistogram'ın değişmez kopyası.
+     */
+    public static final class Snapshot {
+        private final LatencyHistogram histogram;
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(LatencyHistogram histogram, long[] counts, long count, long sum, long max) {
+            this.histogram = histogram;
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Kayıtların en küçüğünü (kova hassasiyetinde) döndürür; kayıt yoksa 0.
+         */
+        public long getMin() {
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    return histogram.lowestValueAt(i);
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Kayıtların verilen yüzdesinin altında kaldığı değeri döndürür (ör. 99.0 için p99).
+         * Sonuç kova hassasiyetindedir ve en büyük kaydı geçmez; kayıt yoksa 0.
+         *
+         * @param percentile 0-100 arası yüzde
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            double clamped = Math.min(100.0, Math.max(0.0, percentile));
+            long target = Math.max(1, (long) Math.ceil(clamped / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return Math.min(histogram.highestValueAt(i), max);
+                }
+            }
+            return max;
+        }
+
+        /**
+         * Bu kopya ile daha önce alınmış bir kopya arasındaki kayıtlar (ör. periyodik raporlarda son aralık).
+         * Aralığın en büyük değeri kova hassasiyetindedir.
+         *
+         * @param earlier Aynı histogramdan daha önce alınmış kopya
+         */
+        public Snapshot minus(Snapshot earlier) {
+            if (earlier.histogram != histogram) {
+                throw new IllegalArgumentException("Kopyalar farklı histogramlara ait");
+            }
+            long[] delta = new long[counts.length];
+            long total = 0;
+            long highest = 0;
+            for (int i = 0; i < delta.length; i++) {
+                delta[i] = Math.max(0, counts[i] - earlier.counts[i]);
+                total += delta[i];
+                if (delta[i] != 0) {
+                    highest = Math.min(histogram.highestValueAt(i), max);
+                }
+            }
+            return new Snapshot(histogram, delta, total, Math.max(0, sum - earlier.sum), highest);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("n=%d, ort=%.1f, p50=%d, p90=%d, p99=%d, p99.9=%d, en yüksek=%d",
+                    count, getMean(), getValueAtPercentile(50), getValueAtPercentile(90),
+                    getValueAtPercentile(99), getValueAtPercentile(99.9), max);
+        }
+    }
+}
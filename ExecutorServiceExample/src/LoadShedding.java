@@ -0,0 +1,165 @@
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aşırı yükte CallerRunsPolicy yerine kullanılabilecek yük atma (load shedding) araçları.
+ *
+ * CallerRunsPolicy kuyruk dolunca görevi göndericinin thread'inde çalıştırır: ağdan istek kabul eden bir
+ * döngü bu sürede yeni bağlantı kabul edemez ve gecikme zincirleme büyür. Buradaki araçlar:
+ * - Task: öncelik ve son tarih taşıyan görev (FutureTask; atılırsa iptal edilir, bekleyen get() CancellationException alır)
+ * - BlockWithTimeoutPolicy: kuyrukta yer açılmasını en fazla belirli bir süre bekler, sonra reddeder
+ * - PriorityShedPolicy: kuyruk doluyken gelen görev, kuyruktaki daha düşük öncelikli bir görevin yerini alır
+ *
+ * Kuyrukta çok bekleyen (CoDel) veya son tarihi geçmiş görevleri atan kuyruk için SheddingBlockingQueue'ya bakın.
+ * Task nesneleri execute() ile gönderilmelidir; submit() onları başka bir FutureTask'a sarar ve öncelik ile
+ * son tarih görünmez olur.
+ * <pre>
+ * executor.execute(new LoadShedding.Task(() -> handle(request), 1, System.nanoTime() + timeoutNanos));
+ * </pre>
+ */
+public final class LoadShedding {
+
+    /** Son tarihi olmayan görevler için. */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private LoadShedding() {
+    }
+
+    /**
+     * Görevin önceliği; Task olmayan görevler 0 kabul edilir.
+     */
+    static int priorityOf(Runnable r) {
+        return r instanceof Task ? ((Task) r).getPriority() : 0;
+    }
+
+    /**
+     * Atılan görevi iptal eder (Future ise); sonucunu bekleyen taraf beklemede kalmaz.
+     */
+    static void shed(Runnable r) {
+        if (r instanceof Future) {
+            ((Future<?>) r).cancel(false);
+        }
+    }
+
+    /**
+     * Öncelik (büyük olan önemlidir) ve son tarih taşıyan görev.
+     */
+    public static class Task extends FutureTask<Void> {
+        private final int priority;
+        private final long deadlineNanos;
+
+        /**
+         * @param deadlineNanos System.nanoTime() cinsinden son tarih veya NO_DEADLINE
+         */
+        public Task(Runnable body, int priority, long deadlineNanos) {
+            super(body, null);
+            this.priority = priority;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+
+        public long getDeadlineNanos() {
+            return deadlineNanos;
+        }
+
+        public boolean isExpired(long nowNanos) {
+            return deadlineNanos != NO_DEADLINE && nowNanos - deadlineNanos > 0;
+        }
+    }
+
+    /**
+     * Kuyruk doluysa göndericiyi en fazla timeout kadar bekletir, yer açılmazsa RejectedExecutionException fırlatır.
+     * CallerRunsPolicy'den farkı: gönderici görevi çalıştırmaz, bekleme süresi sınırlıdır ve bilinir.
+     */
+    public static class BlockWithTimeoutPolicy implements RejectedExecutionHandler {
+        private final long timeoutNanos;
+        private final LongAdder rejected = new LongAdder();
+
+        public BlockWithTimeoutPolicy(long timeout, TimeUnit unit) {
+            if (timeout < 0) {
+                throw new IllegalArgumentException("Zaman aşımı negatif olamaz: " + timeout);
+            }
+            this.timeoutNanos = unit.toNanos(timeout);
+        }
+
+        /**
+         * Bekleme sonunda reddedilen görev sayısı.
+         */
+        public long getRejectedCount() {
+            return rejected.sum();
+        }
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Executor kapatıldı: " + r);
+            }
+            BlockingQueue<Runnable> queue = executor.getQueue();
+            try {
+                if (!queue.offer(r, timeoutNanos, TimeUnit.NANOSECONDS)) {
+                    rejected.increment();
+                    throw new RejectedExecutionException("Kuyrukta " + timeoutNanos / 1_000_000 +
+                                                         " ms içinde yer açılmadı: " + r);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejected.increment();
+                throw new RejectedExecutionException("Beklerken kesildi: " + r, e);
+            }
+            // Beklerken havuz kapandıysa görev kuyrukta sahipsiz kalmasın
+            if (executor.isShutdown() && executor.remove(r)) {
+                throw new RejectedExecutionException("Executor kapatıldı: " + r);
+            }
+        }
+    }
+
+    /**
+     * Kuyruk doluyken gelen görevden daha düşük öncelikli bir görev kuyrukta bekliyorsa onu (en düşük öncelikli
+     * olanlardan en son geleni) atar ve yeni görevi kuyruğa koyar; yoksa yeni görevi atar. Atılan görevler
+     * iptal edilir. Kuyruk taraması yalnızca red yolunda, kuyruk doluyken yapılır.
+     */
+    public static class PriorityShedPolicy implements RejectedExecutionHandler {
+        private final LongAdder shed = new LongAdder();
+
+        /**
+         * Atılan (kuyruktan çıkarılan veya kabul edilmeyen) görev sayısı.
+         */
+        public long getShedCount() {
+            return shed.sum();
+        }
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            if (!executor.isShutdown()) {
+                int priority = priorityOf(r);
+                Runnable victim = null;
+                int victimPriority = priority;
+                for (Runnable queued : executor.getQueue()) {
+                    int queuedPriority = priorityOf(queued);
+                    if (queuedPriority <= victimPriority && queuedPriority < priority) {
+                        victim = queued;
+                        victimPriority = queuedPriority;
+                    }
+                }
+                if (victim != null && executor.getQueue().remove(victim)) {
+                    shed.increment();
+                    shed(victim);
+                    if (executor.getQueue().offer(r)) {
+                        return;
+                    }
+                }
+            }
+            shed.increment();
+            shed(r);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Kapasitenin iki katı yükte red / yük atma politikalarının goodput'unu (son tarihinden önce biten istek/s)
+ * CallerRunsPolicy ile karşılaştıran simülasyon.
+ *
+ * 4 thread'lik havuzda her istek ortalama 10 ms bekleyerek I/O'ya bağlı bir işi taklit eder (kapasite ~400/s);
+ * istekler açık döngüyle 800/s hızında gelir ve her birinin geliş anından itibaren 100 ms son tarihi vardır.
+ * İsteklerin %20'si yüksek önceliklidir. Sınırlı FIFO kuyruklar son tarihe göre boyutlanmıştır (32 görev ≈ 80 ms
+ * bekleme); CoDel ve son tarih kuralları beklemeyi kendileri sınırladığı için 1000'lik kuyrukla denenir.
+ * Gecikme planlanan geliş anından ölçülür: göndericiyi durduran politikalar (CallerRuns, engelleyerek bekleme)
+ * sonraki isteklerin geç gönderilmesiyle de cezalandırılır.
+ * <pre>
+ * java -cp out LoadSheddingSimulation
+ * </pre>
+ */
+public class LoadSheddingSimulation {
+
+    private static final int THREADS = 4;
+    private static final int QUEUE_CAPACITY = 32;
+    private static final int SECONDS = 10;
+    private static final double ARRIVALS_PER_SECOND = 800;
+    private static final long MEAN_SERVICE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long DEADLINE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final double HIGH_PRIORITY_SHARE = 0.2;
+    private static final long MAX_OVERRUN_SECONDS = 10;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("Yük Atma Simülasyonu (" + THREADS + " thread, ortalama çalışma 10 ms, geliş " +
+                           (int) ARRIVALS_PER_SECOND + "/s, son tarih 100 ms, " + SECONDS + " sn)");
+        System.out.println("=================================================================");
+        System.out.println("politika                               goodput/s  yüksek öncelik   geç bitti   " +
+                           "reddedildi   atıldı   p99 (ms)");
+
+        simulate("CallerRunsPolicy, kuyruk " + QUEUE_CAPACITY, new LinkedBlockingQueue<>(QUEUE_CAPACITY),
+                 new ThreadPoolExecutor.CallerRunsPolicy());
+
+        SheddingBlockingQueue coDel = new SheddingBlockingQueue(1000);
+        coDel.setCoDel(5, 100, TimeUnit.MILLISECONDS);
+        simulate("CoDel 5/100 ms, kuyruk 1000", coDel, new ThreadPoolExecutor.AbortPolicy());
+
+        SheddingBlockingQueue deadline = new SheddingBlockingQueue(1000);
+        deadline.setDeadlineShedding(10, TimeUnit.MILLISECONDS); // Ortalama çalışma süresi kadar pay
+        simulate("Son tarih (10 ms pay), kuyruk 1000", deadline, new ThreadPoolExecutor.AbortPolicy());
+
+        simulate("Engelle en fazla 20 ms, kuyruk " + QUEUE_CAPACITY, new LinkedBlockingQueue<>(QUEUE_CAPACITY),
+                 new LoadShedding.BlockWithTimeoutPolicy(20, TimeUnit.MILLISECONDS));
+
+        simulate("Öncelikli atma, kuyruk " + QUEUE_CAPACITY, new LinkedBlockingQueue<>(QUEUE_CAPACITY),
+                 new LoadShedding.PriorityShedPolicy());
+
+        SheddingBlockingQueue combined = new SheddingBlockingQueue(QUEUE_CAPACITY);
+        combined.setCoDel(5, 100, TimeUnit.MILLISECONDS);
+        combined.setDeadlineShedding(10, TimeUnit.MILLISECONDS);
+        simulate("CoDel + son tarih + öncelik, kuyruk " + QUEUE_CAPACITY, combined,
+                 new LoadShedding.PriorityShedPolicy());
+    }
+
+    private static void simulate(String name, BlockingQueue<Runnable> queue, RejectedExecutionHandler handler)
+            throws InterruptedException {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 60L, TimeUnit.SECONDS, queue, handler);
+        executor.prestartAllCoreThreads();
+        LatencyHistogram latency = new LatencyHistogram(HIGHEST_TRACKABLE_MICROS, 5);
+        LongAdder onTime = new LongAdder();
+        LongAdder highPriorityOnTime = new LongAdder();
+        LongAdder late = new LongAdder();
+
+        Random random = new Random(42);
+        long origin = System.nanoTime();
+        long end = origin + TimeUnit.SECONDS.toNanos(SECONDS);
+        long overrun = end + TimeUnit.SECONDS.toNanos(MAX_OVERRUN_SECONDS);
+        long intended = origin;
+        long sent = 0;
+        long highPriority = 0;
+        long rejected = 0;
+        long unsent = 0;
+        while (true) {
+            intended += (long) (-Math.log(1 - random.nextDouble()) / ARRIVALS_PER_SECOND * 1e9);
+            if (intended >= end) {
+                break;
+            }
+            if (System.nanoTime() > overrun) {
+                unsent++; // Gönderici çok geride kaldı, kalan istekler gönderilmez
+                continue;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long service = (long) (-Math.log(1 - random.nextDouble()) * MEAN_SERVICE_NANOS);
+            boolean high = random.nextDouble() < HIGH_PRIORITY_SHARE;
+            long arrivedAt = intended;
+            long deadline = intended + DEADLINE_NANOS;
+            Runnable body = () -> {
+                LockSupport.parkNanos(service);
+                long finished = System.nanoTime();
+                latency.record((finished - arrivedAt) / 1000);
+                if (finished - deadline <= 0) {
+                    onTime.increment();
+                    if (high) {
+                        highPriorityOnTime.increment();
+                    }
+                } else {
+                    late.increment();
+                }
+            };
+            sent++;
+            if (high) {
+                highPriority++;
+            }
+            try {
+                executor.execute(new LoadShedding.Task(body, high ? 1 : 0, deadline));
+            } catch (RejectedExecutionException e) {
+                rejected++;
+            }
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        long completed = onTime.sum() + late.sum();
+        long shed = sent - rejected - completed; // Kuyruktan veya red politikasınca atılıp iptal edilenler
+        System.out.printf("%-38s %9.0f %9.0f/%-5d %9d %12d %8d %10.1f%n", name, onTime.sum() / (double) SECONDS,
+                          highPriorityOnTime.sum() / (double) SECONDS, highPriority / SECONDS, late.sum(), rejected,
+                          shed + unsent, latency.snapshot().getValueAtPercentile(99) / 1000.0);
+    }
+}
@@ -0,0 +1,398 @@
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Çok üreticili / çok tüketicili, dizi tabanlı, kilitsiz sınırlı kuyruk (Vyukov'un sıra numaralı kuyruğu).
+ *
+ * LinkedBlockingQueue her eleman için bir düğüm ayırır ve üreticiler ile tüketiciler iki kilitte yarışır.
+ * Burada:
+ * - Her yuvanın bir sıra numarası vardır; üretici yuvanın sırası kendi konumuna eşitse, tüketici konum + 1'e
+ *   eşitse yuvayı CAS ile sahiplenir. Kuyruk baş/son sayaçları dışında paylaşılan durum yoktur
+ * - Baş ve son sayaçları ayrı önbellek satırlarındadır (128 baytlık dolgu), üreticiler ve tüketiciler
+ *   birbirinin satırını geçersiz kılmaz
+ * - offer/poll eleman başına nesne ayırmaz; dizi oluşturulurken ayrılır
+ * - Bekleyen işlemler (put/take ve zaman aşımlı sürümler) önce kısa bir süre döner, sonra Thread.yield
+ *   yapar, en son bir Condition üzerinde park eder. Kilit yalnızca park eden thread varken alınır
+ *
+ * Kapasite 2'nin bir sonraki kuvvetine yuvarlanır. ThreadPoolExecutor'a doğrudan verilebilir
+ * (execute offer, worker'lar take / poll(zaman aşımı), shutdownNow drainTo, remove / purge remove(Object) ve
+ * iterator().remove() kullanır). Ortadan çıkarma, yuvadaki elemanı CAS ile bir mezar taşı (TOMBSTONE) nesnesiyle
+ * değiştirir; tüketiciler bu yuvaları atlar. Mezar taşları bir tüketici onları geçene kadar yer kaplar ve
+ * size() içinde sayılır.
+ */
+public class MpmcArrayBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final int SPIN_TRIES = 128;
+    private static final int YIELD_TRIES = 16;
+    private static final Object TOMBSTONE = new Object(); // Ortadan çıkarılmış elemanın yerini tutar
+
+    private static final AtomicLongFieldUpdater<TailIndex> TAIL =
+            AtomicLongFieldUpdater.newUpdater(TailIndex.class, "tail");
+    private static final AtomicLongFieldUpdater<HeadIndex> HEAD =
+            AtomicLongFieldUpdater.newUpdater(HeadIndex.class, "head");
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Object> buffer;
+    private final AtomicLongArray sequences;
+    private final Indices indices = new Indices();
+
+    // Yavaş yol: yalnızca park eden thread'ler varken kullanılır
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+
+    /**
+     * @param capacity En az bu kadar eleman (2'nin bir sonraki kuvvetine yuvarlanır)
+     */
+    public MpmcArrayBlockingQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Kapasite 1..2^30 arasında olmalı: " + capacity);
+        }
+        int rounded = 1;
+        while (rounded < capacity) {
+            rounded <<= 1;
+        }
+        this.capacity = rounded;
+        this.mask = this.capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.lazySet(i, i);
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        long position = indices.tail;
+        int index;
+        while (true) {
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (TAIL.compareAndSet(indices, position, position + 1)) {
+                    break;
+                }
+                position = indices.tail;
+            } else if (difference < 0) {
+                return false; // Yuvayı bir tur önceki tüketici henüz boşaltmadı: kuyruk dolu
+            } else {
+                position = indices.tail; // Başka bir üretici bu konumu aldı
+            }
+        }
+        buffer.lazySet(index, e);
+        // Volatile yazım: bekleyen tüketici sayısının okunmasından önce görünür olmalı (aşağıdaki signal kontrolü)
+        sequences.set(index, position + 1);
+        if (waitingConsumers.get() > 0) {
+            signal(notEmpty);
+        }
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        while (true) {
+            long position = indices.head;
+            int index;
+            while (true) {
+                index = (int) position & mask;
+                long difference = sequences.get(index) - (position + 1);
+                if (difference == 0) {
+                    if (HEAD.compareAndSet(indices, position, position + 1)) {
+                        break;
+                    }
+                    position = indices.head;
+                } else if (difference < 0) {
+                    return null; // Üretici bu yuvayı henüz yayımlamadı: kuyruk boş
+                } else {
+                    position = indices.head;
+                }
+            }
+            // Atomik takas: remove(Object) aynı elemanı CAS ile mezar taşına çevirmeye çalışıyorsa yalnızca biri kazanır
+            Object e = buffer.getAndSet(index, null);
+            sequences.set(index, position + capacity); // Yuva bir sonraki turun üreticisine açılır
+            if (waitingProducers.get() > 0) {
+                signal(notFull);
+            }
+            if (e != TOMBSTONE) {
+                return element(e);
+            }
+        }
+    }
+
+    /**
+     * Baştaki (çıkarılmamış) eleman; zayıf tutarlıdır.
+     */
+    @Override
+    public E peek() {
+        Iterator<E> iterator = iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        if (!offer(e, Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+            throw new IllegalStateException("Sınırsız bekleme sona erdi"); // Erişilemez
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        if (offer(e)) {
+            return true;
+        }
+        if (timeout <= 0) {
+            return false;
+        }
+        // Kalan süre awaitNanos'un dönüşüyle izlenir: nanoTime + timeout gibi mutlak bir son tarih, nanoTime
+        // negatifken taşabilir. Kısa dönme/yield aşaması (birkaç µs) süreden düşülmez
+        long nanos = unit.toNanos(timeout);
+        for (int tries = 0; tries < SPIN_TRIES + YIELD_TRIES; tries++) {
+            if (tries >= SPIN_TRIES) {
+                Thread.yield();
+            }
+            if (offer(e)) {
+                return true;
+            }
+        }
+        waitingProducers.incrementAndGet();
+        try {
+            lock.lockInterruptibly();
+            try {
+                while (!offer(e)) {
+                    if (nanos <= 0) {
+                        return false;
+                    }
+                    nanos = notFull.awaitNanos(nanos);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            waitingProducers.decrementAndGet();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        return poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E e = poll();
+        if (e != null || timeout <= 0) {
+            return e;
+        }
+        // Kalan süre awaitNanos'un dönüşüyle izlenir: nanoTime + timeout gibi mutlak bir son tarih, nanoTime
+        // negatifken taşabilir. Kısa dönme/yield aşaması (birkaç µs) süreden düşülmez
+        long nanos = unit.toNanos(timeout);
+        for (int tries = 0; tries < SPIN_TRIES + YIELD_TRIES; tries++) {
+            if (tries >= SPIN_TRIES) {
+                Thread.yield();
+            }
+            if ((e = poll()) != null) {
+                return e;
+            }
+        }
+        waitingConsumers.incrementAndGet();
+        try {
+            lock.lockInterruptibly();
+            try {
+                // Sayaç artırıldıktan sonra tekrar bakılır: arada yayımlanan eleman ya burada görülür ya da
+                // üretici artırılmış sayacı görüp kilidi alarak sinyal verir (kayıp uyandırma olmaz)
+                while ((e = poll()) == null) {
+                    if (nanos <= 0) {
+                        return null;
+                    }
+                    nanos = notEmpty.awaitNanos(nanos);
+                }
+                return e;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            waitingConsumers.decrementAndGet();
+        }
+    }
+
+    @Override
+    public int size() {
+        // head önce okunur: tail - head negatif olamaz, ancak eşzamanlı işlemlerle kapasiteyi aşabilir
+        long head = indices.head;
+        long tail = indices.tail;
+        return (int) Math.max(0, Math.min(capacity, tail - head));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return indices.tail == indices.head;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    /**
+     * o'ya eşit ilk yayımlanmış elemanı mezar taşıyla değiştirir. Eşzamanlı bir tüketici elemanı önce aldıysa
+     * sıradaki eşit eleman aranır.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        long tail = indices.tail;
+        for (long position = indices.head; position < tail; position++) {
+            int index = (int) position & mask;
+            Object e = buffer.get(index);
+            if (e != null && e != TOMBSTONE && o.equals(e) && sequences.get(index) == position + 1
+                    && buffer.compareAndSet(index, e, TOMBSTONE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int drained = 0;
+        E e;
+        while (drained < maxElements && (e = poll()) != null) {
+            c.add(e);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Zayıf tutarlı bir yineleyici: oluşturulduğu andaki [baş, son) aralığında hâlâ duran elemanları döndürür.
+     * remove() elemanı, hâlâ aynı yuvadaysa mezar taşıyla değiştirir (ThreadPoolExecutor.purge için).
+     */
+    @Override
+    public Iterator<E> iterator() {
+        long head = indices.head;
+        long tail = indices.tail;
+        return new Iterator<E>() {
+            private long position = head;
+            private int nextIndex;
+            private long nextPosition;
+            private E next = advance();
+            private E last;
+            private int lastIndex;
+            private long lastPosition;
+
+            private E advance() {
+                while (position < tail) {
+                    int index = (int) position & mask;
+                    long expected = ++position;
+                    if (sequences.get(index) != expected) {
+                        continue; // Henüz yayımlanmadı veya çoktan alındı
+                    }
+                    Object e = buffer.get(index);
+                    if (e != null && e != TOMBSTONE && sequences.get(index) == expected) {
+                        nextIndex = index;
+                        nextPosition = expected - 1;
+                        return element(e);
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                E e = next;
+                last = e;
+                lastIndex = nextIndex;
+                lastPosition = nextPosition;
+                next = advance();
+                return e;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                // Eleman bu arada alındıysa yuva başka bir turda olabilir; sıra numarası kontrol edilir
+                if (sequences.get(lastIndex) == lastPosition + 1) {
+                    buffer.compareAndSet(lastIndex, last, TOMBSTONE);
+                }
+                last = null;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E element(Object e) {
+        return (E) e;
+    }
+
+    private void signal(Condition condition) {
+        lock.lock();
+        try {
+            condition.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Baş ve son sayaçlarını kendi önbellek satırlarına yerleştiren dolgu. JVM alanları sınıf içinde
+    // yeniden sıralayabilir ancak üst sınıfın alanları her zaman alt sınıfınkilerden önce gelir.
+    static class LeftPad {
+        long p00, p01, p02, p03, p04, p05, p06, p07, p08, p09, p10, p11, p12, p13, p14, p15;
+    }
+
+    static class TailIndex extends LeftPad {
+        volatile long tail;
+    }
+
+    static class MiddlePad extends TailIndex {
+        long p16, p17, p18, p19, p20, p21, p22, p23, p24, p25, p26, p27, p28, p29, p30, p31;
+    }
+
+    static class HeadIndex extends MiddlePad {
+        volatile long head;
+    }
+
+    static final class Indices extends HeadIndex {
+        long p32, p33, p34, p35, p36, p37, p38, p39, p40, p41, p42, p43, p44, p45, p46, p47;
+    }
+}
@@ -0,0 +1,126 @@
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * ThreadPoolExecutorExample'daki sabit havuzu (çekirdek 2, maksimum 4, 10'luk kuyruk, CallerRunsPolicy)
+ * AdaptiveThreadPoolExecutor ile basamak ve sinüs yük profillerinde karşılaştıran simülasyon.
+ *
+ * Görevler açık döngüyle (Poisson gelişleri) gönderilir ve ortalama 10 ms bekleyerek I/O'ya bağlı bir işi
+ * taklit eder. Gecikme, görevin planlanan geliş anından bitişine kadar ölçülür: CallerRunsPolicy göndericiyi
+ * durdurduğunda geç gönderilen görevlerin beklemesi de gecikmeye dahildir (coordinated omission düzeltmesi).
+ * Her 2 saniyelik dilim için geliş hızı, ortalama thread sayısı, en uzun kuyruk ve p99 gecikme yazdırılır.
+ * <pre>
+ * java -cp out PoolSizingSimulation
+ * </pre>
+ */
+public class PoolSizingSimulation {
+
+    private static final int SECONDS = 20;
+    private static final int SLICE_SECONDS = 2;
+    private static final long MEAN_SERVICE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long MAX_OVERRUN_SECONDS = 30; // Geride kalan gönderici en fazla bu kadar daha çalışır
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("Havuz Boyutlandırma Simülasyonu (" + SECONDS + " sn, ortalama çalışma 10 ms)");
+        System.out.println("=================================================================");
+
+        DoubleUnaryOperator step = t -> t >= 5 && t < 9 ? 1200 : 100;
+        DoubleUnaryOperator sine = t -> 600 + 500 * Math.sin(2 * Math.PI * t / 10);
+
+        run("Basamak (100 → 1200 → 100 görev/s)", step);
+        run("Sinüs (600 ± 500 görev/s, 10 sn periyot)", sine);
+    }
+
+    private static void run(String profile, DoubleUnaryOperator rate) throws InterruptedException {
+        System.out.println("\n" + profile + ":");
+
+        ThreadPoolExecutor fixed = new ThreadPoolExecutor(2, 4, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(10), new ThreadPoolExecutor.CallerRunsPolicy());
+        simulate("Sabit 2/4, kuyruk 10, CallerRuns", fixed, rate);
+
+        AdaptiveThreadPoolExecutor adaptive = new AdaptiveThreadPoolExecutor(2, 64, new LinkedBlockingQueue<>(10_000),
+                Executors.defaultThreadFactory(), new ThreadPoolExecutor.CallerRunsPolicy(), 250, TimeUnit.MILLISECONDS);
+        simulate("Uyarlanabilir 2..64, kuyruk 10.000", adaptive, rate);
+        System.out.println("    son karar: " + adaptive.getLastDecision());
+    }
+
+    private static void simulate(String name, ThreadPoolExecutor executor, DoubleUnaryOperator rate)
+            throws InterruptedException {
+        int slices = SECONDS / SLICE_SECONDS;
+        LatencyHistogram overall = new LatencyHistogram(HIGHEST_TRACKABLE_MICROS, 5);
+        LatencyHistogram[] latency = new LatencyHistogram[slices];
+        for (int i = 0; i < slices; i++) {
+            latency[i] = new LatencyHistogram(HIGHEST_TRACKABLE_MICROS, 5);
+        }
+        // 100 ms'de bir havuz boyutu ve kuyruk örneklenir
+        AtomicIntegerArray threadSum = new AtomicIntegerArray(slices);
+        AtomicIntegerArray samples = new AtomicIntegerArray(slices);
+        AtomicIntegerArray maxQueue = new AtomicIntegerArray(slices);
+        long origin = System.nanoTime();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            int slice = (int) ((System.nanoTime() - origin) / TimeUnit.SECONDS.toNanos(SLICE_SECONDS));
+            if (slice < slices) {
+                threadSum.addAndGet(slice, executor.getPoolSize());
+                samples.incrementAndGet(slice);
+                maxQueue.accumulateAndGet(slice, executor.getQueue().size(), Math::max);
+            }
+        }, 0, 100, TimeUnit.MILLISECONDS);
+
+        Random random = new Random(42);
+        long end = origin + TimeUnit.SECONDS.toNanos(SECONDS);
+        long deadline = end + TimeUnit.SECONDS.toNanos(MAX_OVERRUN_SECONDS);
+        long intended = origin;
+        int[] arrivals = new int[slices];
+        long unsent = 0;
+        while (true) {
+            double seconds = (intended - origin) / 1e9;
+            intended += (long) (-Math.log(1 - random.nextDouble()) / rate.applyAsDouble(seconds) * 1e9);
+            if (intended >= end) {
+                break;
+            }
+            if (System.nanoTime() > deadline) {
+                unsent++; // Gönderici çok geride kaldı, kalan gelişler sayılır ama gönderilmez
+                continue;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int slice = (int) ((intended - origin) / TimeUnit.SECONDS.toNanos(SLICE_SECONDS));
+            long service = (long) (-Math.log(1 - random.nextDouble()) * MEAN_SERVICE_NANOS);
+            long scheduledAt = intended;
+            arrivals[slice]++;
+            executor.execute(() -> {
+                LockSupport.parkNanos(service);
+                long micros = (System.nanoTime() - scheduledAt) / 1000;
+                latency[slice].record(micros);
+                overall.record(micros);
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(2, TimeUnit.MINUTES);
+        sampler.shutdownNow();
+
+        System.out.println("  " + name + ":");
+        System.out.println("    dilim    geliş/s   thread(ort)   en uzun kuyruk   p99 (ms)");
+        for (int i = 0; i < slices; i++) {
+            System.out.printf("    %2d-%2d sn %7d %12.1f %16d %10.1f%n", i * SLICE_SECONDS, (i + 1) * SLICE_SECONDS,
+                              arrivals[i] / SLICE_SECONDS, (double) threadSum.get(i) / Math.max(1, samples.get(i)),
+                              maxQueue.get(i), latency[i].snapshot().getValueAtPercentile(99) / 1000.0);
+        }
+        LatencyHistogram.Snapshot total = overall.snapshot();
+        System.out.printf("    toplam: p50=%.1f ms, p99=%.1f ms, en yüksek=%.1f ms, en çok thread=%d, gönderilemeyen=%d%n",
+                          total.getValueAtPercentile(50) / 1000.0, total.getValueAtPercentile(99) / 1000.0,
+                          total.getMax() / 1000.0, executor.getLargestPoolSize(), unsent);
+    }
+}
@@ -0,0 +1,187 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * LinkedBlockingQueue, ArrayBlockingQueue ve MpmcArrayBlockingQueue'yu 1-64 üretici ile karşılaştırır:
+ * 1. Doğrudan aktarım: üreticiler put, 4 tüketici take ile toplam N eleman aktarır
+ * 2. Executor: üreticiler 4 thread'li bir ThreadPoolExecutor'a N küçük görev gönderir (kuyruk doluysa
+ *    CallerRunsPolicy)
+ *
+ * Her ölçüm için en iyi süreden milyon işlem/s ve eleman başına ayrılan bellek (tüm thread'lerde) yazdırılır.
+ * Aynı Runnable nesnesi tekrar tekrar gönderilir; ayrılan bellek kuyruğun kendisinden gelir.
+ * <pre>
+ * java -cp out QueueBenchmark 2000000 1,2,4,8,16,32,64
+ * </pre>
+ * Argümanlar: işlem sayısı, üretici sayıları.
+ */
+public class QueueBenchmark {
+
+    private static final int REPS = 3;
+    private static final int CONSUMERS = 4;
+    private static final int HANDOFF_CAPACITY = 1024;
+    private static final int EXECUTOR_CAPACITY = 1 << 16;
+    private static final Long ITEM = 42L;
+
+    public static void main(String[] args) throws InterruptedException {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        String producerList = args.length > 1 ? args[1] : "1,2,4,8,16,32,64";
+
+        System.out.println("Kuyruk Benchmark'ı (" + operations + " işlem, " + CONSUMERS + " tüketici, işlemci: " +
+                           Runtime.getRuntime().availableProcessors() + ")");
+        System.out.println("=================================================================");
+
+        String[] names = {"LinkedBlockingQueue", "ArrayBlockingQueue", "MpmcArrayBlockingQueue"};
+        List<IntFunction<BlockingQueue<Object>>> queues = new ArrayList<>();
+        queues.add(LinkedBlockingQueue::new);
+        queues.add(ArrayBlockingQueue::new);
+        queues.add(MpmcArrayBlockingQueue::new);
+
+        System.out.println("\n1. Doğrudan aktarım (kapasite " + HANDOFF_CAPACITY + "):");
+        for (String producers : producerList.split(",")) {
+            for (int q = 0; q < names.length; q++) {
+                int p = Integer.parseInt(producers);
+                IntFunction<BlockingQueue<Object>> factory = queues.get(q);
+                report(names[q], p, operations, () -> handoff(factory.apply(HANDOFF_CAPACITY), p, operations));
+            }
+        }
+
+        System.out.println("\n2. ThreadPoolExecutor (" + CONSUMERS + " thread, kapasite " + EXECUTOR_CAPACITY + "):");
+        for (String producers : producerList.split(",")) {
+            for (int q = 0; q < names.length; q++) {
+                int p = Integer.parseInt(producers);
+                IntFunction<BlockingQueue<Object>> factory = queues.get(q);
+                report(names[q], p, operations, () -> executor(factory.apply(EXECUTOR_CAPACITY), p, operations));
+            }
+        }
+    }
+
+    private static void report(String name, int producers, int operations, Run run) throws InterruptedException {
+        long best = Long.MAX_VALUE;
+        long bestBytes = Long.MAX_VALUE;
+        for (int rep = 0; rep < REPS; rep++) {
+            long[] result = run.run();
+            best = Math.min(best, result[0]);
+            bestBytes = Math.min(bestBytes, result[1]);
+        }
+        System.out.printf("  %2d üretici  %-24s %8.2f M işlem/s %8.1f bayt/işlem%n", producers, name,
+                          operations * 1e3 / best, (double) bestBytes / operations);
+    }
+
+    // Süre (ns) ve tüm thread'lerde ayrılan bellek
+    private static long[] handoff(BlockingQueue<Object> queue, int producers, int operations)
+            throws InterruptedException {
+        LongAdder allocated = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int share = share(operations, producers, p);
+            threads.add(measured(allocated, start, () -> {
+                for (int i = 0; i < share; i++) {
+                    queue.put(ITEM);
+                }
+            }));
+        }
+        for (int c = 0; c < CONSUMERS; c++) {
+            int share = share(operations, CONSUMERS, c);
+            threads.add(measured(allocated, start, () -> {
+                for (int i = 0; i < share; i++) {
+                    queue.take();
+                }
+            }));
+        }
+        long started = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return new long[] {System.nanoTime() - started, allocated.sum()};
+    }
+
+    private static long[] executor(BlockingQueue<Object> queue, int producers, int operations)
+            throws InterruptedException {
+        @SuppressWarnings("unchecked")
+        BlockingQueue<Runnable> workQueue = (BlockingQueue<Runnable>) (BlockingQueue<?>) queue;
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(CONSUMERS, CONSUMERS, 60, TimeUnit.SECONDS,
+                workQueue, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.prestartAllCoreThreads();
+        LongAdder done = new LongAdder();
+        Runnable task = done::increment;
+        LongAdder allocated = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int share = share(operations, producers, p);
+            threads.add(measured(allocated, start, () -> {
+                for (int i = 0; i < share; i++) {
+                    executor.execute(task);
+                }
+            }));
+        }
+        long workersBefore = allThreadsAllocated();
+        long started = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        while (done.sum() < operations) {
+            Thread.yield();
+        }
+        long elapsed = System.nanoTime() - started;
+        // Worker'ların sayacı yalnızca yaşarken okunabilir: havuz ölçümden sonra kapatılır
+        long workerBytes = allThreadsAllocated() - workersBefore;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        return new long[] {elapsed, allocated.sum() + Math.max(0, workerBytes)};
+    }
+
+    private static Thread measured(LongAdder allocated, CountDownLatch start, Body body) {
+        Thread thread = new Thread(() -> {
+            try {
+                start.await();
+                long before = threadAllocated();
+                body.run();
+                allocated.add(threadAllocated() - before);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static int share(int total, int parts, int part) {
+        return total / parts + (part < total % parts ? 1 : 0);
+    }
+
+    private static long threadAllocated() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    // Tüm canlı thread'lerin o ana kadar ayırdığı toplam bellek (HotSpot'a özgü sayaç)
+    private static long allThreadsAllocated() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            total += Math.max(0, bytes);
+        }
+        return total;
+    }
+
+    private interface Run {
+        long[] run() throws InterruptedException;
+    }
+
+    private interface Body {
+        void run() throws InterruptedException;
+    }
+}
@@ -0,0 +1,209 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * newFixedThreadPool, ForkJoinPool (asyncMode) ve ShardedExecutorService'i küçük görevlerle karşılaştırır:
+ * 1. Dış gönderim: 1-16 üretici thread havuza toplam N boş görev gönderir
+ * 2. İçeriden yayılma: her görev iki alt görev gönderir (derinlik log2 N'lik ikili ağaç); görevler worker'ların
+ *    kendi kuyruklarına girer ve boşta kalanlar çalar
+ * 3. Yakınlık anahtarları (yalnızca ShardedExecutorService): her üretici kendi 16 anahtarına sıra numaralı görev
+ *    gönderir; her anahtarın görevlerinin sırayla çalıştığı doğrulanır
+ *
+ * Her ölçüm için en iyi süreden milyon görev/s ve görev başına ayrılan bellek (tüm thread'lerde) yazdırılır.
+ * <pre>
+ * java -cp out ShardedExecutorBenchmark 2000000 8 1,4,16
+ * </pre>
+ * Argümanlar: görev sayısı, havuz thread sayısı, üretici sayıları.
+ */
+public class ShardedExecutorBenchmark {
+
+    private static final int REPS = 3;
+    private static final int KEYS_PER_PRODUCER = 16;
+
+    private static long sink;
+
+    public static void main(String[] args) throws InterruptedException {
+        int tasks = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Math.max(2, Runtime.getRuntime().availableProcessors());
+        String producerList = args.length > 2 ? args[2] : "1,4,16";
+
+        System.out.println("Parçalı Executor Benchmark'ı (" + tasks + " görev, " + threads + " thread, işlemci: " +
+                           Runtime.getRuntime().availableProcessors() + ")");
+        System.out.println("=================================================================");
+
+        String[] names = {"newFixedThreadPool", "ForkJoinPool (asyncMode)", "ShardedExecutorService"};
+        List<IntFunction<ExecutorService>> pools = new ArrayList<>();
+        pools.add(Executors::newFixedThreadPool);
+        pools.add(n -> new ForkJoinPool(n, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true));
+        pools.add(ShardedExecutorService::new);
+
+        System.out.println("\n1. Dış gönderim:");
+        for (String producers : producerList.split(",")) {
+            int p = Integer.parseInt(producers);
+            for (int i = 0; i < names.length; i++) {
+                IntFunction<ExecutorService> factory = pools.get(i);
+                report(String.format("%2d üretici  %s", p, names[i]), tasks,
+                       () -> external(factory.apply(threads), p, tasks));
+            }
+        }
+
+        int depth = 31 - Integer.numberOfLeadingZeros(tasks); // 2^(depth+1) - 1 görev
+        int treeTasks = (1 << (depth + 1)) - 1;
+        System.out.println("\n2. İçeriden yayılma (" + treeTasks + " görev):");
+        for (int i = 0; i < names.length; i++) {
+            IntFunction<ExecutorService> factory = pools.get(i);
+            report(names[i], treeTasks, () -> fanOut(factory.apply(threads), depth, treeTasks));
+        }
+
+        System.out.println("\n3. Yakınlık anahtarları (ShardedExecutorService):");
+        for (String producers : producerList.split(",")) {
+            int p = Integer.parseInt(producers);
+            report(String.format("%2d üretici, %d anahtar", p, p * KEYS_PER_PRODUCER), tasks,
+                   () -> keyed(new ShardedExecutorService(threads), p, tasks));
+        }
+        System.out.println("(sıra ihlali toplamı: " + sink + ")");
+    }
+
+    private static void report(String name, int tasks, Run run) throws InterruptedException {
+        long best = Long.MAX_VALUE;
+        long bestBytes = Long.MAX_VALUE;
+        for (int rep = 0; rep < REPS; rep++) {
+            long[] result = run.run();
+            best = Math.min(best, result[0]);
+            bestBytes = Math.min(bestBytes, result[1]);
+        }
+        System.out.printf("  %-40s %8.2f M görev/s %8.1f bayt/görev%n", name, tasks * 1e3 / best,
+                          (double) bestBytes / tasks);
+    }
+
+    // Süre (ns) ve tüm thread'lerde ayrılan bellek
+    private static long[] external(ExecutorService executor, int producers, int tasks) throws InterruptedException {
+        LongAdder done = new LongAdder();
+        Runnable task = done::increment;
+        return measure(executor, done, tasks, producers, (producer, share) -> {
+            for (int i = 0; i < share; i++) {
+                executor.execute(task);
+            }
+        });
+    }
+
+    private static long[] fanOut(ExecutorService executor, int depth, int tasks) throws InterruptedException {
+        LongAdder done = new LongAdder();
+        return measure(executor, done, tasks, 1, (producer, share) -> executor.execute(new Node(executor, done, depth)));
+    }
+
+    private static long[] keyed(ShardedExecutorService executor, int producers, int tasks) throws InterruptedException {
+        LongAdder done = new LongAdder();
+        LongAdder violations = new LongAdder();
+        long[][] lastSeen = new long[producers][KEYS_PER_PRODUCER];
+        long[] result = measure(executor, done, tasks, producers, (producer, share) -> {
+            long[] seen = lastSeen[producer];
+            for (int i = 0; i < share; i++) {
+                int key = i % KEYS_PER_PRODUCER;
+                long sequence = i / KEYS_PER_PRODUCER + 1;
+                // Anahtar nesnesi: üretici ve anahtar numarasından bir Integer (önbellekteki küçük değerler)
+                executor.execute(producer * KEYS_PER_PRODUCER + key, () -> {
+                    if (seen[key] + 1 != sequence) {
+                        violations.increment();
+                    }
+                    seen[key] = sequence; // Aynı anahtarın görevleri aynı worker'da sırayla çalışır
+                    done.increment();
+                });
+            }
+        });
+        sink += violations.sum();
+        return result;
+    }
+
+    private static long[] measure(ExecutorService executor, LongAdder done, int tasks, int producers, Body body)
+            throws InterruptedException {
+        LongAdder allocated = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            int share = tasks / producers + (p < tasks % producers ? 1 : 0);
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long before = threadAllocated();
+                body.run(producer, share);
+                allocated.add(threadAllocated() - before);
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        long workersBefore = allThreadsAllocated();
+        long started = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        while (done.sum() < tasks) {
+            Thread.yield();
+        }
+        long elapsed = System.nanoTime() - started;
+        // Worker'ların sayacı yalnızca yaşarken okunabilir: havuz ölçümden sonra kapatılır
+        long workerBytes = allThreadsAllocated() - workersBefore;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        return new long[] {elapsed, allocated.sum() + Math.max(0, workerBytes)};
+    }
+
+    private static long threadAllocated() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    // Tüm canlı thread'lerin o ana kadar ayırdığı toplam bellek (HotSpot'a özgü sayaç)
+    private static long allThreadsAllocated() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            total += Math.max(0, bytes);
+        }
+        return total;
+    }
+
+    // İkili ağaç düğümü: iki alt düğümü aynı havuza gönderir
+    private static final class Node implements Runnable {
+        private final ExecutorService executor;
+        private final LongAdder done;
+        private final int depth;
+
+        Node(ExecutorService executor, LongAdder done, int depth) {
+            this.executor = executor;
+            this.done = done;
+            this.depth = depth;
+        }
+
+        @Override
+        public void run() {
+            if (depth > 0) {
+                executor.execute(new Node(executor, done, depth - 1));
+                executor.execute(new Node(executor, done, depth - 1));
+            }
+            done.increment();
+        }
+    }
+
+    private interface Run {
+        long[] run() throws InterruptedException;
+    }
+
+    private interface Body {
+        void run(int producer, int share);
+    }
+}
@@ -0,0 +1,358 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Her worker'ın kendi kuyruğu olan, boşta kalan worker'ların rastgele seçtiği kurbanlardan iş çaldığı ExecutorService.
+ *
+ * newFixedThreadPool tüm görevleri tek bir LinkedBlockingQueue'dan geçirir: çok çekirdekte saniyede milyonlarca
+ * küçük görevde kuyruğun baş/son kilitleri ve önbellek satırları çekirdekler arasında gidip gelir. Burada:
+ * - Dışarıdan gönderilen görev rastgele bir worker'ın kuyruğuna (MpmcArrayBlockingQueue), bir worker'ın çalıştırdığı
+ *   görevden gönderilen görev o worker'ın kendi kuyruğuna girer; kuyruk doluysa rastgele bir başkası denenir,
+ *   o da doluysa görev paylaşılan bir taşma kuyruğuna girer
+ * - Worker önce kendi kuyruğuna, sonra taşma kuyruğuna bakar; ikisi de boşsa rastgele bir worker'dan başlayarak
+ *   diğerlerinin kuyruklarından bir görev çalar. Hiçbir şey bulamazsa kısa bir süre yield edip park eder
+ * - Gönderici yalnızca hedef worker park etmişse (veya boşta worker varsa) unpark çağırır
+ *
+ * Yakınlık anahtarı (execute(key, task) / submit(key, task)): aynı anahtarın görevleri her zaman aynı worker'ın
+ * yalnızca kendisinin okuduğu ayrı kuyruğuna girer. Böylece çalınmazlar, gönderildikleri sırayla ve birbirleriyle
+ * eşzamanlı olmadan çalışırlar ve anahtara ait veriler o worker'ın önbelleğinde kalır. Anahtarsız görevler FIFO
+ * sırasını yalnızca kabaca korur (ForkJoinPool asyncMode gibi).
+ *
+ * Görevden kaçan istisnalar worker thread'inin UncaughtExceptionHandler'ına verilir, worker çalışmaya devam eder.
+ * shutdown sonrasında gönderilen görevler reddedilir; daha önce kabul edilenler çalıştırılır. Kapatma ile yarışan
+ * gönderimde, ThreadPoolExecutor'daki gibi, görev kuyruğa girdikten sonra durum yeniden denetlenir: executor
+ * kapatıldıysa ve görev kuyruktan geri alınabildiyse reddedilir, alınamadıysa bir worker onu zaten çalıştırıyordur.
+ * <pre>
+ * ExecutorService executor = new ShardedExecutorService(8);
+ * executor.execute(() -> work());                // Anahtarsız: çalınabilir
+ * executor.execute(accountId, () -> apply(tx));  // Aynı hesabın işlemleri sırayla
+ * </pre>
+ */
+public class ShardedExecutorService extends AbstractExecutorService {
+
+    private static final int RUNNING = 0;
+    private static final int SHUTDOWN = 1;
+    private static final int STOP = 2;
+    private static final int LOCAL_CAPACITY = 1024;
+    private static final int IDLE_YIELDS = 16;
+
+    private final Worker[] workers;
+    private final Queue<Runnable> overflow = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final AtomicInteger liveWorkers;
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+    private final CountDownLatch termination = new CountDownLatch(1);
+    private volatile int state = RUNNING;
+
+    public ShardedExecutorService(int threads) {
+        this(threads, Executors.defaultThreadFactory());
+    }
+
+    public ShardedExecutorService(int threads, ThreadFactory threadFactory) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread sayısı pozitif olmalı: " + threads);
+        }
+        this.workers = new Worker[threads];
+        this.liveWorkers = new AtomicInteger(threads);
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker();
+        }
+        for (Worker worker : workers) {
+            worker.thread = threadFactory.newThread(worker);
+        }
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        checkRunning(command);
+        Worker current = currentWorker.get();
+        Worker target = current != null ? current : workers[ThreadLocalRandom.current().nextInt(workers.length)];
+        Queue<Runnable> queue = target.local;
+        if (!queue.offer(command)) {
+            // Dolu kuyruk: rastgele bir başka worker'a, o da doluysa paylaşılan taşma kuyruğuna
+            Worker other = workers[ThreadLocalRandom.current().nextInt(workers.length)];
+            if (other.local.offer(command)) {
+                target = other;
+                queue = other.local;
+            } else {
+                queue = overflow;
+                queue.add(command);
+            }
+        }
+        if (current == null) {
+            signal(target);
+        } else if (idleWorkers.get() > 0) {
+            signalIdle(); // Kendi kuyruğuna ekleyen worker meşgul: boşta olan biri çalsın
+        }
+        recheck(queue, command);
+    }
+
+    /**
+     * Görevi anahtarın worker'ında çalıştırır. Aynı anahtarla gönderilen görevler gönderilme sırasıyla ve
+     * birbiri ardına çalışır; başka worker'lar bunları çalmaz.
+     */
+    public void execute(Object key, Runnable command) {
+        if (key == null || command == null) {
+            throw new NullPointerException();
+        }
+        checkRunning(command);
+        Worker target = workerFor(key);
+        target.pinned.add(command);
+        signal(target);
+        recheck(target.pinned, command);
+    }
+
+    public <T> Future<T> submit(Object key, Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        execute(key, future);
+        return future;
+    }
+
+    public Future<?> submit(Object key, Runnable task) {
+        FutureTask<Void> future = new FutureTask<>(task, null);
+        execute(key, future);
+        return future;
+    }
+
+    /**
+     * Başka worker'ların kuyruklarından çalınan toplam görev sayısı (yaklaşık).
+     */
+    public long getStealCount() {
+        long total = 0;
+        for (Worker worker : workers) {
+            total += worker.steals;
+        }
+        return total;
+    }
+
+    @Override
+    public void shutdown() {
+        if (state == RUNNING) {
+            state = SHUTDOWN;
+        }
+        wakeAll();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        state = STOP;
+        List<Runnable> pending = new ArrayList<>();
+        drainAll(pending);
+        for (Worker worker : workers) {
+            worker.thread.interrupt();
+        }
+        wakeAll();
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return state != RUNNING;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return termination.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return termination.await(timeout, unit);
+    }
+
+    private void checkRunning(Runnable command) {
+        if (state != RUNNING) {
+            throw new RejectedExecutionException("Executor kapatıldı: " + command);
+        }
+    }
+
+    // Kapatma ile yarışan gönderim: görev kuyruğa girdikten sonra executor kapatıldıysa geri alınıp reddedilir.
+    // Durum hâlâ RUNNING okunduysa görev kapatmadan önce kuyruktaydı ve son worker'ın toplamasında görülür;
+    // geri alınamadıysa bir worker (veya toplama) onu almıştır. Görev gönderen thread'de çalıştırılmaz: anahtarlı
+    // görevler kendi worker'ında sırayla çalışmalıdır
+    private void recheck(Queue<Runnable> queue, Runnable command) {
+        if (state != RUNNING && queue.remove(command)) {
+            throw new RejectedExecutionException("Executor kapatıldı: " + command);
+        }
+    }
+
+    private Worker workerFor(Object key) {
+        int h = key.hashCode();
+        h ^= h >>> 16; // Düşük bitleri zayıf hash'ler (ör. ardışık sayılar) için de dağıt
+        return workers[Math.floorMod(h * 0x9E3779B9, workers.length)];
+    }
+
+    private void signal(Worker target) {
+        if (target.parked) {
+            target.parked = false;
+            LockSupport.unpark(target.thread);
+        } else if (idleWorkers.get() > 0) {
+            signalIdle();
+        }
+    }
+
+    private void signalIdle() {
+        int start = ThreadLocalRandom.current().nextInt(workers.length);
+        for (int i = 0; i < workers.length; i++) {
+            Worker worker = workers[(start + i) % workers.length];
+            if (worker.parked) {
+                worker.parked = false;
+                LockSupport.unpark(worker.thread);
+                return;
+            }
+        }
+    }
+
+    private void wakeAll() {
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker.thread);
+        }
+    }
+
+    private void drainAll(List<Runnable> sink) {
+        Runnable task;
+        for (Worker worker : workers) {
+            while ((task = worker.pinned.poll()) != null) {
+                sink.add(task);
+            }
+            worker.local.drainTo(sink);
+        }
+        while ((task = overflow.poll()) != null) {
+            sink.add(task);
+        }
+    }
+
+    // Worker'ın işlemci / önbellek satırı paylaşımını azaltmak için kuyruklar worker başınadır
+    private final class Worker implements Runnable {
+        final MpmcArrayBlockingQueue<Runnable> local = new MpmcArrayBlockingQueue<>(LOCAL_CAPACITY);
+        final Queue<Runnable> pinned = new ConcurrentLinkedQueue<>(); // Yalnızca bu worker okur
+        volatile Thread thread;
+        volatile boolean parked;
+        volatile long steals; // Yalnızca bu worker yazar
+        private boolean pinnedFirst;
+
+        @Override
+        public void run() {
+            currentWorker.set(this);
+            try {
+                while (state < STOP) {
+                    Runnable task = next();
+                    if (task == null) {
+                        task = idle();
+                    }
+                    if (task != null) {
+                        runTask(task);
+                    } else if (state != RUNNING) {
+                        break; // Kapatılıyor ve erişilebilir görev kalmadı
+                    }
+                }
+            } finally {
+                exit();
+            }
+        }
+
+        // Sabitlenmiş ve yerel kuyruk sırayla önceliklidir, böylece biri diğerini aç bırakmaz
+        private Runnable next() {
+            pinnedFirst = !pinnedFirst;
+            Runnable task = pinnedFirst ? pinned.poll() : local.poll();
+            if (task == null) {
+                task = pinnedFirst ? local.poll() : pinned.poll();
+            }
+            if (task == null) {
+                task = overflow.poll();
+            }
+            return task != null ? task : steal();
+        }
+
+        private Runnable steal() {
+            if (workers.length == 1) {
+                return null;
+            }
+            int start = ThreadLocalRandom.current().nextInt(workers.length);
+            for (int i = 0; i < workers.length; i++) {
+                Worker victim = workers[(start + i) % workers.length];
+                if (victim != this) {
+                    Runnable task = victim.local.poll();
+                    if (task != null) {
+                        steals++;
+                        return task;
+                    }
+                }
+            }
+            return null;
+        }
+
+        // Kısa yield denemelerinden sonra park eder. parked bayrağı yeniden taramadan önce yazılır: gönderici ya
+        // bu taramada görülen bir görev ekler ya da bayrağı görüp unpark eder (kayıp uyandırma olmaz)
+        private Runnable idle() {
+            for (int i = 0; i < IDLE_YIELDS; i++) {
+                Thread.yield();
+                Runnable task = next();
+                if (task != null) {
+                    return task;
+                }
+            }
+            parked = true;
+            idleWorkers.incrementAndGet();
+            try {
+                Runnable task = next();
+                if (task == null && state == RUNNING) {
+                    LockSupport.park(this);
+                    task = next();
+                }
+                return task;
+            } finally {
+                parked = false;
+                idleWorkers.decrementAndGet();
+            }
+        }
+
+        private void runTask(Runnable task) {
+            Thread.interrupted(); // Önceki görevin kesme isteği sonrakine sızmasın
+            try {
+                task.run();
+            } catch (Throwable t) {
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+            }
+        }
+
+        private void exit() {
+            if (liveWorkers.decrementAndGet() != 0) {
+                return;
+            }
+            // Son worker: çıkan worker'ların sabitlenmiş kuyrukları dahil her yerde kalanları çalıştırır. Durum
+            // RUNNING iken kuyruğa giren her görev burada görülür, sonrakileri gönderen recheck ile geri alır
+            if (state < STOP) {
+                List<Runnable> remaining = new ArrayList<>();
+                do {
+                    remaining.clear();
+                    drainAll(remaining);
+                    for (Runnable task : remaining) {
+                        runTask(task);
+                    }
+                } while (!remaining.isEmpty());
+            }
+            termination.countDown();
+        }
+    }
+}
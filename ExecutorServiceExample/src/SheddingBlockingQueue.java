@@ -0,0 +1,402 @@
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Worker'lar görev alırken bekleme süresine göre görev atabilen, sınırlı ve dizi tabanlı iş kuyruğu.
+ *
+ * İki ayrı, ayrı ayrı açılan kural vardır:
+ * - CoDel (Controlled Delay): Bir aralık boyunca kuyrukta bekleme süresinin (sojourn) en küçüğü bile hedefin
+ *   üzerinde kaldıysa kuyruk aşırı yüklü sayılır; bu durumda 2 × hedeften uzun bekleyen görevler alınırken
+ *   atılır. Kısa patlamalar aralıkta en az bir kez boşalan kuyrukla sonuçlandığı için etkilenmez, kalıcı
+ *   kuyruk ise hedefin iki katına iner. (Ağ CoDel'indeki gibi atma hızını √n ile artırmak, geri çekilmeyen
+ *   istek trafiğinde çok yavaş kalır; sunucu iş kuyrukları bu daha sert kuralı kullanır.)
+ * - Son tarih: LoadShedding.Task görevlerinin son tarihine belirli bir süreden az kalmışsa (varsayılan: son
+ *   tarih geçmişse) görev çalıştırılmadan atılır.
+ *
+ * İkisi de kapalıyken ArrayBlockingQueue gibi davranır. Atılan görevler onShed'e verilir (varsayılan:
+ * Future ise iptal). onShed kuyruğun kilidi altında çağrılır ve kısa olmalıdır. Kural denetimi yalnızca kuyruktan
+ * alırken yapılır (take / poll); drainTo ve shutdownNow görevleri olduğu gibi döndürür.
+ * <pre>
+ * SheddingBlockingQueue queue = new SheddingBlockingQueue(1000);
+ * queue.setCoDel(5, 100, TimeUnit.MILLISECONDS);
+ * queue.setDeadlineShedding(10, TimeUnit.MILLISECONDS); // Son tarihine 10 ms'den az kalanları at
+ * </pre>
+ */
+public class SheddingBlockingQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+    private final Runnable[] items;
+    private final long[] enqueuedNanos;
+    private final Consumer<Runnable> onShed;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int head;
+    private int count;
+
+    // Ayarlar ve CoDel durumu (kilit altında)
+    private long targetNanos;        // 0: CoDel kapalı
+    private long intervalNanos;
+    private long minRemainingNanos = -1; // < 0: son tarih kuralı kapalı
+    private long intervalEndNanos;
+    private long minSojournNanos;    // Bu aralıkta görülen en kısa bekleme
+    private boolean overloaded;      // Önceki aralıkta en kısa bekleme hedefi aştı
+
+    private volatile long dropped;
+    private volatile long expired;
+
+    public SheddingBlockingQueue(int capacity) {
+        this(capacity, LoadShedding::shed);
+    }
+
+    /**
+     * @param onShed Atılan görevlerle çağrılır (kuyruğun kilidi altında)
+     */
+    public SheddingBlockingQueue(int capacity, Consumer<Runnable> onShed) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Kapasite pozitif olmalı: " + capacity);
+        }
+        if (onShed == null) {
+            throw new NullPointerException();
+        }
+        this.items = new Runnable[capacity];
+        this.enqueuedNanos = new long[capacity];
+        this.onShed = onShed;
+    }
+
+    /**
+     * CoDel'i açar.
+     *
+     * @param target   Kabul edilen kuyrukta bekleme süresi (ör. görev süresinin küçük bir katı)
+     * @param interval Aşırı yük kararının verildiği pencere; en kısa bekleme bu süre boyunca hedefin üzerinde
+     *                 kalırsa atma başlar
+     */
+    public void setCoDel(long target, long interval, TimeUnit unit) {
+        if (target <= 0 || interval <= 0) {
+            throw new IllegalArgumentException("Hedef ve aralık pozitif olmalı");
+        }
+        lock.lock();
+        try {
+            this.targetNanos = unit.toNanos(target);
+            this.intervalNanos = unit.toNanos(interval);
+            this.intervalEndNanos = System.nanoTime() + intervalNanos;
+            this.minSojournNanos = 0;
+            this.overloaded = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * LoadShedding.Task görevlerinden son tarihine minRemaining'den az kalanların atılmasını açar. 0 yalnızca
+     * son tarihi geçmiş görevleri atar; beklenen çalışma süresi kadar bir pay, zaten geç bitecek görevleri de atar.
+     */
+    public void setDeadlineShedding(long minRemaining, TimeUnit unit) {
+        if (minRemaining < 0) {
+            throw new IllegalArgumentException("Kalan süre negatif olamaz: " + minRemaining);
+        }
+        lock.lock();
+        try {
+            this.minRemainingNanos = unit.toNanos(minRemaining);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * CoDel ile atılan görev sayısı.
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * Son tarih kuralıyla atılan görev sayısı.
+     */
+    public long getExpiredCount() {
+        return expired;
+    }
+
+    @Override
+    public boolean offer(Runnable r) {
+        if (r == null) {
+            throw new NullPointerException();
+        }
+        lock.lock();
+        try {
+            if (count == items.length) {
+                return false;
+            }
+            enqueue(r);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable r, long timeout, TimeUnit unit) throws InterruptedException {
+        if (r == null) {
+            throw new NullPointerException();
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == items.length) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(r);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Runnable r) throws InterruptedException {
+        if (r == null) {
+            throw new NullPointerException();
+        }
+        lock.lockInterruptibly();
+        try {
+            while (count == items.length) {
+                notFull.await();
+            }
+            enqueue(r);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return dequeue(System.nanoTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            Runnable r;
+            while ((r = dequeue(System.nanoTime())) == null) {
+                notEmpty.await();
+            }
+            return r;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            Runnable r;
+            while ((r = dequeue(System.nanoTime())) == null) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return r;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            return count == 0 ? null : items[head];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return items.length - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                if (o.equals(items[(head + i) % items.length])) {
+                    removeAt(i);
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int drained = 0;
+            while (drained < maxElements && count > 0) {
+                c.add(removeHead());
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Oluşturulduğu andaki görevlerin kopyası üzerinde yineleyici; remove() görevi kuyruktan da çıkarır
+     * (ThreadPoolExecutor.purge için).
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        List<Runnable> copy = new ArrayList<>();
+        lock.lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                copy.add(items[(head + i) % items.length]);
+            }
+        } finally {
+            lock.unlock();
+        }
+        Iterator<Runnable> snapshot = copy.iterator();
+        return new Iterator<Runnable>() {
+            private Runnable last;
+
+            @Override
+            public boolean hasNext() {
+                return snapshot.hasNext();
+            }
+
+            @Override
+            public Runnable next() {
+                return last = snapshot.next();
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                SheddingBlockingQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    private void enqueue(Runnable r) {
+        int tail = (head + count) % items.length;
+        items[tail] = r;
+        enqueuedNanos[tail] = System.nanoTime();
+        count++;
+        notEmpty.signal();
+    }
+
+    private Runnable removeHead() {
+        Runnable r = items[head];
+        items[head] = null;
+        head = (head + 1) % items.length;
+        count--;
+        notFull.signal();
+        return r;
+    }
+
+    // Baştan i. görevi çıkarır; arkasındakiler bir yuva öne kayar
+    private void removeAt(int i) {
+        for (int k = i; k < count - 1; k++) {
+            int to = (head + k) % items.length;
+            int from = (head + k + 1) % items.length;
+            items[to] = items[from];
+            enqueuedNanos[to] = enqueuedNanos[from];
+        }
+        items[(head + count - 1) % items.length] = null;
+        count--;
+        notFull.signal();
+    }
+
+    // Baştaki görevi alır; kurallara göre atılması gerekenleri atlar. Kuyruk boşsa null
+    private Runnable dequeue(long now) {
+        while (count > 0) {
+            long sojourn = now - enqueuedNanos[head];
+            Runnable r = removeHead();
+            if (minRemainingNanos >= 0 && r instanceof LoadShedding.Task
+                    && ((LoadShedding.Task) r).isExpired(now + minRemainingNanos)) {
+                expired++;
+                onShed.accept(r);
+                continue;
+            }
+            if (targetNanos != 0 && overloaded(now, sojourn) && sojourn > 2 * targetNanos) {
+                drop(r);
+                continue;
+            }
+            return r;
+        }
+        minSojournNanos = 0; // Kuyruk boşaldı: bu aralık aşırı yüklü sayılmaz
+        return null;
+    }
+
+    // Aralık bittiğinde, aralık boyunca en kısa bekleme hedefi aştıysa aşırı yük durumuna geçilir
+    private boolean overloaded(long now, long sojourn) {
+        if (now - intervalEndNanos >= 0) {
+            overloaded = minSojournNanos > targetNanos;
+            minSojournNanos = sojourn;
+            intervalEndNanos = now + intervalNanos;
+        } else {
+            minSojournNanos = Math.min(minSojournNanos, sojourn);
+        }
+        return overloaded;
+    }
+
+    private void drop(Runnable r) {
+        dropped++;
+        onShed.accept(r);
+    }
+}
@@ -34,8 +34,8 @@ public class ThreadPoolExecutorExample {
         // Reject politikası: Havuz ve kuyruk dolu olduğunda çağıran thread'in görevi çalıştırmasını sağlar
         RejectedExecutionHandler rejectionHandler = new ThreadPoolExecutor.CallerRunsPolicy();
 
-        // Özelleştirilmiş ThreadPoolExecutor oluşturma
-        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        // Özelleştirilmiş ThreadPoolExecutor oluşturma (kuyrukta bekleme, çalışma süresi ve redleri ölçen alt sınıf)
+        InstrumentedThreadPoolExecutor executor = new InstrumentedThreadPoolExecutor(
                 2,                         // Çekirdek thread sayısı: her zaman aktif kalacak minimum thread
                 4,                         // Maksimum thread sayısı: iş yoğunluğunda ulaşılabilecek en yüksek thread sayısı
                 60L, TimeUnit.SECONDS,     // Thread'lerin boşta kalabilecekleri süre
@@ -55,6 +55,10 @@ public class ThreadPoolExecutorExample {
         // 2. Görevleri gönderme ve havuz davranışını gözlemleme
         System.out.println("\n2. Görevleri Gönderme ve Havuz Davranışını Gözlemleme:");
         
+        // Havuz durumu her gönderimden sonra getActiveCount / getQueue().size() ile ayrı ayrı okunursa değerler
+        // farklı anlara ait olur; bunun yerine saniyede bir son aralığın ölçümleri raporlanır
+        executor.report(1, TimeUnit.SECONDS, interval -> System.out.println("[Ölçüm] " + interval));
+        
         // 15 görev gönderelim (çekirdek: 2, maks: 4, kuyruk: 10)
         for (int i = 1; i <= 15; i++) {
             final int taskId = i;
@@ -71,12 +75,7 @@ public class ThreadPoolExecutorExample {
                     System.out.println("Görev " + taskId + " tamamlandı - Thread: " + 
                                       Thread.currentThread().getName());
                 });
-                
-                // Her görev gönderdikten sonra havuzun durumunu izle
-                System.out.println("Görev " + taskId + " gönderildi. Havuz Durumu - " +
-                                  "Aktif: " + executor.getActiveCount() + ", " +
-                                  "Kuyruk Boyutu: " + executor.getQueue().size() + ", " +
-                                  "Tamamlanan Görev: " + executor.getCompletedTaskCount());
+                System.out.println("Görev " + taskId + " gönderildi");
                 
                 // Arada bekleyerek bazı görevlerin tamamlanmasına izin ver
                 if (i % 5 == 0) {
@@ -109,11 +108,37 @@ public class ThreadPoolExecutorExample {
             System.out.println("Bekleyen görev sayısı: " + waitingTasks.size());
         }
         
+        InstrumentedThreadPoolExecutor.Snapshot total = executor.snapshot();
         System.out.println("Havuz İstatistikleri:");
-        System.out.println("- Gönderilen toplam görev sayısı: " + executor.getTaskCount());
-        System.out.println("- Tamamlanan görev sayısı: " + executor.getCompletedTaskCount());
-        System.out.println("- Aktif thread sayısı: " + executor.getActiveCount());
+        System.out.println("- Gönderilen toplam görev sayısı: " + total.submitted);
+        System.out.println("- Tamamlanan görev sayısı: " + total.completed + " (göndericide çalışan: " +
+                           total.callerRuns + ")");
+        System.out.println("- Reddedilen görevler: " + total.rejections);
+        System.out.println("- Başlayan / sonlanan thread: " + total.threadsStarted + " / " + total.threadsRetired);
         System.out.println("- En yüksek thread sayısı: " + executor.getLargestPoolSize());
+        System.out.println("- Kuyrukta bekleme (ms): p50=" + total.queueWaitMicros.getValueAtPercentile(50) / 1000 +
+                           ", p99=" + total.queueWaitMicros.getValueAtPercentile(99) / 1000);
+        
+        // 4. Yüke göre boyutlanan havuz
+        System.out.println("\n4. Uyarlanabilir Havuz Boyutu (2..16 thread):");
+        AdaptiveThreadPoolExecutor adaptive = new AdaptiveThreadPoolExecutor(2, 16, new LinkedBlockingQueue<>(1000));
+        
+        // 20 ms süren 300 görevlik bir patlama; denetleyici kuyruğu ve geliş hızını görüp thread ekler
+        for (int i = 0; i < 300; i++) {
+            adaptive.execute(() -> {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (int i = 0; i < 8; i++) {
+            Thread.sleep(250);
+            System.out.println("Denetleyici: " + adaptive.getLastDecision() + ", havuz: " + adaptive.getPoolSize());
+        }
+        adaptive.shutdown();
+        adaptive.awaitTermination(10, TimeUnit.SECONDS);
         
         System.out.println("\nThreadPoolExecutor örneği tamamlandı.");
     }
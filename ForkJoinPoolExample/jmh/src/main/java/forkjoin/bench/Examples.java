@@ -0,0 +1,185 @@
+package forkjoin.bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Varsayılan paketteki örnek sınıflarına (SumTask, MergeSortTask, SplitPolicy, ...) köprü.
+ *
+ * JMH benchmark sınıflarının bir pakette olmasını ister; Java ise isimli paketten varsayılan pakete
+ * import'a izin vermez. Bu yüzden örneklerin kurucu ve metotları bir kez yansıma ile bulunup
+ * static final MethodHandle olarak tutulur; JIT bunları sabit kabul edip çağrı noktasına satır içi
+ * yerleştirir, yani ölçülen süreye yansıma maliyeti eklenmez.
+ */
+final class Examples {
+
+    private static final MethodHandle FIXED = method("SplitPolicy", "fixed", int.class);
+    private static final MethodHandle ADAPTIVE = method("SplitPolicy", "adaptive");
+    private static final MethodHandle CALIBRATE = method("RecursiveTaskExample$SumTask", "calibrate",
+            long[].class, int.class);
+    private static final MethodHandle SUM_TASK = constructor("RecursiveTaskExample$SumTask",
+            long[].class, int.class, int.class, type("SplitPolicy"));
+    private static final MethodHandle MERGE_SORT_TASK = constructor("RecursiveActionExample$MergeSortTask",
+            int[].class, int.class, int.class, int[].class, type("SplitPolicy"));
+    private static final MethodHandle REDUCER_SUM = method("LongReducer", "sum");
+    private static final MethodHandle REDUCE = method("LongReducer", "reduce",
+            long[].class, int.class, int.class, ForkJoinPool.class, type("SplitPolicy"));
+    private static final MethodHandle PARALLEL_MERGE_SORT = method("ParallelMergeSort", "sort",
+            int[].class, ForkJoinPool.class, type("SplitPolicy"));
+    private static final MethodHandle RADIX_SORT = method("ParallelRadixSort", "sort",
+            int[].class, ForkJoinPool.class);
+
+    private Examples() {
+    }
+
+    /**
+     * "common" için ortak havuz, sayı için o paralellikte yeni bir havuz.
+     */
+    static ForkJoinPool pool(String parallelism) {
+        return "common".equals(parallelism) ? ForkJoinPool.commonPool()
+                                            : new ForkJoinPool(Integer.parseInt(parallelism));
+    }
+
+    static void release(ForkJoinPool pool) {
+        if (pool != ForkJoinPool.commonPool()) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * "adaptive", "fixed-N" veya "calibrated" tanımından SplitPolicy nesnesi.
+     */
+    static Object splitPolicy(String spec, long[] data, int parallelism) {
+        try {
+            if ("adaptive".equals(spec)) {
+                return (Object) ADAPTIVE.invokeExact();
+            }
+            if ("calibrated".equals(spec)) {
+                return (Object) CALIBRATE.invokeExact(data, parallelism);
+            }
+            if (spec.startsWith("fixed-")) {
+                return (Object) FIXED.invokeExact(Integer.parseInt(spec.substring("fixed-".length())));
+            }
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        throw new IllegalArgumentException("Bilinmeyen bölme politikası: " + spec);
+    }
+
+    static Object adaptive() {
+        return splitPolicy("adaptive", null, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    static ForkJoinTask<Long> sumTask(long[] numbers, Object splitPolicy) {
+        try {
+            return (ForkJoinTask<Long>) SUM_TASK.invokeExact(numbers, 0, numbers.length, splitPolicy);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static Object reducerSum() {
+        try {
+            return (Object) REDUCER_SUM.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static long reduce(Object reducer, long[] numbers, ForkJoinPool pool, Object splitPolicy) {
+        try {
+            return (long) REDUCE.invokeExact(reducer, numbers, 0, numbers.length, pool, splitPolicy);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static ForkJoinTask<?> mergeSortTask(int[] array, int[] temp, Object splitPolicy) {
+        try {
+            return (ForkJoinTask<?>) MERGE_SORT_TASK.invokeExact(array, 0, array.length, temp, splitPolicy);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void parallelMergeSort(int[] array, ForkJoinPool pool, Object splitPolicy) {
+        try {
+            PARALLEL_MERGE_SORT.invokeExact(array, pool, splitPolicy);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean radixSort(int[] array, ForkJoinPool pool) {
+        try {
+            return (boolean) RADIX_SORT.invokeExact(array, pool);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static Class<?> type(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Örnek sınıfı bulunamadı (../src derlendi mi?): " + name, e);
+        }
+    }
+
+    // Dönüş ve varsayılan paketteki parametre tipleri Object'e genişletilir, böylece invokeExact ile çağrılabilir
+    private static MethodHandle generic(MethodHandle handle) {
+        MethodType type = handle.type();
+        for (int i = 0; i < type.parameterCount(); i++) {
+            if (inDefaultPackage(type.parameterType(i))) {
+                type = type.changeParameterType(i, Object.class);
+            }
+        }
+        Class<?> returnType = type.returnType();
+        if (ForkJoinTask.class.isAssignableFrom(returnType)) {
+            type = type.changeReturnType(ForkJoinTask.class);
+        } else if (inDefaultPackage(returnType)) {
+            type = type.changeReturnType(Object.class);
+        }
+        return handle.asType(type);
+    }
+
+    private static boolean inDefaultPackage(Class<?> type) {
+        return !type.isPrimitive() && !type.isArray() && type.getName().indexOf('.') < 0;
+    }
+
+    private static MethodHandle method(String owner, String name, Class<?>... parameters) {
+        try {
+            Method method = type(owner).getDeclaredMethod(name, parameters);
+            method.setAccessible(true);
+            return generic(MethodHandles.lookup().unreflect(method));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(owner + "." + name + " bulunamadı", e);
+        }
+    }
+
+    private static MethodHandle constructor(String owner, Class<?>... parameters) {
+        try {
+            Constructor<?> constructor = type(owner).getDeclaredConstructor(parameters);
+            constructor.setAccessible(true);
+            return generic(MethodHandles.lookup().unreflectConstructor(constructor));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(owner + " kurucusu bulunamadı", e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IllegalStateException(t);
+    }
+}
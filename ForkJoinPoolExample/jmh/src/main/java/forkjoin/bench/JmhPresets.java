@@ -0,0 +1,57 @@
+package forkjoin.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Hazır JMH ayarları. Sonuçlar karşılaştırma için target/jmh-&lt;preset&gt;.json dosyasına yazılır.
+ * <pre>
+ * java -cp target/benchmarks.jar forkjoin.bench.JmhPresets full                  # sınıflardaki ayarlar
+ * java -cp target/benchmarks.jar forkjoin.bench.JmhPresets quick ParallelSum     # 1 fork, kısa ısınma
+ * java -cp target/benchmarks.jar forkjoin.bench.JmhPresets gc Sort size=1000000  # + GC/ayırma profili
+ * </pre>
+ * Argümanlar: preset, benchmark seçici (düzenli ifade) ve isteğe bağlı parametre=değer1,değer2 geçersiz kılmaları.
+ */
+public class JmhPresets {
+
+    public static void main(String[] args) throws RunnerException {
+        String preset = args.length > 0 ? args[0] : "quick";
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(args.length > 1 ? args[1] : ".*")
+                .result("target/jmh-" + preset + ".json")
+                .resultFormat(ResultFormatType.JSON);
+        for (int i = 2; i < args.length; i++) {
+            String[] param = args[i].split("=", 2);
+            options.param(param[0], param[1].split(","));
+        }
+
+        switch (preset) {
+            case "full":
+                break;
+            case "quick":
+                quick(options);
+                break;
+            case "gc":
+                // gc.alloc.rate.norm: işlem başına ayrılan bayt (kutulama, görev nesneleri, geçici diziler)
+                quick(options);
+                options.addProfiler(GCProfiler.class);
+                break;
+            default:
+                throw new IllegalArgumentException("Bilinmeyen preset: " + preset + " (full, quick, gc)");
+        }
+        new Runner(options.build()).run();
+    }
+
+    private static void quick(ChainedOptionsBuilder options) {
+        options.forks(1)
+               .warmupIterations(3)
+               .warmupTime(TimeValue.milliseconds(500))
+               .measurementIterations(3)
+               .measurementTime(TimeValue.seconds(1));
+    }
+}
@@ -0,0 +1,60 @@
+package forkjoin.bench;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ParallelStreamExample'daki Arrays.stream().parallel().sum() toplamı, ortak havuzda ve
+ * özel bir havuzun içinden (pool.submit) çağrıldığında.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ParallelStreamBenchmarks {
+
+    @Param({"1000000", "10000000", "100000000"})
+    int size;
+
+    @Param({"common", "1", "4"})
+    String parallelism;
+
+    long[] numbers;
+    ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        numbers = SequentialSumBenchmarks.randomNumbers(size);
+        pool = Examples.pool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Examples.release(pool);
+    }
+
+    @Benchmark
+    public long parallelStream() {
+        if (pool == ForkJoinPool.commonPool()) {
+            return Arrays.stream(numbers).parallel().sum();
+        }
+        // Havuzun içinden başlatılan paralel stream o havuzun thread'lerinde çalışır
+        return pool.submit(() -> Arrays.stream(numbers).parallel().sum()).join();
+    }
+}
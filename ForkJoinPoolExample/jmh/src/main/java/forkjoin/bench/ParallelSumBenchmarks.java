@@ -0,0 +1,67 @@
+package forkjoin.bench;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * SumTask ve LongReducer'ı dizi boyutu, bölme politikası (eşik) ve havuz üzerinde tarar.
+ * parallelism = "common" ortak havuzu, sayı ise o paralellikte özel bir havuzu seçer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ParallelSumBenchmarks {
+
+    @Param({"1000000", "10000000", "100000000"})
+    int size;
+
+    @Param({"fixed-10000", "fixed-100000", "adaptive", "calibrated"})
+    String policy;
+
+    @Param({"common", "1", "4"})
+    String parallelism;
+
+    long[] numbers;
+    ForkJoinPool pool;
+    Object splitPolicy;
+    Object reducer;
+
+    @Setup
+    public void setUp() {
+        numbers = SequentialSumBenchmarks.randomNumbers(size);
+        pool = Examples.pool(parallelism);
+        splitPolicy = Examples.splitPolicy(policy, numbers, pool.getParallelism());
+        reducer = Examples.reducerSum();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Examples.release(pool);
+    }
+
+    @Benchmark
+    public long sumTask() {
+        return pool.invoke(Examples.sumTask(numbers, splitPolicy));
+    }
+
+    @Benchmark
+    public long longReducer() {
+        return Examples.reduce(reducer, numbers, pool, splitPolicy);
+    }
+}
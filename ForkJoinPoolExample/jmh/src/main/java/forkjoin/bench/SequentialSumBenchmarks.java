@@ -0,0 +1,63 @@
+package forkjoin.bench;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paralel toplamların karşılaştırma tabanı: RecursiveTaskExample'daki sıralı döngü ve sıralı stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SequentialSumBenchmarks {
+
+    @Param({"1000000", "10000000", "100000000"})
+    int size;
+
+    long[] numbers;
+
+    @Setup
+    public void setUp() {
+        numbers = randomNumbers(size);
+    }
+
+    @Benchmark
+    public long sequentialLoop() {
+        long sum = 0;
+        for (long number : numbers) {
+            sum += number;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sequentialStream() {
+        return Arrays.stream(numbers).sum();
+    }
+
+    // RecursiveTaskExample ile aynı veri: 0-99 arası rastgele sayılar
+    static long[] randomNumbers(int size) {
+        long[] numbers = new long[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            numbers[i] = random.nextInt(100);
+        }
+        return numbers;
+    }
+}
@@ -0,0 +1,107 @@
+package forkjoin.bench;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sıralama yöntemleri: Arrays.sort, Arrays.parallelSort, MergeSortTask, ParallelMergeSort ve
+ * ParallelRadixSort. Her çağrıdan önce dizi (ölçüm dışında) sıralanmamış kopyasına geri yüklenir.
+ * keyRange = 2147483647 radix sort'un MergeSortTask'a döndüğü geniş aralık durumudur.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SortBenchmarks {
+
+    @Param({"1000000", "20000000"})
+    int size;
+
+    @Param({"1000000", "2147483647"})
+    int keyRange;
+
+    @Param({"common", "4"})
+    String parallelism;
+
+    int[] original;
+    int[] array;
+    int[] temp;
+    ForkJoinPool pool;
+    Object splitPolicy;
+
+    @Setup
+    public void setUp() {
+        original = new int[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            original[i] = random.nextInt(keyRange);
+        }
+        array = new int[size];
+        temp = new int[size];
+        pool = Examples.pool(parallelism);
+        splitPolicy = Examples.adaptive();
+    }
+
+    // Sıralama süresi milisaniyeler mertebesinde olduğundan çağrı başına hazırlık ölçümü bozmaz
+    @Setup(Level.Invocation)
+    public void restore() {
+        System.arraycopy(original, 0, array, 0, size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Examples.release(pool);
+    }
+
+    @Benchmark
+    public int arraysSort() {
+        Arrays.sort(array);
+        return array[size / 2];
+    }
+
+    @Benchmark
+    public int arraysParallelSort() {
+        if (pool == ForkJoinPool.commonPool()) {
+            Arrays.parallelSort(array);
+        } else {
+            pool.submit(() -> Arrays.parallelSort(array)).join();
+        }
+        return array[size / 2];
+    }
+
+    @Benchmark
+    public int mergeSortTask() {
+        pool.invoke(Examples.mergeSortTask(array, temp, splitPolicy));
+        return array[size / 2];
+    }
+
+    @Benchmark
+    public int parallelMergeSort() {
+        Examples.parallelMergeSort(array, pool, splitPolicy);
+        return array[size / 2];
+    }
+
+    @Benchmark
+    public int parallelRadixSort() {
+        Examples.radixSort(array, pool);
+        return array[size / 2];
+    }
+}
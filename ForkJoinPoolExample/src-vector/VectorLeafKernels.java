@@ -0,0 +1,121 @@
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link LeafKernels}'in JDK Vector API (jdk.incubator.vector) ile yazılmış SIMD sürümü.
+ *
+ * İşlemcinin tercih ettiği vektör genişliği kullanılır (AVX2'de 4, AVX-512'de 8 long şeridi).
+ * Her döngü adımında 4 vektör yüklenir ve 4 bağımsız vektör akümülatörüne eklenir; böylece
+ * toplama gecikmesi gizlenir ve bellek bant genişliği sınırına yaklaşılır. Vektöre sığmayan
+ * kuyruk elemanları skaler olarak işlenir.
+ *
+ * Bu sınıf ayrı bir kaynak dizinindedir ve yalnızca modül eklenerek derlenir:
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/*.java src-vector/*.java
+ * </pre>
+ * {@link LeafKernels#best()} sınıfı yansıma ile yükler; modül yoksa skaler sürüm kullanılır.
+ */
+public final class VectorLeafKernels extends LeafKernels {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int STEP = LANES * 4;
+
+    @Override
+    public long sum(long[] a, int from, int to) {
+        LongVector acc0 = LongVector.zero(SPECIES);
+        LongVector acc1 = acc0, acc2 = acc0, acc3 = acc0;
+        int i = from;
+        for (; i <= to - STEP; i += STEP) {
+            acc0 = acc0.add(LongVector.fromArray(SPECIES, a, i));
+            acc1 = acc1.add(LongVector.fromArray(SPECIES, a, i + LANES));
+            acc2 = acc2.add(LongVector.fromArray(SPECIES, a, i + 2 * LANES));
+            acc3 = acc3.add(LongVector.fromArray(SPECIES, a, i + 3 * LANES));
+        }
+        for (; i <= to - LANES; i += LANES) {
+            acc0 = acc0.add(LongVector.fromArray(SPECIES, a, i));
+        }
+        long sum = acc0.add(acc1).add(acc2.add(acc3)).reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public long min(long[] a, int from, int to) {
+        LongVector acc0 = LongVector.broadcast(SPECIES, Long.MAX_VALUE);
+        LongVector acc1 = acc0, acc2 = acc0, acc3 = acc0;
+        int i = from;
+        for (; i <= to - STEP; i += STEP) {
+            acc0 = acc0.min(LongVector.fromArray(SPECIES, a, i));
+            acc1 = acc1.min(LongVector.fromArray(SPECIES, a, i + LANES));
+            acc2 = acc2.min(LongVector.fromArray(SPECIES, a, i + 2 * LANES));
+            acc3 = acc3.min(LongVector.fromArray(SPECIES, a, i + 3 * LANES));
+        }
+        for (; i <= to - LANES; i += LANES) {
+            acc0 = acc0.min(LongVector.fromArray(SPECIES, a, i));
+        }
+        long min = acc0.min(acc1).min(acc2.min(acc3)).reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long max(long[] a, int from, int to) {
+        LongVector acc0 = LongVector.broadcast(SPECIES, Long.MIN_VALUE);
+        LongVector acc1 = acc0, acc2 = acc0, acc3 = acc0;
+        int i = from;
+        for (; i <= to - STEP; i += STEP) {
+            acc0 = acc0.max(LongVector.fromArray(SPECIES, a, i));
+            acc1 = acc1.max(LongVector.fromArray(SPECIES, a, i + LANES));
+            acc2 = acc2.max(LongVector.fromArray(SPECIES, a, i + 2 * LANES));
+            acc3 = acc3.max(LongVector.fromArray(SPECIES, a, i + 3 * LANES));
+        }
+        for (; i <= to - LANES; i += LANES) {
+            acc0 = acc0.max(LongVector.fromArray(SPECIES, a, i));
+        }
+        long max = acc0.max(acc1).max(acc2.max(acc3)).reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int countBetween(long[] a, int from, int to, long low, long high) {
+        if (low > high) {
+            return 0;
+        }
+        if (LANES < 4) {
+            // 128 bit (SSE) long karşılaştırmaları intrinsic değil, Java yedeği skalerden ~30 kat yavaş
+            return LeafKernels.scalar().countBetween(a, from, to, low, high);
+        }
+        // Eşleşen şeritlerde 1 biriktirilir: maske -> 0/1 vektörü, sayaçlar da vektördür
+        LongVector lo = LongVector.broadcast(SPECIES, low);
+        LongVector hi = LongVector.broadcast(SPECIES, high);
+        LongVector one = LongVector.broadcast(SPECIES, 1L);
+        LongVector zero = LongVector.zero(SPECIES);
+        LongVector acc0 = zero, acc1 = zero;
+        int i = from;
+        for (; i <= to - 2 * LANES; i += 2 * LANES) {
+            LongVector v0 = LongVector.fromArray(SPECIES, a, i);
+            LongVector v1 = LongVector.fromArray(SPECIES, a, i + LANES);
+            acc0 = acc0.add(one, v0.compare(VectorOperators.GE, lo).and(v0.compare(VectorOperators.LE, hi)));
+            acc1 = acc1.add(one, v1.compare(VectorOperators.GE, lo).and(v1.compare(VectorOperators.LE, hi)));
+        }
+        long count = acc0.add(acc1).reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            count += (a[i] >= low && a[i] <= high) ? 1 : 0;
+        }
+        return (int) count;
+    }
+
+    @Override
+    public String name() {
+        return "vector(" + LANES + "x64)";
+    }
+}
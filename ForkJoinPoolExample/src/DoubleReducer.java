@@ -0,0 +1,168 @@
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * double[] dizileri için kutulamasız paralel indirgeme; {@link LongReducer}'ın double karşılığı.
+ *
+ * Kayan noktalı toplamada sonuç, bölme noktalarına göre son basamaklarda değişebilir
+ * (toplama sırası farklıdır); min ve max her zaman aynı sonucu verir.
+ *
+ * <pre>
+ * double sum = DoubleReducer.sum().reduce(values, pool);
+ * double product = DoubleReducer.of(1.0, (x, y) -> x * y).reduce(values, pool);
+ * </pre>
+ */
+public final class DoubleReducer {
+
+    /**
+     * [from, to) aralığını doğrudan indirgeyen yaprak fonksiyonu.
+     */
+    @FunctionalInterface
+    public interface Leaf {
+        double apply(double[] a, int from, int to);
+    }
+
+    private final double identity;
+    private final DoubleBinaryOperator combiner;
+    private final Leaf leaf;
+    private final String name;
+
+    private DoubleReducer(double identity, DoubleBinaryOperator combiner, Leaf leaf, String name) {
+        this.identity = identity;
+        this.combiner = combiner;
+        this.leaf = leaf;
+        this.name = name;
+    }
+
+    /**
+     * Toplam; yapraklarda 4 bağımsız akümülatörle açılmış döngü.
+     */
+    public static DoubleReducer sum() {
+        return new DoubleReducer(0.0, Double::sum, DoubleReducer::sumLeaf, "sum");
+    }
+
+    public static DoubleReducer min() {
+        return of(Double.POSITIVE_INFINITY, Math::min);
+    }
+
+    public static DoubleReducer max() {
+        return of(Double.NEGATIVE_INFINITY, Math::max);
+    }
+
+    /**
+     * Kullanıcı tanımlı birleşmeli işlem; yapraklarda da aynı işlem eleman eleman uygulanır.
+     */
+    public static DoubleReducer of(double identity, DoubleBinaryOperator combiner) {
+        return of(identity, combiner, (a, from, to) -> {
+            double result = identity;
+            for (int i = from; i < to; i++) {
+                result = combiner.applyAsDouble(result, a[i]);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Kullanıcı tanımlı işlem ve ona eşdeğer, daha hızlı bir yaprak fonksiyonu.
+     */
+    public static DoubleReducer of(double identity, DoubleBinaryOperator combiner, Leaf leaf) {
+        return new DoubleReducer(identity, combiner, leaf, "reducer(" + identity + ")");
+    }
+
+    /**
+     * Tüm diziyi ortak havuzda, uyarlanabilir bölme politikasıyla indirger.
+     */
+    public double reduce(double[] a) {
+        return reduce(a, ForkJoinPool.commonPool());
+    }
+
+    public double reduce(double[] a, ForkJoinPool pool) {
+        return reduce(a, 0, a.length, pool, SplitPolicy.adaptive());
+    }
+
+    public double reduce(double[] a, int from, int to, ForkJoinPool pool, SplitPolicy splitPolicy) {
+        ReduceTask root = new ReduceTask(null, this, a, from, to, splitPolicy, null);
+        pool.invoke(root);
+        return root.result;
+    }
+
+    /**
+     * İndirgemeyi başka bir görevin içinden çalıştırmak veya çatallamak için kök görev.
+     */
+    public ForkJoinTask<Double> task(double[] a, int from, int to, SplitPolicy splitPolicy) {
+        return new ReduceTask(null, this, a, from, to, splitPolicy, null);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static double sumLeaf(double[] a, int from, int to) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+        for (; i < to - 3; i += 4) {
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    // LongReducer.ReduceTask ile aynı desen, double sonuçla
+    private static final class ReduceTask extends CountedCompleter<Double> {
+        private static final long serialVersionUID = 1L;
+
+        private final DoubleReducer reducer;
+        private final double[] a;
+        private final int from;
+        private final int to;
+        private final SplitPolicy splitPolicy;
+        private final ReduceTask next;
+        private ReduceTask forks;
+        double result;
+
+        ReduceTask(ReduceTask parent, DoubleReducer reducer, double[] a, int from, int to,
+                   SplitPolicy splitPolicy, ReduceTask next) {
+            super(parent);
+            this.reducer = reducer;
+            this.a = a;
+            this.from = from;
+            this.to = to;
+            this.splitPolicy = splitPolicy;
+            this.next = next;
+            this.result = reducer.identity;
+        }
+
+        @Override
+        public void compute() {
+            int high = to;
+            while (high - from > 1 && splitPolicy.shouldSplit(high - from)) {
+                int middle = (from + high) >>> 1;
+                addToPendingCount(1);
+                (forks = new ReduceTask(this, reducer, a, middle, high, splitPolicy, forks)).fork();
+                high = middle;
+            }
+            if (high > from) {
+                result = reducer.leaf.apply(a, from, high);
+            }
+            for (CountedCompleter<?> c = firstComplete(); c != null; c = c.nextComplete()) {
+                ReduceTask task = (ReduceTask) c;
+                for (ReduceTask sibling = task.forks; sibling != null; sibling = task.forks = sibling.next) {
+                    task.result = reducer.combiner.applyAsDouble(task.result, sibling.result);
+                }
+            }
+        }
+
+        @Override
+        public Double getRawResult() {
+            return result;
+        }
+    }
+}
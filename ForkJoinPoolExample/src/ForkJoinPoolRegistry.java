@@ -0,0 +1,271 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Paralel stream'ler ve ForkJoin görevleri için isimli, birbirinden yalıtılmış havuzlar.
+ *
+ * Her şey ortak havuzu (commonPool) paylaştığında ağır bir stream ilgisiz işleri aç bırakır. Kayıt,
+ * her iş türüne ayarlı paralellikte ayrı bir havuz verir:
+ * <pre>
+ * try (ForkJoinPoolRegistry pools = new ForkJoinPoolRegistry()) {
+ *     pools.register("analytics", 4);
+ *     long sum = pools.runIn("analytics", () -> Arrays.stream(data).parallel().sum());
+ *     System.out.println(pools.metrics("analytics"));
+ * }
+ * </pre>
+ *
+ * Paralel bir stream'in, terminal işlemi çağıran ForkJoin thread'inin havuzunda çalışması JDK'nın
+ * belgelenmemiş bir davranışıdır. Bu davranışa yalnızca {@link #runIn(String, Supplier)} dayanır; ortak
+ * havuz da "common" adıyla ölçüldüğü için işin ortak havuza taşıp taşmadığı metriklerden görülebilir.
+ *
+ * Metrikler anlık değerlerdir (çalınan görev, kuyruktaki görev, aktif/çalışan thread); kullanım oranı ise
+ * arka plandaki bir örnekleyicinin belirli aralıklarla aldığı aktif thread / paralellik örneklerinden hesaplanır.
+ */
+public final class ForkJoinPoolRegistry implements AutoCloseable {
+
+    public static final String COMMON = "common";
+
+    private static final long DEFAULT_SAMPLE_MILLIS = 100;
+    private static final int DEFAULT_HISTORY = 600; // 100 ms'de bir örnekle son 1 dakika
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final ScheduledExecutorService sampler;
+    private final int history;
+
+    /**
+     * Kullanımı 100 ms'de bir örnekleyen, son 600 örneği tutan kayıt.
+     */
+    public ForkJoinPoolRegistry() {
+        this(DEFAULT_SAMPLE_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_HISTORY);
+    }
+
+    /**
+     * @param samplePeriod Kullanım örnekleri arasındaki süre
+     * @param history      Havuz başına saklanan en fazla örnek sayısı
+     */
+    public ForkJoinPoolRegistry(long samplePeriod, TimeUnit unit, int history) {
+        if (samplePeriod <= 0 || history <= 0) {
+            throw new IllegalArgumentException("Örnekleme aralığı ve geçmiş pozitif olmalı");
+        }
+        this.history = history;
+        entries.put(COMMON, new Entry(COMMON, ForkJoinPool.commonPool(), history, false));
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "fj-registry-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        executor.scheduleAtFixedRate(this::sample, samplePeriod, samplePeriod, unit);
+        this.sampler = executor;
+    }
+
+    /**
+     * Verilen paralellikte yeni bir havuz oluşturur. Thread'ler "isim-N" olarak adlandırılır.
+     *
+     * @throws IllegalArgumentException Bu isimde bir havuz zaten varsa
+     */
+    public synchronized ForkJoinPool register(String name, int parallelism) {
+        if (entries.containsKey(name)) {
+            throw new IllegalArgumentException("Bu isimde bir havuz zaten kayıtlı: " + name);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName(name + "-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        entries.put(name, new Entry(name, pool, history, true));
+        return pool;
+    }
+
+    /**
+     * İsimli havuz ("common" ortak havuzdur).
+     *
+     * @throws IllegalArgumentException Bu isimde bir havuz yoksa
+     */
+    public ForkJoinPool pool(String name) {
+        return entry(name).pool;
+    }
+
+    public synchronized Set<String> names() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(entries.keySet()));
+    }
+
+    /**
+     * work'ü isimli havuzda çalıştırır ve sonucunu bekler. İçindeki paralel stream'ler ve fork edilen
+     * görevler aynı havuzda kalır. Çağıran zaten o havuzun bir thread'iyse work doğrudan çalışır.
+     * work'ün fırlattığı RuntimeException / Error çağırana aynı türde iletilir.
+     */
+    public <T> T runIn(String name, Supplier<T> work) {
+        ForkJoinPool pool = pool(name);
+        if (ForkJoinTask.getPool() == pool) {
+            return work.get();
+        }
+        return pool.submit(ForkJoinTask.adapt(work::get)).join();
+    }
+
+    public void runIn(String name, Runnable work) {
+        runIn(name, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * İsimli havuzun anlık metrikleri ve örnek geçmişinden hesaplanan kullanım oranı.
+     */
+    public PoolMetrics metrics(String name) {
+        return entry(name).metrics();
+    }
+
+    /**
+     * Tüm havuzların metrikleri, kayıt sırasıyla ("common" ilk sıradadır).
+     */
+    public List<PoolMetrics> metrics() {
+        List<PoolMetrics> metrics = new ArrayList<>();
+        for (Entry entry : snapshot()) {
+            metrics.add(entry.metrics());
+        }
+        return metrics;
+    }
+
+    /**
+     * Kullanım örnekleri (aktif thread / paralellik, 0..1), en eskiden en yeniye.
+     */
+    public double[] utilizationHistory(String name) {
+        return entry(name).history();
+    }
+
+    /**
+     * Örnekleyiciyi durdurur, kayıtlı havuzları kapatır ve bitmelerini bekler. Ortak havuz kapatılmaz.
+     */
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+        List<Entry> owned = new ArrayList<>();
+        for (Entry entry : snapshot()) {
+            if (entry.owned) {
+                entry.pool.shutdown();
+                owned.add(entry);
+            }
+        }
+        try {
+            for (Entry entry : owned) {
+                entry.pool.awaitTermination(10, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized Entry entry(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("Kayıtlı olmayan havuz: " + name + " " + entries.keySet());
+        }
+        return entry;
+    }
+
+    private synchronized List<Entry> snapshot() {
+        return new ArrayList<>(entries.values());
+    }
+
+    private void sample() {
+        for (Entry entry : snapshot()) {
+            entry.sample();
+        }
+    }
+
+    /**
+     * Bir havuzun belirli bir andaki metrikleri.
+     */
+    public static final class PoolMetrics {
+        public final String name;
+        public final int parallelism;
+        public final int poolSize;           // Başlatılmış thread sayısı
+        public final int activeThreads;      // Görev çalıştıran veya çalmaya çalışan thread'ler
+        public final int runningThreads;     // Bunlardan join/senkronizasyonda bloklanmamış olanlar
+        public final long queuedTasks;       // Thread kuyruklarında bekleyen görevler
+        public final int queuedSubmissions;  // Dışarıdan gönderilip henüz alınmamış görevler
+        public final long stealCount;        // Başka bir thread'in kuyruğundan alınan görevler (toplam)
+        public final double utilization;     // Örnek geçmişindeki ortalama aktif thread / paralellik
+        public final double peakUtilization; // Örnek geçmişindeki en yüksek değer
+        public final int samples;
+
+        PoolMetrics(String name, ForkJoinPool pool, double utilization, double peakUtilization, int samples) {
+            this.name = name;
+            this.parallelism = pool.getParallelism();
+            this.poolSize = pool.getPoolSize();
+            this.activeThreads = pool.getActiveThreadCount();
+            this.runningThreads = pool.getRunningThreadCount();
+            this.queuedTasks = pool.getQueuedTaskCount();
+            this.queuedSubmissions = pool.getQueuedSubmissionCount();
+            this.stealCount = pool.getStealCount();
+            this.utilization = utilization;
+            this.peakUtilization = peakUtilization;
+            this.samples = samples;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[paralellik=%d, thread=%d, aktif=%d, çalışan=%d, kuyruk=%d, bekleyen gönderim=%d, " +
+                                 "çalınan=%d, kullanım=%%%.0f (en yüksek %%%.0f, %d örnek)]",
+                                 name, parallelism, poolSize, activeThreads, runningThreads, queuedTasks,
+                                 queuedSubmissions, stealCount, utilization * 100, peakUtilization * 100, samples);
+        }
+    }
+
+    // Havuz ve kullanım örneklerinin halka tamponu
+    private static final class Entry {
+        final String name;
+        final ForkJoinPool pool;
+        final boolean owned; // Kayıt tarafından oluşturuldu ve close() ile kapatılır
+        private final double[] samples;
+        private int next;
+        private int count;
+
+        Entry(String name, ForkJoinPool pool, int history, boolean owned) {
+            this.name = name;
+            this.pool = pool;
+            this.owned = owned;
+            this.samples = new double[history];
+        }
+
+        synchronized void sample() {
+            samples[next] = Math.min(1.0, (double) pool.getActiveThreadCount() / pool.getParallelism());
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        synchronized double[] history() {
+            double[] result = new double[count];
+            int first = (next - count + samples.length) % samples.length;
+            for (int i = 0; i < count; i++) {
+                result[i] = samples[(first + i) % samples.length];
+            }
+            return result;
+        }
+
+        PoolMetrics metrics() {
+            double[] history = history();
+            double total = 0;
+            double peak = 0;
+            for (double sample : history) {
+                total += sample;
+                peak = Math.max(peak, sample);
+            }
+            return new PoolMetrics(name, pool, history.length == 0 ? 0 : total / history.length, peak, history.length);
+        }
+    }
+}
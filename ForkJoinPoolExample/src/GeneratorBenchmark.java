@@ -0,0 +1,125 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+/**
+ * Örneklerdeki veri hazırlama yöntemlerini sonuca kadar geçen süre ve en yüksek RSS ile karşılaştırır:
+ * - Eski: paylaşılan tek bir Random ile doldurulan dizi, LongStream.rangeClosed(...).toArray()
+ * - Paralel doldurma: LongSource.toArray / toIntArray
+ * - Birleşik (fused): LongReducer.sum().reduce(LongSource), dizi hiç oluşturulmaz
+ *
+ * En yüksek RSS'in (Linux /proc/self/status VmHWM) birbirini etkilememesi için her yöntem ayrı bir JVM'de çalışır.
+ * <pre>
+ * java -cp out GeneratorBenchmark               # tüm yöntemler, her biri ayrı JVM'de
+ * java -cp out GeneratorBenchmark sum-fused     # tek yöntem, bu JVM'de
+ * </pre>
+ */
+public class GeneratorBenchmark {
+
+    private static final int SUM_SIZE = 100_000_000;   // RecursiveTaskExample
+    private static final int RANGE_SIZE = 50_000_000;  // ParallelStreamExample
+    private static final int SORT_SIZE = 20_000_000;   // RecursiveActionExample
+    private static final String[] MODES = {
+        "sum-random-array", "sum-parallel-fill", "sum-fused",
+        "range-array", "range-fused",
+        "sort-random-array", "sort-parallel-fill"
+    };
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            run(args[0]);
+            return;
+        }
+        System.out.println("Üretim Benchmark'ı (paralellik: " + ForkJoinPool.commonPool().getParallelism() + ")");
+        System.out.println("======================================================");
+        System.out.printf("  %-20s %10s %12s  %s%n", "yöntem", "süre", "en yüksek RSS", "sonuç");
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        for (String mode : MODES) {
+            List<String> command = new ArrayList<>(Arrays.asList(java, "-Xmx3g", "-cp",
+                    System.getProperty("java.class.path"), GeneratorBenchmark.class.getName(), mode));
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    System.out.println(line);
+                }
+            }
+            process.waitFor();
+        }
+    }
+
+    // Tek bir yöntemi çalıştırır: veri hazırlama dahil sonuca kadar geçen süre ve en yüksek RSS
+    private static void run(String mode) throws IOException {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        long started = System.nanoTime();
+        long result;
+        switch (mode) {
+            case "sum-random-array": {
+                long[] numbers = new long[SUM_SIZE];
+                Random random = new Random(42);
+                for (int i = 0; i < SUM_SIZE; i++) {
+                    numbers[i] = random.nextInt(100);
+                }
+                result = pool.invoke(new RecursiveTaskExample.SumTask(numbers, 0, SUM_SIZE));
+                break;
+            }
+            case "sum-parallel-fill": {
+                long[] numbers = LongSource.random(42, SUM_SIZE, 100).toArray(pool);
+                result = pool.invoke(new RecursiveTaskExample.SumTask(numbers, 0, SUM_SIZE));
+                break;
+            }
+            case "sum-fused":
+                result = LongReducer.sum().reduce(LongSource.random(42, SUM_SIZE, 100), pool);
+                break;
+            case "range-array":
+                result = Arrays.stream(LongStream.rangeClosed(1, RANGE_SIZE).toArray()).parallel().sum();
+                break;
+            case "range-fused":
+                result = LongReducer.sum().reduce(LongSource.rangeClosed(1, RANGE_SIZE), pool);
+                break;
+            case "sort-random-array": {
+                int[] array = new int[SORT_SIZE];
+                Random random = new Random(42);
+                for (int i = 0; i < SORT_SIZE; i++) {
+                    array[i] = random.nextInt(1_000_000);
+                }
+                pool.invoke(new RecursiveActionExample.MergeSortTask(array, 0, SORT_SIZE, new int[SORT_SIZE]));
+                result = array[SORT_SIZE / 2];
+                break;
+            }
+            case "sort-parallel-fill": {
+                int[] array = LongSource.random(42, SORT_SIZE, 1_000_000).toIntArray(pool);
+                pool.invoke(new RecursiveActionExample.MergeSortTask(array, 0, SORT_SIZE, new int[SORT_SIZE]));
+                result = array[SORT_SIZE / 2];
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Bilinmeyen yöntem: " + mode + " " + Arrays.toString(MODES));
+        }
+        long elapsed = System.nanoTime() - started;
+        System.out.printf("  %-20s %7d ms %9d MB  %d%n", mode, elapsed / 1_000_000, peakRssKb() >> 10, result);
+    }
+
+    // Linux'ta sürecin en yüksek yerleşik bellek kullanımı (KB); başka sistemlerde -1
+    private static long peakRssKb() throws IOException {
+        if (!Files.exists(Paths.get("/proc/self/status"))) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(Paths.get("/proc/self/status"))) {
+            if (line.startsWith("VmHWM:")) {
+                return Long.parseLong(line.replaceAll("[^0-9]", ""));
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,139 @@
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Kutulamasız, büyüyebilen int listesi.
+ *
+ * List&lt;Integer&gt; her eleman için ayrı bir Integer nesnesi (16 bayt) ve ona bir referans (4-8 bayt) tutar;
+ * burada eleman başına 4 bayt yeterlidir ve akış doğrudan IntStream'dir (boxed()/mapToInt gerekmez).
+ *
+ * Spliterator SIZED | SUBSIZED | ORDERED'dır ve her bölmede aralığı tam ortadan ikiye ayırır: paralel
+ * akışlar dengeli parçalar alır, toArray gibi işlemler sonuç boyutunu önceden bilir. Liste, üzerinde bir
+ * akış çalışırken değiştirilmemelidir.
+ */
+public final class IntList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Kapasite negatif olamaz: " + capacity);
+        }
+        elements = new int[capacity];
+    }
+
+    private IntList(int[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    public static IntList of(int... values) {
+        return new IntList(values.clone(), values.length);
+    }
+
+    /**
+     * first, first + 1, ..., last (IntStream.rangeClosed gibi).
+     */
+    public static IntList rangeClosed(int first, int last) {
+        long count = Math.max(0, (long) last - first + 1);
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Aralık bir listeye sığmayacak kadar büyük: " + count);
+        }
+        int[] values = new int[(int) count];
+        Arrays.setAll(values, i -> first + i);
+        return new IntList(values, values.length);
+    }
+
+    /**
+     * Akışın elemanlarını yeni bir listeye toplar. Paralel akışta her parça kendi listesini doldurur,
+     * sonra listeler birleştirilir; hiçbir eleman kutulanmaz.
+     */
+    public static IntList from(IntStream stream) {
+        return stream.collect(IntList::new, IntList::add, IntList::addAll);
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    public void addAll(IntList other) {
+        if (size + other.size > elements.length) {
+            grow(size + other.size);
+        }
+        System.arraycopy(other.elements, 0, elements, size, other.size);
+        size += other.size;
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public void set(int index, int value) {
+        checkIndex(index);
+        elements[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(elements, 0, size, Spliterator.ORDERED);
+    }
+
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    public IntStream parallelStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("IntList kapasitesi aşıldı: " + minCapacity);
+        }
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(minCapacity, elements.length * 3L / 2 + 1));
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("İndeks: " + index + ", boyut: " + size);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Yaprak çekirdeklerini karşılaştırır: eski tek akümülatörlü döngü, açılmış skaler döngü ve
+ * (modül yüklüyse) Vector API sürümü.
+ *
+ * 1. Önbellekte: 4096 elemanlık (32 KB) bir dizi üzerinde sum/min/max/countBetween (ns/eleman)
+ * 2. Bellekte: büyük bir dizi üzerinde SumTask, farklı sabit eşiklerle (ms ve GB/s)
+ *
+ * Vektör genişliği JVM bayraklarıyla değiştirilebilir:
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/*.java src-vector/*.java
+ * java --add-modules jdk.incubator.vector -Xmx2g -cp out LeafKernelBenchmark 50000000               # AVX-512: 8 şerit
+ * java --add-modules jdk.incubator.vector -XX:UseAVX=2 -Xmx2g -cp out LeafKernelBenchmark 50000000  # AVX2: 4 şerit
+ * java -Xmx2g -cp out LeafKernelBenchmark 50000000                                                  # yalnızca skaler
+ * </pre>
+ */
+public class LeafKernelBenchmark {
+
+    private static final int CACHED_SIZE = 4096;
+    private static final int TRIALS = 5;
+    private static final long TRIAL_NANOS = 200_000_000L;
+    private static final int[] THRESHOLDS = {10_000, 100_000, 1_000_000};
+
+    private static long sink; // Sonuçların JIT tarafından silinmemesi için
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 50_000_000;
+
+        LeafKernels vector = LeafKernels.vector();
+        LeafKernels[] kernels = vector == null
+                ? new LeafKernels[] {new NaiveKernels(), LeafKernels.scalar()}
+                : new LeafKernels[] {new NaiveKernels(), LeafKernels.scalar(), vector};
+
+        System.out.println("Yaprak Çekirdeği Benchmark'ı (Vector API: " +
+                           (vector == null ? "yok, yalnızca skaler" : vector) + ")");
+        System.out.println("=====================================================");
+
+        long[] cached = randomArray(CACHED_SIZE);
+        System.out.println("\n1. Önbellekte (" + CACHED_SIZE + " eleman), ns/eleman:");
+        System.out.printf("  %-14s %8s %8s %8s %8s%n", "", "sum", "min", "max", "count");
+        for (LeafKernels k : kernels) {
+            System.out.printf("  %-14s %8.3f %8.3f %8.3f %8.3f%n", k,
+                    perElement(() -> k.sum(cached, 0, CACHED_SIZE)),
+                    perElement(() -> k.min(cached, 0, CACHED_SIZE)),
+                    perElement(() -> k.max(cached, 0, CACHED_SIZE)),
+                    perElement(() -> k.countBetween(cached, 0, CACHED_SIZE, 25, 74)));
+        }
+
+        long[] numbers = randomArray(size);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        System.out.println("\n2. Bellekte: SumTask, " + size + " eleman (" + (size * 8L >> 20) + " MB), paralellik " +
+                           pool.getParallelism() + ":");
+        for (int threshold : THRESHOLDS) {
+            for (LeafKernels k : kernels) {
+                SplitPolicy policy = SplitPolicy.fixed(threshold);
+                long best = Long.MAX_VALUE;
+                for (int trial = 0; trial < TRIALS + 2; trial++) {
+                    long started = System.nanoTime();
+                    sink += pool.invoke(new RecursiveTaskExample.SumTask(numbers, 0, size, policy, k));
+                    best = Math.min(best, System.nanoTime() - started);
+                }
+                System.out.printf("  eşik %-9d %-14s %8.2f ms  %6.2f GB/s%n",
+                        threshold, k, best / 1e6, size * 8.0 / best);
+            }
+        }
+        System.out.println("\n(kontrol: " + sink + ")");
+    }
+
+    // Çekirdeği önbellekteki dizi üzerinde tekrar tekrar çalıştırır, en iyi denemenin ns/eleman değeri
+    private static double perElement(Kernel kernel) {
+        double best = Double.MAX_VALUE;
+        for (int trial = 0; trial < TRIALS; trial++) {
+            long calls = 0;
+            long started = System.nanoTime();
+            long elapsed;
+            do {
+                for (int i = 0; i < 256; i++) {
+                    sink += kernel.run();
+                }
+                calls += 256;
+                elapsed = System.nanoTime() - started;
+            } while (elapsed < TRIAL_NANOS / TRIALS);
+            best = Math.min(best, (double) elapsed / (calls * CACHED_SIZE));
+        }
+        return best;
+    }
+
+    private static long[] randomArray(int size) {
+        long[] array = new long[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(100);
+        }
+        return array;
+    }
+
+    private interface Kernel {
+        long run();
+    }
+
+    // Eski SumTask.computeDirectly gibi tek akümülatörlü döngüler (karşılaştırma tabanı)
+    private static final class NaiveKernels extends LeafKernels {
+
+        @Override
+        public long sum(long[] a, int from, int to) {
+            long sum = 0;
+            for (int i = from; i < to; i++) {
+                sum += a[i];
+            }
+            return sum;
+        }
+
+        @Override
+        public long min(long[] a, int from, int to) {
+            long min = Long.MAX_VALUE;
+            for (int i = from; i < to; i++) {
+                min = Math.min(min, a[i]);
+            }
+            return min;
+        }
+
+        @Override
+        public long max(long[] a, int from, int to) {
+            long max = Long.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                max = Math.max(max, a[i]);
+            }
+            return max;
+        }
+
+        @Override
+        public int countBetween(long[] a, int from, int to, long low, long high) {
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (a[i] >= low && a[i] <= high) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public String name() {
+            return "tek döngü";
+        }
+    }
+}
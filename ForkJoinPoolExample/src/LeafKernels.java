@@ -0,0 +1,148 @@
+/**
+ * Böl-ve-yönet görevlerinin yapraklarında kullanılan long[] indirgeme çekirdekleri:
+ * toplam, en küçük, en büyük ve aralıktaki eleman sayısı (count-if).
+ *
+ * İki uygulama vardır:
+ * - {@link #scalar()}: toplam ve sayma 4 bağımsız akümülatörle açılmış (unrolled) döngülerdir,
+ *   tek akümülatörlü döngüdeki bağımlılık zincirini kırar; min/max basit döngüdür çünkü C2 onları
+ *   zaten kendisi vektörleştirir (açılmış hali bunu engeller ve daha yavaştır). Her JVM'de çalışır
+ * - VectorLeafKernels: JDK Vector API (jdk.incubator.vector) ile SIMD şeritlerinde çalışan sürüm.
+ *   Ayrı bir kaynak dizininde (src-vector) durur ve yalnızca modül eklenerek derlenip çalıştırılır:
+ *   <pre>
+ *   javac --add-modules jdk.incubator.vector -d out src/*.java src-vector/*.java
+ *   java --add-modules jdk.incubator.vector -cp out RecursiveTaskExample
+ *   </pre>
+ *
+ * {@link #best()} Vector API sürümü derlenmiş ve modül yüklüyse onu, aksi halde skaler sürümü döndürür.
+ */
+public abstract class LeafKernels {
+
+    private static final LeafKernels SCALAR = new Scalar();
+    private static final LeafKernels VECTOR = loadVector();
+
+    /**
+     * [from, to) aralığındaki elemanların toplamı (taşma kontrolü yapılmaz).
+     */
+    public abstract long sum(long[] a, int from, int to);
+
+    /**
+     * [from, to) aralığındaki en küçük eleman; aralık boşsa Long.MAX_VALUE.
+     */
+    public abstract long min(long[] a, int from, int to);
+
+    /**
+     * [from, to) aralığındaki en büyük eleman; aralık boşsa Long.MIN_VALUE.
+     */
+    public abstract long max(long[] a, int from, int to);
+
+    /**
+     * [from, to) aralığında low &lt;= değer &lt;= high koşulunu sağlayan eleman sayısı.
+     * Tek taraflı koşullar için sınırlardan biri Long.MIN_VALUE veya Long.MAX_VALUE verilebilir.
+     */
+    public abstract int countBetween(long[] a, int from, int to, long low, long high);
+
+    /**
+     * Uygulamanın kısa adı (ör. loglarda göstermek için).
+     */
+    public abstract String name();
+
+    @Override
+    public String toString() {
+        return name();
+    }
+
+    /**
+     * Açılmış döngülü skaler çekirdekler.
+     */
+    public static LeafKernels scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Kullanılabilir en hızlı çekirdekler: Vector API sürümü veya skaler sürüm.
+     */
+    public static LeafKernels best() {
+        return VECTOR != null ? VECTOR : SCALAR;
+    }
+
+    /**
+     * Vector API çekirdeklerini döndürür; sınıf derlenmemişse veya jdk.incubator.vector modülü
+     * yüklü değilse null.
+     */
+    public static LeafKernels vector() {
+        return VECTOR;
+    }
+
+    // Kaynak Vector API olmadan da derlenebilsin diye sınıf yansıma ile yüklenir
+    private static LeafKernels loadVector() {
+        try {
+            Class<?> type = Class.forName("VectorLeafKernels");
+            return (LeafKernels) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static final class Scalar extends LeafKernels {
+
+        @Override
+        public long sum(long[] a, int from, int to) {
+            long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+            int i = from;
+            for (; i < to - 3; i += 4) {
+                s0 += a[i];
+                s1 += a[i + 1];
+                s2 += a[i + 2];
+                s3 += a[i + 3];
+            }
+            for (; i < to; i++) {
+                s0 += a[i];
+            }
+            return (s0 + s1) + (s2 + s3);
+        }
+
+        @Override
+        public long min(long[] a, int from, int to) {
+            long min = Long.MAX_VALUE;
+            for (int i = from; i < to; i++) {
+                min = Math.min(min, a[i]);
+            }
+            return min;
+        }
+
+        @Override
+        public long max(long[] a, int from, int to) {
+            long max = Long.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                max = Math.max(max, a[i]);
+            }
+            return max;
+        }
+
+        @Override
+        public int countBetween(long[] a, int from, int to, long low, long high) {
+            if (low > high) {
+                return 0;
+            }
+            // low <= v <= high  <=>  (v - low) işaretsiz olarak (high - low)'dan büyük değil: dalsız
+            long width = high - low;
+            int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+            int i = from;
+            for (; i < to - 3; i += 4) {
+                c0 += Long.compareUnsigned(a[i] - low, width) <= 0 ? 1 : 0;
+                c1 += Long.compareUnsigned(a[i + 1] - low, width) <= 0 ? 1 : 0;
+                c2 += Long.compareUnsigned(a[i + 2] - low, width) <= 0 ? 1 : 0;
+                c3 += Long.compareUnsigned(a[i + 3] - low, width) <= 0 ? 1 : 0;
+            }
+            for (; i < to; i++) {
+                c0 += Long.compareUnsigned(a[i] - low, width) <= 0 ? 1 : 0;
+            }
+            return (c0 + c1) + (c2 + c3);
+        }
+
+        @Override
+        public String name() {
+            return "skaler";
+        }
+    }
+}
@@ -0,0 +1,140 @@
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Kutulamasız, büyüyebilen long listesi.
+ *
+ * List&lt;Long&gt; her eleman için ayrı bir Long nesnesi (16 bayt) ve ona bir referans (4-8 bayt) tutar;
+ * burada eleman başına 8 bayt yeterlidir ve akış doğrudan LongStream'dir (boxed()/mapToLong gerekmez).
+ *
+ * Spliterator SIZED | SUBSIZED | ORDERED'dır ve her bölmede aralığı tam ortadan ikiye ayırır: paralel
+ * akışlar dengeli parçalar alır, toArray gibi işlemler sonuç boyutunu önceden bilir. Liste, üzerinde bir
+ * akış çalışırken değiştirilmemelidir.
+ */
+public final class LongList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] elements;
+    private int size;
+
+    public LongList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Kapasite negatif olamaz: " + capacity);
+        }
+        elements = new long[capacity];
+    }
+
+    private LongList(long[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    public static LongList of(long... values) {
+        return new LongList(values.clone(), values.length);
+    }
+
+    /**
+     * first, first + 1, ..., last (LongStream.rangeClosed gibi).
+     */
+    public static LongList rangeClosed(long first, long last) {
+        // last - first long'a sığmayabilir (ör. Long.MIN_VALUE..Long.MAX_VALUE) ama işaretsiz olarak her zaman doğrudur
+        if (last >= first && Long.compareUnsigned(last - first, Integer.MAX_VALUE - 9) > 0) {
+            throw new IllegalArgumentException("Aralık bir listeye sığmayacak kadar büyük: [" + first + ", " + last + "]");
+        }
+        int count = last < first ? 0 : (int) (last - first + 1);
+        long[] values = new long[count];
+        Arrays.setAll(values, i -> first + i);
+        return new LongList(values, values.length);
+    }
+
+    /**
+     * Akışın elemanlarını yeni bir listeye toplar. Paralel akışta her parça kendi listesini doldurur,
+     * sonra listeler birleştirilir; hiçbir eleman kutulanmaz.
+     */
+    public static LongList from(LongStream stream) {
+        return stream.collect(LongList::new, LongList::add, LongList::addAll);
+    }
+
+    public void add(long value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    public void addAll(LongList other) {
+        if (size + other.size > elements.length) {
+            grow(size + other.size);
+        }
+        System.arraycopy(other.elements, 0, elements, size, other.size);
+        size += other.size;
+    }
+
+    public long get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public void set(int index, long value) {
+        checkIndex(index);
+        elements[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(elements, 0, size, Spliterator.ORDERED);
+    }
+
+    public LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    public LongStream parallelStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("LongList kapasitesi aşıldı: " + minCapacity);
+        }
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(minCapacity, elements.length * 3L / 2 + 1));
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("İndeks: " + index + ", boyut: " + size);
+        }
+    }
+}
@@ -0,0 +1,337 @@
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * long[] dizileri için kutulamasız (boxing-free), yeniden kullanılabilir paralel indirgeme.
+ *
+ * Bir indirgeme üç parçadan oluşur: etkisiz eleman (identity), iki kısmi sonucu birleştiren işlem
+ * (combiner) ve bir yaprak aralığını doğrudan indirgeyen fonksiyon (ör. LeafKernels.sum).
+ *
+ * RecursiveTask&lt;Long&gt; tabanlı SumTask'tan farkları:
+ * - Kısmi sonuçlar görev nesnesinin long alanında tutulur, ağacın hiçbir düğümünde Long kutulanmaz
+ * - CountedCompleter kullanılır: görev sağ yarıları çatallayıp (fork) sol yarıyı kendisi işler ve
+ *   join ile beklemez. Son biten alt görev, bekleyen sayaç sıfırlandığında üst görevin birleştirmesini
+ *   tetikler; böylece hiçbir thread join'de bloklanmaz veya telafi thread'i gerektirmez
+ *
+ * <pre>
+ * long sum = LongReducer.sum().reduce(numbers, pool);
+ * long checksum = LongReducer.of(0, (x, y) -> x ^ y).reduce(numbers, pool);
+ * long[] counts = LongReducer.histogram(numbers, 0, 100, 10, pool);
+ * long generated = LongReducer.sum().reduce(LongSource.random(42, 10_000_000_000L, 100), pool); // dizisiz
+ * </pre>
+ */
+public final class LongReducer {
+
+    /**
+     * [from, to) aralığını doğrudan indirgeyen yaprak fonksiyonu.
+     */
+    @FunctionalInterface
+    public interface Leaf {
+        long apply(long[] a, int from, int to);
+    }
+
+    private final long identity;
+    private final LongBinaryOperator combiner;
+    private final Leaf leaf;
+    private final String name;
+
+    private LongReducer(long identity, LongBinaryOperator combiner, Leaf leaf, String name) {
+        this.identity = identity;
+        this.combiner = combiner;
+        this.leaf = leaf;
+        this.name = name;
+    }
+
+    /**
+     * Toplam, en hızlı yaprak çekirdekleriyle (LeafKernels.best()).
+     */
+    public static LongReducer sum() {
+        return sum(LeafKernels.best());
+    }
+
+    public static LongReducer sum(LeafKernels kernels) {
+        return new LongReducer(0L, Long::sum, kernels::sum, "sum(" + kernels + ")");
+    }
+
+    public static LongReducer min() {
+        LeafKernels kernels = LeafKernels.best();
+        return new LongReducer(Long.MAX_VALUE, Math::min, kernels::min, "min");
+    }
+
+    public static LongReducer max() {
+        LeafKernels kernels = LeafKernels.best();
+        return new LongReducer(Long.MIN_VALUE, Math::max, kernels::max, "max");
+    }
+
+    /**
+     * Kullanıcı tanımlı birleşmeli (associative) işlem; yapraklarda da aynı işlem eleman eleman uygulanır.
+     */
+    public static LongReducer of(long identity, LongBinaryOperator combiner) {
+        return of(identity, combiner, (a, from, to) -> {
+            long result = identity;
+            for (int i = from; i < to; i++) {
+                result = combiner.applyAsLong(result, a[i]);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Kullanıcı tanımlı işlem ve ona eşdeğer, daha hızlı bir yaprak fonksiyonu.
+     */
+    public static LongReducer of(long identity, LongBinaryOperator combiner, Leaf leaf) {
+        return new LongReducer(identity, combiner, leaf, "reducer(" + identity + ")");
+    }
+
+    /**
+     * Tüm diziyi ortak havuzda, uyarlanabilir bölme politikasıyla indirger.
+     */
+    public long reduce(long[] a) {
+        return reduce(a, ForkJoinPool.commonPool());
+    }
+
+    public long reduce(long[] a, ForkJoinPool pool) {
+        return reduce(a, 0, a.length, pool, SplitPolicy.adaptive());
+    }
+
+    public long reduce(long[] a, int from, int to, ForkJoinPool pool, SplitPolicy splitPolicy) {
+        ReduceTask root = new ReduceTask(null, this, a, from, to, splitPolicy, null);
+        pool.invoke(root);
+        return root.result;
+    }
+
+    /**
+     * Kaynağı diziye yazmadan indirger: her yaprak kendi aralığını küçük bir tamponda üretir ve
+     * aynı yaprak fonksiyonuyla indirger (üretim + indirgeme tek geçişte).
+     */
+    public long reduce(LongSource source, ForkJoinPool pool) {
+        return reduce(source, pool, SplitPolicy.adaptive());
+    }
+
+    public long reduce(LongSource source, ForkJoinPool pool, SplitPolicy splitPolicy) {
+        GeneratedReduceTask root = new GeneratedReduceTask(null, this, source, 0, source.size(), splitPolicy, null);
+        pool.invoke(root);
+        return root.result;
+    }
+
+    /**
+     * İndirgemeyi başka bir görevin içinden çalıştırmak veya çatallamak için kök görev.
+     * Sonuç yalnızca kökte, bir kez kutulanır.
+     */
+    public ForkJoinTask<Long> task(long[] a, int from, int to, SplitPolicy splitPolicy) {
+        return new ReduceTask(null, this, a, from, to, splitPolicy, null);
+    }
+
+    /**
+     * [low, high) aralığını eşit genişlikte buckets kovaya bölen histogram; aralık dışındaki değerler sayılmaz.
+     */
+    public static long[] histogram(long[] a, long low, long high, int buckets, ForkJoinPool pool) {
+        return histogram(a, 0, a.length, low, high, buckets, pool, SplitPolicy.adaptive());
+    }
+
+    public static long[] histogram(long[] a, int from, int to, long low, long high, int buckets,
+                                   ForkJoinPool pool, SplitPolicy splitPolicy) {
+        if (buckets <= 0 || low >= high) {
+            throw new IllegalArgumentException("Geçersiz histogram: [" + low + ", " + high + "), " + buckets + " kova");
+        }
+        long width = (high - low + buckets - 1) / buckets;
+        HistogramTask root = new HistogramTask(null, a, from, to, low, high, width, buckets, splitPolicy, null);
+        pool.invoke(root);
+        return root.counts != null ? root.counts : new long[buckets];
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    // Sağ yarıları çatallayıp sol yarıyı kendisi işleyen, sonuçları bağlı liste üzerinden birleştiren görev
+    // (CountedCompleter belgesindeki MapReducer deseni)
+    private static final class ReduceTask extends CountedCompleter<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final LongReducer reducer;
+        private final long[] a;
+        private final int from;
+        private final int to;
+        private final SplitPolicy splitPolicy;
+        private final ReduceTask next;  // Üst görevin çatalladığı bir önceki kardeş
+        private ReduceTask forks;       // Bu görevin çatalladığı alt görevler (birleştirilmeyi bekleyen)
+        long result;
+
+        ReduceTask(ReduceTask parent, LongReducer reducer, long[] a, int from, int to,
+                   SplitPolicy splitPolicy, ReduceTask next) {
+            super(parent);
+            this.reducer = reducer;
+            this.a = a;
+            this.from = from;
+            this.to = to;
+            this.splitPolicy = splitPolicy;
+            this.next = next;
+            this.result = reducer.identity;
+        }
+
+        @Override
+        public void compute() {
+            int high = to;
+            while (high - from > 1 && splitPolicy.shouldSplit(high - from)) {
+                int middle = (from + high) >>> 1;
+                addToPendingCount(1);
+                (forks = new ReduceTask(this, reducer, a, middle, high, splitPolicy, forks)).fork();
+                high = middle;
+            }
+            if (high > from) {
+                result = reducer.leaf.apply(a, from, high);
+            }
+            // Tamamlanan her görev çatalladığı kardeşlerin sonuçlarını kendi sonucuna katar, sonra üste çıkılır
+            for (CountedCompleter<?> c = firstComplete(); c != null; c = c.nextComplete()) {
+                ReduceTask task = (ReduceTask) c;
+                for (ReduceTask sibling = task.forks; sibling != null; sibling = task.forks = sibling.next) {
+                    task.result = reducer.combiner.applyAsLong(task.result, sibling.result);
+                }
+            }
+        }
+
+        @Override
+        public Long getRawResult() {
+            return result;
+        }
+    }
+
+    // ReduceTask ile aynı desen, dizi yerine LongSource üzerinde (long indeksli, boyut 2^31'i aşabilir)
+    private static final class GeneratedReduceTask extends CountedCompleter<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private static final int CHUNK = 4096; // Üretim tamponu: 32 KB, L1/L2'de kalır
+
+        private final LongReducer reducer;
+        private final LongSource source;
+        private final long from;
+        private final long to;
+        private final SplitPolicy splitPolicy;
+        private final GeneratedReduceTask next;
+        private GeneratedReduceTask forks;
+        long result;
+
+        GeneratedReduceTask(GeneratedReduceTask parent, LongReducer reducer, LongSource source, long from, long to,
+                            SplitPolicy splitPolicy, GeneratedReduceTask next) {
+            super(parent);
+            this.reducer = reducer;
+            this.source = source;
+            this.from = from;
+            this.to = to;
+            this.splitPolicy = splitPolicy;
+            this.next = next;
+            this.result = reducer.identity;
+        }
+
+        @Override
+        public void compute() {
+            long high = to;
+            while (high - from > 1 && splitPolicy.shouldSplit((int) Math.min(Integer.MAX_VALUE, high - from))) {
+                long middle = (from + high) >>> 1;
+                addToPendingCount(1);
+                (forks = new GeneratedReduceTask(this, reducer, source, middle, high, splitPolicy, forks)).fork();
+                high = middle;
+            }
+            if (high > from) {
+                long[] buffer = new long[(int) Math.min(CHUNK, high - from)];
+                long value = reducer.identity;
+                for (long index = from; index < high; index += buffer.length) {
+                    int length = (int) Math.min(buffer.length, high - index);
+                    source.fill(index, buffer, 0, length);
+                    value = reducer.combiner.applyAsLong(value, reducer.leaf.apply(buffer, 0, length));
+                }
+                result = value;
+            }
+            for (CountedCompleter<?> c = firstComplete(); c != null; c = c.nextComplete()) {
+                GeneratedReduceTask task = (GeneratedReduceTask) c;
+                for (GeneratedReduceTask sibling = task.forks; sibling != null; sibling = task.forks = sibling.next) {
+                    task.result = reducer.combiner.applyAsLong(task.result, sibling.result);
+                }
+            }
+        }
+
+        @Override
+        public Long getRawResult() {
+            return result;
+        }
+    }
+
+    // ReduceTask ile aynı desen; kısmi sonuç bir kova sayaç dizisidir (yalnızca yapraklarda ayrılır)
+    private static final class HistogramTask extends CountedCompleter<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] a;
+        private final int from;
+        private final int to;
+        private final long low;
+        private final long high;
+        private final long width;
+        private final int buckets;
+        private final SplitPolicy splitPolicy;
+        private final HistogramTask next;
+        private HistogramTask forks;
+        long[] counts;
+
+        HistogramTask(HistogramTask parent, long[] a, int from, int to, long low, long high, long width,
+                      int buckets, SplitPolicy splitPolicy, HistogramTask next) {
+            super(parent);
+            this.a = a;
+            this.from = from;
+            this.to = to;
+            this.low = low;
+            this.high = high;
+            this.width = width;
+            this.buckets = buckets;
+            this.splitPolicy = splitPolicy;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            int end = to;
+            while (end - from > 1 && splitPolicy.shouldSplit(end - from)) {
+                int middle = (from + end) >>> 1;
+                addToPendingCount(1);
+                (forks = new HistogramTask(this, a, middle, end, low, high, width, buckets, splitPolicy, forks)).fork();
+                end = middle;
+            }
+            if (end > from) {
+                long[] local = new long[buckets];
+                for (int i = from; i < end; i++) {
+                    long value = a[i];
+                    if (value >= low && value < high) {
+                        local[(int) ((value - low) / width)]++;
+                    }
+                }
+                counts = local;
+            }
+            for (CountedCompleter<?> c = firstComplete(); c != null; c = c.nextComplete()) {
+                HistogramTask task = (HistogramTask) c;
+                for (HistogramTask sibling = task.forks; sibling != null; sibling = task.forks = sibling.next) {
+                    task.counts = add(task.counts, sibling.counts);
+                }
+            }
+        }
+
+        private static long[] add(long[] target, long[] source) {
+            if (target == null) {
+                return source;
+            }
+            if (source != null) {
+                for (int b = 0; b < target.length; b++) {
+                    target[b] += source[b];
+                }
+            }
+            return target;
+        }
+
+        @Override
+        public long[] getRawResult() {
+            return counts;
+        }
+    }
+}
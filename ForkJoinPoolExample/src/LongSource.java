@@ -0,0 +1,167 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Diziye yazılmadan, istendiğinde üretilen long veri kaynağı.
+ *
+ * Her eleman yalnızca indeksinden hesaplanır; bu yüzden kaynak istenen her noktadan bölünebilir ve
+ * görevler kendi aralıklarının değerlerini yaprakta, küçük bir tamponda üretir:
+ * - {@link LongReducer#reduce(LongSource, ForkJoinPool)} üretimi indirgemeyle birleştirir (fused),
+ *   veri kümesinin tamamı hiçbir zaman heap'te durmaz
+ * - Dizi gerçekten gerekiyorsa (ör. sıralama) {@link #toArray(ForkJoinPool)} / {@link #toIntArray(ForkJoinPool)}
+ *   diziyi paralel doldurur
+ *
+ * Rastgele kaynak, SplittableRandom'ın kullandığı SplitMix64 karıştırma fonksiyonunu sayaç tabanlı
+ * uygular: i. değer mix64(seed + (i + 1) * GAMMA) ile bulunur. Paylaşılan tek bir Random'ın aksine
+ * thread'ler arasında durum yoktur ve sonuç, görev ağacının nasıl bölündüğünden bağımsız olarak aynıdır.
+ */
+public abstract class LongSource {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final int FILL_LEAF = 1 << 16;
+
+    private final long size;
+
+    protected LongSource(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Boyut negatif olamaz: " + size);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Kaynaktaki eleman sayısı.
+     */
+    public final long size() {
+        return size;
+    }
+
+    /**
+     * [from, from + length) indeksli değerleri dst[offset...] konumuna üretir.
+     */
+    public abstract void fill(long from, long[] dst, int offset, int length);
+
+    /**
+     * [0, bound) aralığında düzgün dağılmış size adet rastgele değer.
+     */
+    public static LongSource random(long seed, long size, int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Üst sınır pozitif olmalı: " + bound);
+        }
+        return new LongSource(size) {
+            @Override
+            public void fill(long from, long[] dst, int offset, int length) {
+                long state = seed + (from + 1) * GOLDEN_GAMMA;
+                for (int i = 0; i < length; i++) {
+                    // 32 rastgele bitin bound ile çarpımının üst yarısı: bölmesiz, reddetmesiz [0, bound)
+                    dst[offset + i] = ((mix64(state) >>> 32) * bound) >>> 32;
+                    state += GOLDEN_GAMMA;
+                }
+            }
+        };
+    }
+
+    /**
+     * first, first + 1, ..., last (LongStream.rangeClosed gibi).
+     */
+    public static LongSource rangeClosed(long first, long last) {
+        // last - first long'a sığmayabilir (ör. Long.MIN_VALUE..Long.MAX_VALUE) ama işaretsiz olarak her zaman doğrudur
+        if (last >= first && Long.compareUnsigned(last - first, Long.MAX_VALUE - 1) > 0) {
+            throw new IllegalArgumentException("Aralığın eleman sayısı long'a sığmıyor: [" + first + ", " + last + "]");
+        }
+        return new LongSource(last < first ? 0 : last - first + 1) {
+            @Override
+            public void fill(long from, long[] dst, int offset, int length) {
+                long value = first + from;
+                for (int i = 0; i < length; i++) {
+                    dst[offset + i] = value + i;
+                }
+            }
+        };
+    }
+
+    /**
+     * i. değeri function(i) olan size elemanlık kaynak.
+     */
+    public static LongSource of(long size, LongUnaryOperator function) {
+        return new LongSource(size) {
+            @Override
+            public void fill(long from, long[] dst, int offset, int length) {
+                for (int i = 0; i < length; i++) {
+                    dst[offset + i] = function.applyAsLong(from + i);
+                }
+            }
+        };
+    }
+
+    /**
+     * Kaynağı yeni bir long[] dizisine paralel yazar.
+     */
+    public long[] toArray(ForkJoinPool pool) {
+        long[] array = new long[checkedLength()];
+        pool.invoke(new FillTask(this, array, null, 0, array.length));
+        return array;
+    }
+
+    /**
+     * Kaynağı yeni bir int[] dizisine paralel yazar (değerler int'e daraltılır).
+     */
+    public int[] toIntArray(ForkJoinPool pool) {
+        int[] array = new int[checkedLength()];
+        pool.invoke(new FillTask(this, null, array, 0, array.length));
+        return array;
+    }
+
+    private int checkedLength() {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Kaynak bir diziye sığmayacak kadar büyük: " + size);
+        }
+        return (int) size;
+    }
+
+    // SplittableRandom.mix64 ile aynı karıştırma (Stafford varyant 13)
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    // Diziyi yarıya bölerek doldurur; int[] hedefinde değerler küçük bir tampon üzerinden daraltılır
+    private static final class FillTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final LongSource source;
+        private final long[] longs;
+        private final int[] ints;
+        private final int from;
+        private final int to;
+
+        FillTask(LongSource source, long[] longs, int[] ints, int from, int to) {
+            this.source = source;
+            this.longs = longs;
+            this.ints = ints;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > FILL_LEAF) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new FillTask(source, longs, ints, from, middle),
+                          new FillTask(source, longs, ints, middle, to));
+                return;
+            }
+            if (longs != null) {
+                source.fill(from, longs, from, to - from);
+                return;
+            }
+            long[] buffer = new long[to - from];
+            source.fill(from, buffer, 0, buffer.length);
+            for (int i = 0; i < buffer.length; i++) {
+                ints[from + i] = (int) buffer[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Heap'ten büyük bir long dosyası üzerinde MappedLongFile görevlerini ölçer:
+ * 1. Taban: FileChannel.read ile 1 MB'lık tampona kopyalayarak tek thread'de toplama
+ * 2. MappedLongFile.sum ve stats, farklı paralellik seviyelerinde (GB/s)
+ * 3. MappedLongFile.sortTo ile daha küçük bir dosyanın dış sıralaması ve doğrulaması
+ *
+ * Dosya yoksa rastgele değerlerle oluşturulur. Küçük bir heap ile çalıştırılmalıdır:
+ * <pre>
+ * java -Xmx256m -cp out MappedFileBenchmark /tmp/longs.bin 4 1 1,4
+ * </pre>
+ * Argümanlar: dosya yolu, toplama dosyasının boyutu (GB), sıralama dosyasının boyutu (GB), paralellik seviyeleri.
+ * Ölçümler sıcak sayfa önbelleğiyle yapılır; soğuk okuma için önce önbellek boşaltılmalıdır.
+ */
+public class MappedFileBenchmark {
+
+    private static final int REPS = 3;
+
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args.length > 0 ? args[0] : "/tmp/longs.bin");
+        double sumGb = args.length > 1 ? Double.parseDouble(args[1]) : 4;
+        double sortGb = args.length > 2 ? Double.parseDouble(args[2]) : 1;
+        String[] levelArgs = (args.length > 3 ? args[3] : "1," + Runtime.getRuntime().availableProcessors()).split(",");
+
+        System.out.println("Bellek Eşlemeli Dosya Benchmark'ı (en büyük heap: " +
+                           (Runtime.getRuntime().maxMemory() >> 20) + " MB)");
+        System.out.println("=====================================================");
+
+        long elements = (long) (sumGb * (1L << 30)) / Long.BYTES;
+        ensureFile(path, elements);
+
+        System.out.println("\n1. Taban: FileChannel.read + tek thread toplama");
+        long expected = 0;
+        long best = Long.MAX_VALUE;
+        for (int rep = 0; rep < REPS; rep++) {
+            long started = System.nanoTime();
+            expected = channelSum(path);
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        report("FileChannel.read", elements, best, "");
+
+        try (MappedLongFile file = MappedLongFile.open(path)) {
+            System.out.println("\n2. MappedLongFile: " + file);
+            for (String levelArg : levelArgs) {
+                int parallelism = Integer.parseInt(levelArg.trim());
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                try {
+                    long sum = 0;
+                    best = Long.MAX_VALUE;
+                    for (int rep = 0; rep < REPS; rep++) {
+                        long started = System.nanoTime();
+                        sum = file.sum(pool);
+                        best = Math.min(best, System.nanoTime() - started);
+                    }
+                    report("sum, paralellik " + parallelism, elements, best, sum == expected ? "" : "  HATALI SONUÇ");
+
+                    MappedLongFile.Stats stats = null;
+                    best = Long.MAX_VALUE;
+                    for (int rep = 0; rep < REPS; rep++) {
+                        long started = System.nanoTime();
+                        stats = file.stats(pool);
+                        best = Math.min(best, System.nanoTime() - started);
+                    }
+                    report("stats, paralellik " + parallelism, elements, best, stats.sum == expected ? "" : "  HATALI SONUÇ");
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+
+        long sortElements = (long) (sortGb * (1L << 30)) / Long.BYTES;
+        Path sortInput = Paths.get(path + ".sort-input");
+        Path sortOutput = Paths.get(path + ".sorted");
+        System.out.println("\n3. Dış sıralama: " + (sortElements * Long.BYTES >> 20) + " MB");
+        ensureFile(sortInput, sortElements);
+        int parallelism = Integer.parseInt(levelArgs[levelArgs.length - 1].trim());
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (MappedLongFile input = MappedLongFile.open(sortInput)) {
+            long started = System.nanoTime();
+            input.sortTo(sortOutput, pool);
+            long elapsed = System.nanoTime() - started;
+            long inputSum = input.sum(pool);
+            try (MappedLongFile sorted = MappedLongFile.open(sortOutput)) {
+                boolean ordered = true;
+                for (long i = 1; i < sorted.size() && ordered; i++) {
+                    ordered = sorted.get(i - 1) <= sorted.get(i);
+                }
+                boolean same = sorted.size() == input.size() && sorted.sum(pool) == inputSum;
+                report("sortTo, paralellik " + parallelism, sortElements, elapsed,
+                       ordered && same ? "  (sıralı, toplam aynı)" : "  HATALI SONUÇ");
+            }
+        } finally {
+            pool.shutdown();
+            Files.deleteIfExists(sortOutput);
+        }
+    }
+
+    // Dosya yoksa veya boyutu farklıysa 0..999.999 aralığında rastgele long'larla yazar
+    private static void ensureFile(Path path, long elements) throws IOException {
+        if (Files.exists(path) && Files.size(path) == elements * Long.BYTES) {
+            return;
+        }
+        System.out.println("Dosya oluşturuluyor: " + path + " (" + (elements * Long.BYTES >> 20) + " MB)");
+        long[] chunk = new long[1 << 20];
+        SplittableRandom random = new SplittableRandom(42);
+        try (MappedLongFile file = MappedLongFile.create(path, elements)) {
+            for (long from = 0; from < elements; from += chunk.length) {
+                int length = (int) Math.min(chunk.length, elements - from);
+                for (int i = 0; i < length; i++) {
+                    chunk[i] = random.nextInt(1_000_000);
+                }
+                file.write(from, chunk, 0, length);
+            }
+        }
+    }
+
+    private static long channelSum(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        long sum = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                LongBuffer longs = buffer.asLongBuffer();
+                for (int i = 0; i < longs.limit(); i++) {
+                    sum += longs.get(i);
+                }
+                buffer.position(longs.limit() * Long.BYTES);
+                buffer.compact();
+            }
+        }
+        return sum;
+    }
+
+    private static void report(String name, long elements, long nanos, String suffix) {
+        System.out.printf("  %-24s %9.1f ms  %6.2f GB/s%s%n", name, nanos / 1e6, elements * 8.0 / nanos, suffix);
+    }
+}
@@ -0,0 +1,526 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Bellek eşlemeli (memory-mapped) bir long dosyası üzerinde ForkJoin indirgeme ve sıralama görevleri.
+ *
+ * Dosya heap'e okunmaz: 1 GB'lık bölgeler halinde MappedByteBuffer ile eşlenir ve görevler veriyi
+ * doğrudan işletim sisteminin sayfa önbelleğinden (page cache) okur (sıfır kopya). Böylece heap'ten
+ * birkaç kat büyük dosyalar (ör. -Xmx64m ile 20 GB) toplanabilir; hız disk veya sayfa önbelleği
+ * bant genişliğiyle sınırlıdır. Görevler aralığı sayfa sınırlarına (4096 bayt = 512 long) hizalanmış
+ * noktalardan böler, böylece iki yaprak aynı sayfayı paylaşmaz.
+ *
+ * Dosya başlıksız, art arda yazılmış 8 baytlık long değerlerinden oluşur (varsayılan: little-endian).
+ *
+ * Not: JDK 17'de MemorySegment (Foreign Memory API) henüz incubator modülündedir ve API'si sonraki
+ * sürümlerde değişmiştir; bu yüzden Java 8'den beri kararlı olan MappedByteBuffer kullanılır. Eşlemeler
+ * Java 8'de açıkça kaldırılamaz, kanal kapandıktan sonra çöp toplayıcı tarafından serbest bırakılır.
+ */
+public class MappedLongFile implements Closeable {
+
+    public static final int PAGE_SIZE = 4096;
+    private static final int ELEMENTS_PER_PAGE = PAGE_SIZE / Long.BYTES;
+    private static final int REGION_SHIFT = 27;                       // 2^27 long = 1 GB bölge
+    private static final long REGION_MASK = (1L << REGION_SHIFT) - 1;
+    private static final int DEFAULT_LEAF_ELEMENTS = 1 << 20;         // 8 MB yaprak
+    private static final int DEFAULT_RUN_ELEMENTS = 1 << 22;          // 32 MB sıralama koşusu (heap'te)
+
+    private final Path path;
+    private final FileChannel channel;
+    private final LongBuffer[] regions;
+    private final long size;
+
+    private MappedLongFile(Path path, FileChannel channel, long size, FileChannel.MapMode mode, ByteOrder order)
+            throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+        int regionCount = (int) ((size + REGION_MASK) >>> REGION_SHIFT);
+        this.regions = new LongBuffer[regionCount];
+        for (int r = 0; r < regionCount; r++) {
+            long first = (long) r << REGION_SHIFT;
+            long length = Math.min(size - first, 1L << REGION_SHIFT);
+            regions[r] = channel.map(mode, first * Long.BYTES, length * Long.BYTES).order(order).asLongBuffer();
+        }
+    }
+
+    /**
+     * Mevcut bir little-endian long dosyasını salt okunur eşler.
+     */
+    public static MappedLongFile open(Path path) throws IOException {
+        return open(path, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Mevcut bir long dosyasını verilen bayt sırasıyla salt okunur eşler
+     * (ör. DataOutputStream ile yazılmış dosyalar için BIG_ENDIAN).
+     */
+    public static MappedLongFile open(Path path, ByteOrder order) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long bytes = channel.size();
+            if (bytes % Long.BYTES != 0) {
+                throw new IOException("Dosya boyutu 8'in katı değil: " + path + " (" + bytes + " bayt)");
+            }
+            return new MappedLongFile(path, channel, bytes / Long.BYTES, FileChannel.MapMode.READ_ONLY, order);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * size elemanlık yeni (veya üzerine yazılacak) bir little-endian dosya oluşturur ve yazılabilir eşler.
+     */
+    public static MappedLongFile create(Path path, long size) throws IOException {
+        return create(path, size, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * size elemanlık yeni (veya üzerine yazılacak) bir dosya oluşturur ve verilen bayt sırasıyla yazılabilir eşler.
+     */
+    public static MappedLongFile create(Path path, long size, ByteOrder order) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return new MappedLongFile(path, channel, size, FileChannel.MapMode.READ_WRITE, order);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Dosyadaki long sayısı.
+     */
+    public long size() {
+        return size;
+    }
+
+    public long get(long index) {
+        return regions[(int) (index >>> REGION_SHIFT)].get((int) (index & REGION_MASK));
+    }
+
+    /**
+     * Yalnızca create ile açılmış dosyalarda kullanılabilir.
+     */
+    public void put(long index, long value) {
+        regions[(int) (index >>> REGION_SHIFT)].put((int) (index & REGION_MASK), value);
+    }
+
+    /**
+     * Tüm elemanların toplamı, verilen havuzda paralel olarak.
+     */
+    public long sum(ForkJoinPool pool) {
+        return pool.invoke(new SumTask(this, 0, size, SplitPolicy.fixed(DEFAULT_LEAF_ELEMENTS)));
+    }
+
+    /**
+     * Tek geçişte eleman sayısı, toplam, en küçük ve en büyük değer.
+     */
+    public Stats stats(ForkJoinPool pool) {
+        return pool.invoke(new StatsTask(this, 0, size, SplitPolicy.fixed(DEFAULT_LEAF_ELEMENTS)));
+    }
+
+    /**
+     * Dosyayı sıralayıp output'a yazar (dış sıralama, heap kullanımı ~ paralellik x 32 MB).
+     */
+    public void sortTo(Path output, ForkJoinPool pool) throws IOException {
+        sortTo(output, pool, DEFAULT_RUN_ELEMENTS);
+    }
+
+    /**
+     * Dosyayı sıralayıp output'a yazar:
+     * 1. Koşular: dosya runElements'lik parçalara bölünür; her parça paralel olarak heap'e okunur,
+     *    Arrays.sort ile sıralanır ve geçici bir dosyaya yazılır
+     * 2. Birleştirme: sıralı koşulardan örnek değerler alınıp çıktıyı eşit parçalara bölen ayırıcılar
+     *    seçilir; her ayırıcının her koşudaki konumu ikili aramayla bulunur. Böylece çıktının her parçası
+     *    bağımsız bir k-yollu birleştirme olur ve paralel çalışır
+     */
+    public void sortTo(Path output, ForkJoinPool pool, int runElements) throws IOException {
+        if (runElements < ELEMENTS_PER_PAGE) {
+            throw new IllegalArgumentException("Koşu boyutu en az bir sayfa olmalı: " + runElements);
+        }
+        runElements -= runElements % ELEMENTS_PER_PAGE;
+        Path runsPath = Paths.get(output.toString() + ".runs");
+        try (MappedLongFile runs = create(runsPath, size, order());
+             MappedLongFile target = create(output, size, order())) {
+            int runCount = (int) ((size + runElements - 1) / runElements);
+            if (runCount > 0) {
+                pool.invoke(new SortRunsTask(this, runs, 0, runCount, runElements));
+                pool.invoke(new MergeRunsTask(runs, target, runElements, runCount, pool.getParallelism() * 4));
+            }
+        } finally {
+            Files.deleteIfExists(runsPath);
+        }
+    }
+
+    private ByteOrder order() {
+        return regions.length > 0 ? regions[0].order() : ByteOrder.LITTLE_ENDIAN;
+    }
+
+    // [from, from + length) aralığını dst[offset...] konumuna toplu okur (bölge sınırlarını aşabilir)
+    void read(long from, long[] dst, int offset, int length) {
+        while (length > 0) {
+            LongBuffer view = regions[(int) (from >>> REGION_SHIFT)].duplicate();
+            int start = (int) (from & REGION_MASK);
+            int count = Math.min(length, view.limit() - start);
+            view.position(start);
+            view.get(dst, offset, count);
+            from += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    // src[offset, offset + length) aralığını dosyada from konumundan itibaren toplu yazar
+    void write(long from, long[] src, int offset, int length) {
+        while (length > 0) {
+            LongBuffer view = regions[(int) (from >>> REGION_SHIFT)].duplicate();
+            int start = (int) (from & REGION_MASK);
+            int count = Math.min(length, view.limit() - start);
+            view.position(start);
+            view.put(src, offset, count);
+            from += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    // Aralığın ortasına en yakın, sayfa sınırına hizalı bölme noktası; bölünemiyorsa -1
+    static long pageAlignedMiddle(long from, long to) {
+        long middle = (from + (to - from) / 2) / ELEMENTS_PER_PAGE * ELEMENTS_PER_PAGE;
+        return middle > from && middle < to ? middle : -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return path + " (" + size + " long, " + (size * Long.BYTES >> 20) + " MB)";
+    }
+
+    /**
+     * Eleman sayısı, toplam, en küçük ve en büyük değerden oluşan birleştirilebilir özet.
+     */
+    public static final class Stats {
+        public final long count;
+        public final long sum;
+        public final long min;
+        public final long max;
+
+        Stats(long count, long sum, long min, long max) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        Stats combine(Stats other) {
+            return new Stats(count + other.count, sum + other.sum, Math.min(min, other.min), Math.max(max, other.max));
+        }
+
+        public double average() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max;
+        }
+    }
+
+    // Eşlenmiş dosyanın [from, to) aralığını toplayan görev; yapraklar bölgelerden doğrudan okur
+    static class SumTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final MappedLongFile file;
+        private final long from;
+        private final long to;
+        private final SplitPolicy splitPolicy;
+
+        SumTask(MappedLongFile file, long from, long to, SplitPolicy splitPolicy) {
+            this.file = file;
+            this.from = from;
+            this.to = to;
+            this.splitPolicy = splitPolicy;
+        }
+
+        @Override
+        protected Long compute() {
+            long middle = pageAlignedMiddle(from, to);
+            if (middle < 0 || !splitPolicy.shouldSplit((int) Math.min(Integer.MAX_VALUE, to - from))) {
+                return computeDirectly();
+            }
+            SumTask left = new SumTask(file, from, middle, splitPolicy);
+            left.fork();
+            long right = new SumTask(file, middle, to, splitPolicy).compute();
+            return left.join() + right;
+        }
+
+        private long computeDirectly() {
+            long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+            long index = from;
+            while (index < to) {
+                LongBuffer region = file.regions[(int) (index >>> REGION_SHIFT)];
+                int start = (int) (index & REGION_MASK);
+                int end = (int) Math.min(region.limit(), start + (to - index));
+                int i = start;
+                for (; i < end - 3; i += 4) {
+                    s0 += region.get(i);
+                    s1 += region.get(i + 1);
+                    s2 += region.get(i + 2);
+                    s3 += region.get(i + 3);
+                }
+                for (; i < end; i++) {
+                    s0 += region.get(i);
+                }
+                index += end - start;
+            }
+            return (s0 + s1) + (s2 + s3);
+        }
+    }
+
+    // Eşlenmiş dosyanın [from, to) aralığının özetini (Stats) tek geçişte çıkaran görev
+    static class StatsTask extends RecursiveTask<Stats> {
+        private static final long serialVersionUID = 1L;
+
+        private final MappedLongFile file;
+        private final long from;
+        private final long to;
+        private final SplitPolicy splitPolicy;
+
+        StatsTask(MappedLongFile file, long from, long to, SplitPolicy splitPolicy) {
+            this.file = file;
+            this.from = from;
+            this.to = to;
+            this.splitPolicy = splitPolicy;
+        }
+
+        @Override
+        protected Stats compute() {
+            long middle = pageAlignedMiddle(from, to);
+            if (middle < 0 || !splitPolicy.shouldSplit((int) Math.min(Integer.MAX_VALUE, to - from))) {
+                return computeDirectly();
+            }
+            StatsTask left = new StatsTask(file, from, middle, splitPolicy);
+            left.fork();
+            Stats right = new StatsTask(file, middle, to, splitPolicy).compute();
+            return left.join().combine(right);
+        }
+
+        private Stats computeDirectly() {
+            long sum = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            long index = from;
+            while (index < to) {
+                LongBuffer region = file.regions[(int) (index >>> REGION_SHIFT)];
+                int start = (int) (index & REGION_MASK);
+                int end = (int) Math.min(region.limit(), start + (to - index));
+                for (int i = start; i < end; i++) {
+                    long value = region.get(i);
+                    sum += value;
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+                index += end - start;
+            }
+            return new Stats(to - from, sum, min, max);
+        }
+    }
+
+    // [fromRun, toRun) koşularını heap'e okuyup sıralar ve koşu dosyasına yazar
+    static class SortRunsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final MappedLongFile source;
+        private final MappedLongFile runs;
+        private final int fromRun;
+        private final int toRun;
+        private final int runElements;
+
+        SortRunsTask(MappedLongFile source, MappedLongFile runs, int fromRun, int toRun, int runElements) {
+            this.source = source;
+            this.runs = runs;
+            this.fromRun = fromRun;
+            this.toRun = toRun;
+            this.runElements = runElements;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRun - fromRun > 1) {
+                int middle = (fromRun + toRun) >>> 1;
+                invokeAll(new SortRunsTask(source, runs, fromRun, middle, runElements),
+                          new SortRunsTask(source, runs, middle, toRun, runElements));
+                return;
+            }
+            long start = (long) fromRun * runElements;
+            int length = (int) Math.min(runElements, source.size - start);
+            long[] buffer = new long[length];
+            source.read(start, buffer, 0, length);
+            Arrays.sort(buffer);
+            runs.write(start, buffer, 0, length);
+        }
+    }
+
+    // Sıralı koşuları ayırıcı değerlere göre bölümlere ayırır ve her bölümü paralel k-yollu birleştirir
+    static class MergeRunsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private static final int SAMPLES_PER_RUN = 64;
+
+        private final MappedLongFile runs;
+        private final MappedLongFile target;
+        private final int runElements;
+        private final int runCount;
+        private final int partitions;
+
+        MergeRunsTask(MappedLongFile runs, MappedLongFile target, int runElements, int runCount, int partitions) {
+            this.runs = runs;
+            this.target = target;
+            this.runElements = runElements;
+            this.runCount = runCount;
+            this.partitions = partitions;
+        }
+
+        @Override
+        protected void compute() {
+            // Ayırıcılar: her koşudan eşit aralıklı örnekler, sıralanıp bölüm sınırlarında seçilir
+            long[] samples = new long[runCount * SAMPLES_PER_RUN];
+            for (int r = 0; r < runCount; r++) {
+                long start = runStart(r);
+                long length = runEnd(r) - start;
+                for (int s = 0; s < SAMPLES_PER_RUN; s++) {
+                    samples[r * SAMPLES_PER_RUN + s] = runs.get(start + length * s / SAMPLES_PER_RUN);
+                }
+            }
+            Arrays.sort(samples);
+
+            // bounds[p][r]: p. bölümün r. koşudaki başlangıcı (p. ayırıcının alt sınırı)
+            long[][] bounds = new long[partitions + 1][runCount];
+            for (int r = 0; r < runCount; r++) {
+                bounds[0][r] = runStart(r);
+                bounds[partitions][r] = runEnd(r);
+            }
+            for (int p = 1; p < partitions; p++) {
+                long splitter = samples[(int) ((long) samples.length * p / partitions)];
+                for (int r = 0; r < runCount; r++) {
+                    bounds[p][r] = lowerBound(runStart(r), runEnd(r), splitter);
+                }
+            }
+
+            PartitionMerge[] merges = new PartitionMerge[partitions];
+            long out = 0;
+            for (int p = 0; p < partitions; p++) {
+                merges[p] = new PartitionMerge(runs, target, bounds[p], bounds[p + 1], out);
+                for (int r = 0; r < runCount; r++) {
+                    out += bounds[p + 1][r] - bounds[p][r];
+                }
+            }
+            invokeAll(merges);
+        }
+
+        private long runStart(int run) {
+            return (long) run * runElements;
+        }
+
+        private long runEnd(int run) {
+            return Math.min(runs.size, (long) (run + 1) * runElements);
+        }
+
+        // [from, to) sıralı aralığında value'dan küçük olmayan ilk konum
+        private long lowerBound(long from, long to, long value) {
+            while (from < to) {
+                long middle = (from + to) >>> 1;
+                if (runs.get(middle) < value) {
+                    from = middle + 1;
+                } else {
+                    to = middle;
+                }
+            }
+            return from;
+        }
+    }
+
+    // Her koşunun [from[r], to[r]) aralığını ikili min-yığın (heap) ile birleştirip target[out...] konumuna yazar
+    static class PartitionMerge extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final MappedLongFile runs;
+        private final MappedLongFile target;
+        private final long[] from;
+        private final long[] to;
+        private final long out;
+
+        PartitionMerge(MappedLongFile runs, MappedLongFile target, long[] from, long[] to, long out) {
+            this.runs = runs;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            long[] position = from.clone();
+            int[] heap = new int[position.length]; // Koşu numaraları, baştaki değere göre min-yığın
+            long[] head = new long[position.length];
+            int heapSize = 0;
+            for (int r = 0; r < position.length; r++) {
+                if (position[r] < to[r]) {
+                    head[r] = runs.get(position[r]);
+                    heap[heapSize++] = r;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heap, heapSize, head, i);
+            }
+            long index = out;
+            while (heapSize > 0) {
+                int run = heap[0];
+                target.put(index++, head[run]);
+                if (++position[run] < to[run]) {
+                    head[run] = runs.get(position[run]);
+                } else {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, head, 0);
+            }
+        }
+
+        private static void siftDown(int[] heap, int heapSize, long[] head, int i) {
+            int run = heap[i];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && head[heap[child + 1]] < head[heap[child]]) {
+                    child++;
+                }
+                if (head[heap[child]] >= head[run]) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = run;
+        }
+    }
+}
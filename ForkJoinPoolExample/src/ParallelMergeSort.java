@@ -0,0 +1,163 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Birleştirme adımı da paralel çalışan, kopyasız (ping-pong) merge sort.
+ *
+ * MergeSortTask'tan iki farkı vardır:
+ * 1. Ping-pong tamponlar: her seviyede aralığı geçici diziye kopyalamak yerine kaynak ve hedef dizi
+ *    seviyeden seviyeye yer değiştirir. Sonucu A'ya yazacak bir görev, çocuklarından sonuçlarını B'ye
+ *    yazmalarını ister ve B'den A'ya birleştirir. Kopyalama yalnızca hedefi geçici dizi olan yapraklarda
+ *    yapılır (toplamda en fazla bir geçiş)
+ * 2. Paralel birleştirme: büyük birleştirmeler co-ranking ile bölünür. Çıktının ortasındaki k. konum için
+ *    ikili aramayla sol diziden i, sağ diziden k - i eleman alındığı nokta bulunur; iki yarı birbirinden
+ *    bağımsız ve eşit boyutlu olarak birleştirilir. Böylece kök seviyedeki 20M elemanlık birleştirme de
+ *    tek thread'de kalmaz
+ *
+ * Eşit elemanlarda sol dizi önce gelir, yani sıralama kararlıdır.
+ */
+public class ParallelMergeSort {
+
+    private static final int MERGE_CUTOFF = 1 << 15; // Bundan küçük birleştirmeler sıralı yapılır
+
+    private ParallelMergeSort() {
+    }
+
+    /**
+     * Diziyi ortak havuzda sıralar.
+     */
+    public static void sort(int[] array) {
+        sort(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Diziyi verilen havuzda, uyarlanabilir bölme politikasıyla sıralar.
+     */
+    public static void sort(int[] array, ForkJoinPool pool) {
+        sort(array, pool, SplitPolicy.adaptive());
+    }
+
+    /**
+     * Diziyi verilen havuzda ve bölme politikasıyla sıralar.
+     */
+    public static void sort(int[] array, ForkJoinPool pool, SplitPolicy splitPolicy) {
+        if (array.length < 2) {
+            return;
+        }
+        pool.invoke(new SortTask(array, new int[array.length], 0, array.length, false, splitPolicy));
+    }
+
+    // [from, to) aralığını sıralar; sonuç intoTemp ise temp'e, değilse array'e yazılır
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] array;
+        private final int[] temp;
+        private final int from;
+        private final int to;
+        private final boolean intoTemp;
+        private final SplitPolicy splitPolicy;
+
+        SortTask(int[] array, int[] temp, int from, int to, boolean intoTemp, SplitPolicy splitPolicy) {
+            this.array = array;
+            this.temp = temp;
+            this.from = from;
+            this.to = to;
+            this.intoTemp = intoTemp;
+            this.splitPolicy = splitPolicy;
+        }
+
+        @Override
+        protected void compute() {
+            if (!splitPolicy.shouldSplit(to - from)) {
+                // Veri her zaman array'de durur; yaprak orada sıralanır, gerekirse hedefe taşınır
+                Arrays.sort(array, from, to);
+                if (intoTemp) {
+                    System.arraycopy(array, from, temp, from, to - from);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            // Çocuklar sonuçlarını diğer tampona yazar, buradan bu görevin hedefine birleştirilir
+            invokeAll(new SortTask(array, temp, from, middle, !intoTemp, splitPolicy),
+                      new SortTask(array, temp, middle, to, !intoTemp, splitPolicy));
+            int[] source = intoTemp ? array : temp;
+            int[] target = intoTemp ? temp : array;
+            new MergeTask(source, from, middle, middle, to, target, from).invoke();
+        }
+    }
+
+    // source[leftFrom, leftTo) ve source[rightFrom, rightTo) sıralı dizilerini target[out...] konumuna birleştirir
+    private static final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] source;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final int[] target;
+        private final int out;
+
+        MergeTask(int[] source, int leftFrom, int leftTo, int rightFrom, int rightTo, int[] target, int out) {
+            this.source = source;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.target = target;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            int total = (leftTo - leftFrom) + (rightTo - rightFrom);
+            if (total <= MERGE_CUTOFF) {
+                mergeSequential();
+                return;
+            }
+            // Çıktının ilk yarısına soldan kaç eleman girdiğini bul, iki yarıyı paralel birleştir
+            int half = total >>> 1;
+            int leftSplit = leftFrom + coRank(half);
+            int rightSplit = rightFrom + (half - (leftSplit - leftFrom));
+            invokeAll(new MergeTask(source, leftFrom, leftSplit, rightFrom, rightSplit, target, out),
+                      new MergeTask(source, leftSplit, leftTo, rightSplit, rightTo, target, out + half));
+        }
+
+        // Birleştirilmiş çıktının ilk k elemanı içinde sol diziden gelen eleman sayısı (ikili arama)
+        private int coRank(int k) {
+            int leftLength = leftTo - leftFrom;
+            int rightLength = rightTo - rightFrom;
+            int low = Math.max(0, k - rightLength);
+            int high = Math.min(k, leftLength);
+            while (low < high) {
+                int i = (low + high) >>> 1;
+                // Sol dizinin i. elemanı, sağdan alınacak son elemandan büyük değilse soldan daha fazla alınmalı
+                if (source[leftFrom + i] <= source[rightFrom + k - i - 1]) {
+                    low = i + 1;
+                } else {
+                    high = i;
+                }
+            }
+            return low;
+        }
+
+        private void mergeSequential() {
+            int i = leftFrom;
+            int j = rightFrom;
+            int k = out;
+            // Dalsız birleştirme: rastgele veride tahmin edilemeyen if yerine koşullu atamalar
+            while (i < leftTo && j < rightTo) {
+                int left = source[i];
+                int right = source[j];
+                boolean takeLeft = left <= right;
+                target[k++] = takeLeft ? left : right;
+                i += takeLeft ? 1 : 0;
+                j += takeLeft ? 0 : 1;
+            }
+            System.arraycopy(source, i, target, k, leftTo - i);
+            System.arraycopy(source, j, target, k + (leftTo - i), rightTo - j);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Sınırlı aralıktaki int anahtarlar için ForkJoinPool üzerinde paralel LSD radix sort.
+ *
+ * Karşılaştırmalı sıralamanın O(n log n) maliyeti yerine, anahtarlar birkaç basamak geçişinde
+ * (her geçiş O(n)) sıralanır. Dizi sabit sayıda bitişik parçaya bölünür ve her geçiş üç adımdan oluşur:
+ * 1. Histogram: her parça kendi basamak sayaçlarını paralel olarak doldurur (paylaşılan sayaç yok)
+ * 2. Önek toplamı: sayaçlar "basamak, sonra parça" sırasıyla toplanıp her parçanın her basamak
+ *    için yazmaya başlayacağı konum bulunur; bu sıra sıralamanın kararlı olmasını sağlar
+ * 3. Dağıtma (scatter): her parça elemanlarını kendi konumlarından itibaren hedef diziye paralel yazar
+ *
+ * Anahtar aralığı (en küçük - en büyük) paralel bir taramayla bulunur, anahtarlar en küçük değere
+ * göre kaydırılır ve basamak sayısı aralığın bit genişliğine göre seçilir (ör. 0..999.999 için
+ * 10'ar bitlik 2 geçiş). Tek bir basamağa düşen geçişler atlanır. Aralık 2 geçişe sığmayacak kadar
+ * genişse (22 bitten fazla) veya dizi küçükse sıralama MergeSortTask'a bırakılır.
+ */
+public class ParallelRadixSort {
+
+    private static final int MAX_DIGIT_BITS = 11;             // 2048 kova: sayaçlar L1'e sığar
+    private static final int MAX_PASSES = 2;
+    private static final int MIN_RADIX_SIZE = 1 << 16;        // Bundan küçük dizilerde sabit maliyet ağır basar
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelRadixSort() {
+    }
+
+    /**
+     * Diziyi ortak havuzda sıralar.
+     *
+     * @return Radix sort kullanıldıysa true, MergeSortTask'a bırakıldıysa false
+     */
+    public static boolean sort(int[] array) {
+        return sort(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Diziyi verilen havuzda sıralar.
+     *
+     * @return Radix sort kullanıldıysa true, MergeSortTask'a bırakıldıysa false
+     */
+    public static boolean sort(int[] array, ForkJoinPool pool) {
+        int n = array.length;
+        if (n < MIN_RADIX_SIZE) {
+            return fallback(array, pool);
+        }
+        int chunks = Math.min(n / 1024, pool.getParallelism() * CHUNKS_PER_THREAD);
+        int chunkSize = (n + chunks - 1) / chunks;
+
+        // Anahtar aralığı: her parçanın en küçük ve en büyük değeri, sonra birleştirme
+        int[] chunkMin = new int[chunks];
+        int[] chunkMax = new int[chunks];
+        pool.invoke(new ChunkAction(0, chunks, chunk -> {
+            int from = chunk * chunkSize;
+            int to = Math.min(n, from + chunkSize);
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                min = Math.min(min, array[i]);
+                max = Math.max(max, array[i]);
+            }
+            chunkMin[chunk] = min;
+            chunkMax[chunk] = max;
+        }));
+        int min = Arrays.stream(chunkMin).min().getAsInt();
+        int max = Arrays.stream(chunkMax).max().getAsInt();
+
+        int bits = 64 - Long.numberOfLeadingZeros((long) max - min);
+        int passes = Math.max(1, (bits + MAX_DIGIT_BITS - 1) / MAX_DIGIT_BITS);
+        if (passes > MAX_PASSES) {
+            return fallback(array, pool);
+        }
+        if (bits == 0) {
+            return true; // Tüm elemanlar eşit
+        }
+        int digitBits = (bits + passes - 1) / passes;
+        int radix = 1 << digitBits;
+
+        int[] source = array;
+        int[] target = new int[n];
+        int[][] counts = new int[chunks][radix];
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * digitBits;
+            int mask = radix - 1;
+            int[] src = source;
+            int[] dst = target;
+
+            // 1. Parça başına histogram
+            pool.invoke(new ChunkAction(0, chunks, chunk -> {
+                int[] count = counts[chunk];
+                Arrays.fill(count, 0);
+                int to = Math.min(n, (chunk + 1) * chunkSize);
+                for (int i = chunk * chunkSize; i < to; i++) {
+                    count[((src[i] - min) >>> shift) & mask]++;
+                }
+            }));
+
+            // 2. Önek toplamı: basamak sırasıyla, her basamakta parça sırasıyla (kararlı)
+            int offset = 0;
+            boolean singleDigit = false;
+            for (int digit = 0; digit < radix; digit++) {
+                int digitStart = offset;
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    int count = counts[chunk][digit];
+                    counts[chunk][digit] = offset;
+                    offset += count;
+                }
+                if (offset - digitStart == n) {
+                    singleDigit = true; // Bu geçişte tüm elemanlar aynı basamakta, sıra değişmez
+                    break;
+                }
+            }
+            if (singleDigit) {
+                continue;
+            }
+
+            // 3. Dağıtma: her parça kendi konumlarına yazar
+            pool.invoke(new ChunkAction(0, chunks, chunk -> {
+                int[] position = counts[chunk];
+                int to = Math.min(n, (chunk + 1) * chunkSize);
+                for (int i = chunk * chunkSize; i < to; i++) {
+                    int value = src[i];
+                    dst[position[((value - min) >>> shift) & mask]++] = value;
+                }
+            }));
+            source = dst;
+            target = src;
+        }
+
+        // Sonuç yardımcı dizide kaldıysa paralel olarak geri kopyala
+        if (source != array) {
+            int[] sorted = source;
+            pool.invoke(new ChunkAction(0, chunks, chunk -> {
+                int from = chunk * chunkSize;
+                System.arraycopy(sorted, from, array, from, Math.max(0, Math.min(n, from + chunkSize) - from));
+            }));
+        }
+        return true;
+    }
+
+    private static boolean fallback(int[] array, ForkJoinPool pool) {
+        pool.invoke(new RecursiveActionExample.MergeSortTask(array, 0, array.length, new int[array.length]));
+        return false;
+    }
+
+    // Parça indekslerini [from, to) ikiye bölerek her parça için gövdeyi paralel çalıştırır
+    private static final class ChunkAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        ChunkAction(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkAction(from, middle, body), new ChunkAction(middle, to, body));
+        }
+    }
+}
@@ -1,8 +1,6 @@
 import java.util.Arrays;
-import java.util.List;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
@@ -19,9 +17,7 @@ public class ParallelStreamExample {
         
         // 1. Paralel Stream'in nasıl oluşturulduğunu gösterme
         System.out.println("\n1. Paralel Stream Oluşturma:");
-        List<Integer> numbers = IntStream.rangeClosed(1, 10)
-                                         .boxed()
-                                         .collect(Collectors.toList());
+        IntList numbers = IntList.rangeClosed(1, 10); // Kutulamasız liste, akışı doğrudan IntStream
         
         System.out.println("Sıralı işleme (Stream):");
         numbers.stream()
@@ -39,11 +35,14 @@ public class ParallelStreamExample {
                })
                .forEach(n -> {});
         
+        System.out.println("\nKutulamasız toplayıcılar: toplam = " + PrimitiveCollectors.sum(numbers.parallelStream()) +
+                           ", 3'e bölümden kalan gruplar = " + PrimitiveCollectors.groupCount(numbers.parallelStream(), n -> n % 3));
+        
         // 2. Paralel Stream Performansı
         System.out.println("\n2. Paralel Stream Performansı:");
         
-        // Büyük veri seti oluştur
-        long[] largeArray = LongStream.rangeClosed(1, 50_000_000).toArray(); // 50 milyon eleman
+        // Büyük veri seti oluştur (aşağıdaki örnekler dizi üzerinde çalıştığı için paralel doldurulur)
+        long[] largeArray = LongSource.rangeClosed(1, 50_000_000).toArray(ForkJoinPool.commonPool()); // 50 milyon eleman
         
         // Sıralı işleme
         long startTime = System.currentTimeMillis();
@@ -59,19 +58,30 @@ public class ParallelStreamExample {
         System.out.println("Paralel Stream ile Toplam: " + parallelSum);
         System.out.println("Paralel Stream Süresi: " + (endTime - startTime) + " ms");
         
+        // Diziye yazmadan: değerler her parçada üretilip aynı geçişte toplanır (400 MB'lık dizi gerekmez)
+        startTime = System.currentTimeMillis();
+        long lazySum = LongStream.rangeClosed(1, 50_000_000).parallel().sum();
+        endTime = System.currentTimeMillis();
+        System.out.println("Dizisiz Paralel Stream ile Toplam: " + lazySum + ", süre: " + (endTime - startTime) + " ms");
+        startTime = System.currentTimeMillis();
+        long generatedSum = LongReducer.sum().reduce(LongSource.rangeClosed(1, 50_000_000), ForkJoinPool.commonPool());
+        endTime = System.currentTimeMillis();
+        System.out.println("Dizisiz LongReducer ile Toplam: " + generatedSum + ", süre: " + (endTime - startTime) + " ms");
+        
         // 3. Ortak ForkJoinPool İnceleme
         System.out.println("\n3. Ortak ForkJoinPool İnceleme:");
         ForkJoinPool commonPool = ForkJoinPool.commonPool();
         System.out.println("Ortak Havuz Paralellik: " + commonPool.getParallelism());
         System.out.println("İşlemci Sayısı: " + Runtime.getRuntime().availableProcessors());
         
-        // 4. Özel ForkJoinPool ile Paralel İşleme
-        System.out.println("\n4. Özel ForkJoinPool ile Paralel İşleme:");
-        ForkJoinPool customPool = new ForkJoinPool(4); // 4 thread'li özel havuz
-        
-        try {
-            long customSum = customPool.submit(() ->
-                    // Bu lambda içindeki paralel stream, özel havuzu kullanır
+        // 4. İsimli ForkJoinPool ile Paralel İşleme
+        System.out.println("\n4. İsimli ForkJoinPool ile Paralel İşleme:");
+        // Ağır stream ortak havuzu aç bırakmasın diye kendi havuzunda çalışır
+        try (ForkJoinPoolRegistry pools = new ForkJoinPoolRegistry()) {
+            pools.register("analytics", 4); // 4 thread'li isimli havuz
+            
+            long customSum = pools.runIn("analytics", () ->
+                    // Bu lambda içindeki paralel stream, isimli havuzu kullanır
                     Arrays.stream(largeArray)
                           .parallel()
                           .map(i -> {
@@ -88,13 +98,12 @@ public class ParallelStreamExample {
                               return i * 2;
                           })
                           .sum()
-            ).get();
-            
-            System.out.println("Özel Havuz ile Toplam: " + customSum);
-            System.out.println("Özel Havuz Boyutu: " + customPool.getPoolSize());
+            );
             
-        } finally {
-            customPool.shutdown();
+            System.out.println("İsimli Havuz ile Toplam: " + customSum);
+            for (ForkJoinPoolRegistry.PoolMetrics metrics : pools.metrics()) {
+                System.out.println("Havuz metrikleri: " + metrics);
+            }
         }
         
         // 5. Stream Sıra Garantisini Gösterme
@@ -119,19 +128,19 @@ public class ParallelStreamExample {
         
         // 6. Küçük veri setlerinde paralel vs sıralı performans
         System.out.println("\n\n6. Küçük Veri Setlerinde Performans Karşılaştırması:");
-        List<Integer> smallList = IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList());
+        IntList smallList = IntList.rangeClosed(1, 100);
         
         startTime = System.currentTimeMillis();
         int smallSequentialSum = smallList.stream()
                                .map(n -> performExpensiveOperation(n))
-                               .reduce(0, Integer::sum);
+                               .sum();
         endTime = System.currentTimeMillis();
         System.out.println("Küçük Liste - Sıralı İşleme: " + (endTime - startTime) + " ms");
         
         startTime = System.currentTimeMillis();
         int smallParallelSum = smallList.parallelStream()
                              .map(n -> performExpensiveOperation(n))
-                             .reduce(0, Integer::sum);
+                             .sum();
         endTime = System.currentTimeMillis();
         System.out.println("Küçük Liste - Paralel İşleme: " + (endTime - startTime) + " ms");
         
@@ -0,0 +1,159 @@
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Kutulu List&lt;Integer&gt; akışlarını IntList + PrimitiveCollectors ile karşılaştırır:
+ * - Eleman başına bellek: GC sonrası heap kullanımındaki artış / eleman sayısı
+ * - sum, histogram ve grup sayımı: sıralı ve paralel (isimli havuzda) en iyi süre, milyon eleman/s ve
+ *   bir çağrı boyunca tüm thread'lerde ayrılan bellek
+ * <pre>
+ * java -Xmx3g -cp out PrimitiveCollectionBenchmark 10000000 4
+ * </pre>
+ * Argümanlar: eleman sayısı, paralel havuzun paralelliği.
+ */
+public class PrimitiveCollectionBenchmark {
+
+    private static final int REPS = 5;
+    private static final int BOUND = 1_000_000; // Integer önbelleğinin (-128..127) dışında değerler
+    private static final int BUCKETS = 100;
+    private static final int GROUPS = 1_000;
+
+    private static Object retained; // Ölçülen yapının heap ölçülene kadar erişilebilir kalması için
+    private static long sink;       // Sonuçların JIT tarafından silinmemesi için
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        System.out.println("Kutulamasız Koleksiyon Benchmark'ı (" + size + " eleman, paralellik " + parallelism + ")");
+        System.out.println("=================================================================");
+
+        LongSource source = LongSource.random(42, size, BOUND);
+        int[] ints = source.toIntArray(ForkJoinPool.commonPool());
+        long[] longs = source.toArray(ForkJoinPool.commonPool());
+        IntList primitive = IntList.of(ints);
+
+        System.out.println("\nEleman başına bellek:");
+        printBytesPerElement("List<Integer>", size, () -> primitive.stream().boxed().collect(Collectors.toList()));
+        printBytesPerElement("IntList", size, () -> IntList.of(ints));
+        printBytesPerElement("List<Long>", size, () -> LongList.of(longs).stream().boxed().collect(Collectors.toList()));
+        printBytesPerElement("LongList", size, () -> LongList.of(longs));
+        retained = null;
+
+        List<Integer> boxed = primitive.stream().boxed().collect(Collectors.toList());
+        long width = (BOUND + BUCKETS - 1) / BUCKETS;
+        long expectedSum = PrimitiveCollectors.sum(primitive.stream());
+        long expectedHistogram = checksum(PrimitiveCollectors.histogram(primitive.stream(), 0, BOUND, BUCKETS));
+        long expectedGroups = checksum(PrimitiveCollectors.groupCount(primitive.stream(), n -> n % GROUPS));
+
+        try (ForkJoinPoolRegistry pools = new ForkJoinPoolRegistry()) {
+            pools.register("bench", parallelism);
+            for (boolean parallel : new boolean[] {false, true}) {
+                System.out.println(parallel ? "\nParalel (\"bench\" havuzu):" : "\nSıralı:");
+                Runner runner = parallel ? run -> pools.runIn("bench", run::run) : Run::run;
+
+                measure("sum      List<Integer>", size, expectedSum, () -> runner.run(() ->
+                        (parallel ? boxed.parallelStream() : boxed.stream()).reduce(0L, (s, n) -> s + n, Long::sum)));
+                measure("sum      IntList", size, expectedSum, () -> runner.run(() ->
+                        PrimitiveCollectors.sum(parallel ? primitive.parallelStream() : primitive.stream())));
+
+                measure("histogram List<Integer>", size, expectedHistogram, () -> runner.run(() ->
+                        checksum((parallel ? boxed.parallelStream() : boxed.stream())
+                                .collect(Collectors.groupingBy(n -> n / width, Collectors.counting())))));
+                measure("histogram IntList", size, expectedHistogram, () -> runner.run(() ->
+                        checksum(PrimitiveCollectors.histogram(parallel ? primitive.parallelStream() : primitive.stream(),
+                                                               0, BOUND, BUCKETS))));
+
+                measure("grup     List<Integer>", size, expectedGroups, () -> runner.run(() ->
+                        checksum((parallel ? boxed.parallelStream() : boxed.stream())
+                                .collect(Collectors.groupingBy(n -> (long) (n % GROUPS), Collectors.counting())))));
+                measure("grup     IntList", size, expectedGroups, () -> runner.run(() ->
+                        checksum(PrimitiveCollectors.groupCount(parallel ? primitive.parallelStream() : primitive.stream(),
+                                                                n -> n % GROUPS))));
+            }
+        }
+        System.out.println("\n(kontrol: " + sink + ")");
+    }
+
+    private static void printBytesPerElement(String name, int size, Supplier<Object> build) {
+        retained = null;
+        long before = usedHeap();
+        retained = build.get();
+        long after = usedHeap();
+        System.out.printf("  %-16s %6.1f bayt%n", name, (double) (after - before) / size);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void measure(String name, int size, long expected, Run run) {
+        long best = Long.MAX_VALUE;
+        long bestBytes = Long.MAX_VALUE;
+        boolean correct = true;
+        for (int rep = 0; rep < REPS; rep++) {
+            long bytesBefore = allocatedBytes();
+            long started = System.nanoTime();
+            long result = run.run();
+            long elapsed = System.nanoTime() - started;
+            bestBytes = Math.min(bestBytes, allocatedBytes() - bytesBefore);
+            best = Math.min(best, elapsed);
+            correct &= result == expected;
+            sink += result;
+        }
+        System.out.printf("  %-24s %8.2f ms %8.1f M/s %12d bayt%s%n", name, best / 1e6, size * 1e3 / best,
+                          bestBytes, correct ? "" : "  HATALI SONUÇ");
+    }
+
+    // Kova / grup sayımlarının karşılaştırılabilir özeti: Σ (anahtar + 1) * sayı
+    private static long checksum(long[] counts) {
+        long checksum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            checksum += (i + 1) * counts[i];
+        }
+        return checksum;
+    }
+
+    private static long checksum(Map<Long, Long> counts) {
+        long checksum = 0;
+        for (Map.Entry<Long, Long> entry : counts.entrySet()) {
+            checksum += (entry.getKey() + 1) * entry.getValue();
+        }
+        return checksum;
+    }
+
+    private static long checksum(PrimitiveCollectors.GroupCounts counts) {
+        long checksum = 0;
+        for (long key : counts.keys()) {
+            checksum += (key + 1) * counts.get(key);
+        }
+        return checksum;
+    }
+
+    // Tüm canlı thread'lerin o ana kadar ayırdığı toplam bellek (HotSpot'a özgü sayaç)
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            total += Math.max(0, bytes);
+        }
+        return total;
+    }
+
+    private interface Run {
+        long run();
+    }
+
+    // Ölçülen işi sıralı çağırır veya isimli havuzda çalıştırır
+    private interface Runner {
+        long run(Run run);
+    }
+}
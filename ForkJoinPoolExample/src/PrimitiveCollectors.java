@@ -0,0 +1,172 @@
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * IntStream / LongStream için kutulamasız toplayıcılar (sum, histogram, grup sayımı).
+ *
+ * Collectors.groupingBy(..., counting()) her eleman için anahtarı Integer'a, sayacı Long'a kutular ve bir
+ * HashMap düğümü ayırır. Buradaki toplayıcılar üç argümanlı collect(supplier, accumulator, combiner) ile
+ * çalışır: paralel akışta her parça kendi long[] / tablo kabını doldurur, kaplar yalnızca parçalar
+ * birleşirken toplanır. Paylaşılan durum veya kilit yoktur; eleman başına nesne ayrılmaz.
+ * <pre>
+ * long total = PrimitiveCollectors.sum(list.parallelStream());
+ * long[] counts = PrimitiveCollectors.histogram(list.parallelStream(), 0, 1_000_000, 10);
+ * PrimitiveCollectors.GroupCounts byRemainder = PrimitiveCollectors.groupCount(list.parallelStream(), n -> n % 7);
+ * </pre>
+ */
+public final class PrimitiveCollectors {
+
+    private PrimitiveCollectors() {
+    }
+
+    /**
+     * int elemanların long toplamı (IntStream.sum() int'te taşar).
+     */
+    public static long sum(IntStream stream) {
+        return stream.asLongStream().sum();
+    }
+
+    /**
+     * [low, high) aralığını eşit genişlikte buckets kovaya bölen histogram; aralık dışındaki değerler sayılmaz
+     * (LongReducer.histogram ile aynı kovalar).
+     */
+    public static long[] histogram(IntStream stream, long low, long high, int buckets) {
+        return histogram(stream.asLongStream(), low, high, buckets);
+    }
+
+    public static long[] histogram(LongStream stream, long low, long high, int buckets) {
+        if (buckets <= 0 || low >= high) {
+            throw new IllegalArgumentException("Geçersiz histogram: [" + low + ", " + high + "), " + buckets + " kova");
+        }
+        long width = (high - low + buckets - 1) / buckets;
+        return stream.collect(() -> new long[buckets], (counts, value) -> {
+            if (value >= low && value < high) {
+                counts[(int) ((value - low) / width)]++;
+            }
+        }, (left, right) -> {
+            for (int i = 0; i < buckets; i++) {
+                left[i] += right[i];
+            }
+        });
+    }
+
+    /**
+     * Her elemanı key ile bir gruba eşleyip grup başına eleman sayısını bulur.
+     */
+    public static GroupCounts groupCount(IntStream stream, IntUnaryOperator key) {
+        return stream.collect(GroupCounts::new, (counts, value) -> counts.increment(key.applyAsInt(value), 1),
+                              GroupCounts::addAll);
+    }
+
+    public static GroupCounts groupCount(LongStream stream, LongUnaryOperator key) {
+        return stream.collect(GroupCounts::new, (counts, value) -> counts.increment(key.applyAsLong(value), 1),
+                              GroupCounts::addAll);
+    }
+
+    /**
+     * long anahtar → long sayaç tablosu (açık adresleme, doğrusal yoklama). Anahtarlar ve sayaçlar ayrı
+     * dizilerde durur; eleman başına nesne yoktur.
+     */
+    public static final class GroupCounts {
+        private static final int INITIAL_CAPACITY = 16; // 2'nin kuvveti olmalı
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private long[] counts = new long[INITIAL_CAPACITY];
+        private boolean[] used = new boolean[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Anahtarın sayacı; anahtar hiç görülmediyse 0.
+         */
+        public long get(long key) {
+            int slot = find(keys, used, key);
+            return used[slot] ? counts[slot] : 0;
+        }
+
+        /**
+         * Farklı anahtar sayısı.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Anahtarlar, küçükten büyüğe.
+         */
+        public long[] keys() {
+            long[] result = new long[size];
+            int next = 0;
+            for (int slot = 0; slot < used.length; slot++) {
+                if (used[slot]) {
+                    result[next++] = keys[slot];
+                }
+            }
+            Arrays.sort(result);
+            return result;
+        }
+
+        void increment(long key, long delta) {
+            int slot = find(keys, used, key);
+            if (!used[slot]) {
+                if (4 * (size + 1) > used.length) { // Doluluk %25'i geçmesin: çakışma ve yanlış dal tahmini az olur
+                    rehash();
+                    slot = find(keys, used, key);
+                }
+                used[slot] = true;
+                keys[slot] = key;
+                size++;
+            }
+            counts[slot] += delta;
+        }
+
+        void addAll(GroupCounts other) {
+            for (int slot = 0; slot < other.used.length; slot++) {
+                if (other.used[slot]) {
+                    increment(other.keys[slot], other.counts[slot]);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("{");
+            for (long key : keys()) {
+                if (builder.length() > 1) {
+                    builder.append(", ");
+                }
+                builder.append(key).append('=').append(get(key));
+            }
+            return builder.append('}').toString();
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            long[] oldCounts = counts;
+            boolean[] oldUsed = used;
+            keys = new long[oldKeys.length * 2];
+            counts = new long[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            for (int slot = 0; slot < oldUsed.length; slot++) {
+                if (oldUsed[slot]) {
+                    int target = find(keys, used, oldKeys[slot]);
+                    used[target] = true;
+                    keys[target] = oldKeys[slot];
+                    counts[target] = oldCounts[slot];
+                }
+            }
+        }
+
+        // Anahtarın bulunduğu veya eklenmesi gereken yuva; Fibonacci çarpımıyla ardışık anahtarlar da dağılır
+        private static int find(long[] keys, boolean[] used, long key) {
+            int mask = keys.length - 1;
+            int slot = (int) ((key * 0x9e3779b97f4a7c15L) >>> (64 - Integer.numberOfTrailingZeros(keys.length)));
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
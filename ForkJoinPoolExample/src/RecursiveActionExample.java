@@ -1,7 +1,6 @@
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveAction;
 import java.util.Arrays;
-import java.util.Random;
 
 /**
  * Java ForkJoinPool ve RecursiveAction sınıflarını kullanarak
@@ -54,8 +53,42 @@ public class RecursiveActionExample {
         boolean isSame = Arrays.equals(sequentialArray, parallelArray);
         System.out.println("İki sıralama aynı sonucu verdi mi? " + isSame);
         
-        // 5. ForkJoinPool istatistikleri
-        System.out.println("\n4. ForkJoinPool İstatistikleri:");
+        // 5. Bölme politikalarının karşılaştırılması
+        System.out.println("\n4. Bölme Politikaları:");
+        SplitPolicy[] policies = {
+            SplitPolicy.fixed(10_000),
+            SplitPolicy.adaptive(),
+            MergeSortTask.calibrate(numbers, forkJoinPool.getParallelism())
+        };
+        for (SplitPolicy policy : policies) {
+            int[] policyArray = numbers.clone();
+            startTime = System.currentTimeMillis();
+            forkJoinPool.invoke(new MergeSortTask(policyArray, 0, policyArray.length, new int[policyArray.length], policy));
+            endTime = System.currentTimeMillis();
+            System.out.println(policy + " -> Doğru mu? " + Arrays.equals(sequentialArray, policyArray) +
+                               ", geçen süre: " + (endTime - startTime) + " ms");
+        }
+        
+        // 6. Kopyasız (ping-pong) ve birleştirmesi de paralel merge sort
+        System.out.println("\n5. Paralel Birleştirmeli Merge Sort:");
+        int[] mergeArray = numbers.clone();
+        startTime = System.currentTimeMillis();
+        ParallelMergeSort.sort(mergeArray, forkJoinPool);
+        endTime = System.currentTimeMillis();
+        System.out.println("Doğru mu? " + Arrays.equals(sequentialArray, mergeArray) +
+                           ", geçen süre: " + (endTime - startTime) + " ms");
+        
+        // 7. Sınırlı aralıktaki anahtarlar için paralel radix sort
+        System.out.println("\n6. Paralel Radix Sort (sınırlı anahtar aralığı):");
+        int[] radixArray = numbers.clone();
+        startTime = System.currentTimeMillis();
+        boolean usedRadix = ParallelRadixSort.sort(radixArray, forkJoinPool);
+        endTime = System.currentTimeMillis();
+        System.out.println("Radix sort kullanıldı mı? " + usedRadix + ", doğru mu? " +
+                           Arrays.equals(sequentialArray, radixArray) + ", geçen süre: " + (endTime - startTime) + " ms");
+        
+        // 8. ForkJoinPool istatistikleri
+        System.out.println("\n7. ForkJoinPool İstatistikleri:");
         System.out.println("Aktif Thread Sayısı: " + forkJoinPool.getActiveThreadCount());
         System.out.println("Parallelism: " + forkJoinPool.getParallelism());
         System.out.println("Havuz Boyutu: " + forkJoinPool.getPoolSize());
@@ -70,23 +103,38 @@ public class RecursiveActionExample {
     // RecursiveAction sınıfı (sonuç döndürmeyen görev)
     // Bu sınıf, bir diziyi MergeSort algoritması ile sıralar
     static class MergeSortTask extends RecursiveAction {
-        private static final int THRESHOLD = 10_000; // Bölme eşiği
         private final int[] array;
         private final int start;
         private final int end;
         private final int[] temp; // Birleştirme için geçici dizi
+        private final SplitPolicy splitPolicy; // Bölme kararı, tüm alt görevlerce paylaşılır
         
         MergeSortTask(int[] array, int start, int end, int[] temp) {
+            this(array, start, end, temp, SplitPolicy.adaptive());
+        }
+        
+        MergeSortTask(int[] array, int start, int end, int[] temp, SplitPolicy splitPolicy) {
             this.array = array;
             this.start = start;
             this.end = end;
             this.temp = temp;
+            this.splitPolicy = splitPolicy;
+        }
+        
+        // Yaprak boyutunu dizinin başının bir kopyasını sıralayarak seçer
+        static SplitPolicy calibrate(int[] array, int parallelism) {
+            int[] probe = new int[Math.min(array.length, 1 << 16)];
+            return SplitPolicy.calibrated(array.length, parallelism, length -> {
+                System.arraycopy(array, 0, probe, 0, length);
+                Arrays.sort(probe, 0, length);
+                return probe[length / 2];
+            });
         }
         
         @Override
         protected void compute() {
             // İş yeterince küçükse doğrudan sırala
-            if (end - start <= THRESHOLD) {
+            if (!splitPolicy.shouldSplit(end - start)) {
                 Arrays.sort(array, start, end);
                 return;
             }
@@ -95,8 +143,8 @@ public class RecursiveActionExample {
             int middle = start + (end - start) / 2;
             
             // Sol ve sağ yarıları sıralamak için alt görevler oluştur
-            MergeSortTask leftTask = new MergeSortTask(array, start, middle, temp);
-            MergeSortTask rightTask = new MergeSortTask(array, middle, end, temp);
+            MergeSortTask leftTask = new MergeSortTask(array, start, middle, temp, splitPolicy);
+            MergeSortTask rightTask = new MergeSortTask(array, middle, end, temp, splitPolicy);
             
             // Alt görevleri çalıştır (fork ve direct invoke)
             invokeAll(leftTask, rightTask);
@@ -134,12 +182,9 @@ public class RecursiveActionExample {
     }
     
     // Büyük bir rastgele sayı dizisi oluşturmak için yardımcı metod
+    // Sıralama tüm diziyi gerektirir; dizi paylaşılan bir Random yerine paralel doldurulur
     private static int[] generateLargeArray(int size) {
-        int[] array = new int[size];
-        Random random = new Random();
-        for (int i = 0; i < size; i++) {
-            array[i] = random.nextInt(1_000_000); // 0-999,999 arası rastgele sayılar
-        }
-        return array;
+        return LongSource.random(System.nanoTime(), size, 1_000_000) // 0-999,999 arası rastgele sayılar
+                         .toIntArray(ForkJoinPool.commonPool());
     }
 } 
\ No newline at end of file
@@ -1,7 +1,6 @@
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveTask;
 import java.util.Arrays;
-import java.util.Random;
 
 /**
  * Java ForkJoinPool ve RecursiveTask sınıflarını kullanarak
@@ -14,9 +13,10 @@ public class RecursiveTaskExample {
         System.out.println("ForkJoinPool ve RecursiveTask Örneği");
         System.out.println("===================================");
         
-        // 1. Test verisi oluşturma
+        // 1. Test verisi oluşturma (kaynak diziye paralel yazılır; 5. adımda dizisiz de toplanır)
         int size = 100_000_000; // 100 milyon eleman
-        long[] numbers = generateLargeArray(size);
+        LongSource source = randomSource(size);
+        long[] numbers = source.toArray(ForkJoinPool.commonPool());
         
         System.out.println("Oluşturulan dizi: " + size + " elemandan oluşuyor");
         System.out.println("İlk 10 eleman: " + Arrays.toString(Arrays.copyOfRange(numbers, 0, 10)));
@@ -53,6 +53,7 @@ public class RecursiveTaskExample {
         // Mevcut CPU sayısına göre ForkJoinPool oluştur
         int processors = Runtime.getRuntime().availableProcessors();
         System.out.println("Kullanılabilir işlemci sayısı: " + processors);
+        System.out.println("Yaprak çekirdekleri: " + LeafKernels.best());
         
         // Özel ForkJoinPool
         ForkJoinPool customPool = new ForkJoinPool(processors);
@@ -70,8 +71,36 @@ public class RecursiveTaskExample {
         System.out.println("Sonuç: " + parallelSum);
         System.out.println("Geçen süre: " + (endTime - startTime) + " ms");
         
-        // 5. ForkJoinPool bilgilerini göster
-        System.out.println("\n4. ForkJoinPool Bilgileri:");
+        // 5. Bölme politikalarının karşılaştırılması
+        System.out.println("\n4. Bölme Politikaları (ortak havuz):");
+        int parallelism = ForkJoinPool.commonPool().getParallelism();
+        SplitPolicy[] policies = {
+            SplitPolicy.fixed(10_000),
+            SplitPolicy.adaptive(),
+            SumTask.calibrate(numbers, parallelism)
+        };
+        for (SplitPolicy policy : policies) {
+            startTime = System.currentTimeMillis();
+            parallelSum = forkJoinPool.invoke(new SumTask(numbers, 0, numbers.length, policy));
+            endTime = System.currentTimeMillis();
+            System.out.println(policy + " -> Sonuç: " + parallelSum + ", geçen süre: " + (endTime - startTime) + " ms");
+        }
+        
+        // 6. Genel indirgemeler (LongReducer)
+        System.out.println("\n5. LongReducer ile İndirgemeler (ortak havuz):");
+        System.out.println("En küçük: " + LongReducer.min().reduce(numbers) +
+                           ", en büyük: " + LongReducer.max().reduce(numbers));
+        System.out.println("XOR sağlama toplamı: " + LongReducer.of(0, (x, y) -> x ^ y).reduce(numbers));
+        System.out.println("Histogram (10'luk kovalar): " +
+                           Arrays.toString(LongReducer.histogram(numbers, 0, 100, 10, forkJoinPool)));
+        startTime = System.currentTimeMillis();
+        long generatedSum = LongReducer.sum().reduce(source, forkJoinPool);
+        endTime = System.currentTimeMillis();
+        System.out.println("Diziye yazmadan üret + topla: " + generatedSum + " (dizi toplamıyla aynı mı? " +
+                           (generatedSum == sum) + "), geçen süre: " + (endTime - startTime) + " ms");
+        
+        // 7. ForkJoinPool bilgilerini göster
+        System.out.println("\n6. ForkJoinPool Bilgileri:");
         System.out.println("Ortak havuz büyüklüğü: " + ForkJoinPool.commonPool().getPoolSize());
         System.out.println("Ortak havuz paralellik seviyesi: " + ForkJoinPool.commonPool().getParallelism());
         System.out.println("Aktif thread sayısı: " + ForkJoinPool.commonPool().getActiveThreadCount());
@@ -81,58 +110,48 @@ public class RecursiveTaskExample {
     }
     
     // RecursiveTask sınıfı (sonuç döndüren görev)
-    // Bu sınıf, büyük bir diziyi böl-ve-yönet stratejisiyle işler
+    // Bu sınıf, büyük bir diziyi böl-ve-yönet stratejisiyle işler; klasik fork/compute/join
+    // sürümü karşılaştırma için ReducerBenchmark.BoxedSumTask'ta duruyor
     static class SumTask extends RecursiveTask<Long> {
-        private static final int THRESHOLD = 10_000; // Bölme eşiği
         private final long[] numbers;
         private final int start;
         private final int end;
+        private final SplitPolicy splitPolicy; // Bölme kararı, tüm alt görevlerce paylaşılır
+        private final LeafKernels kernels;     // Yaprak toplamı: skaler veya Vector API
         
         SumTask(long[] numbers, int start, int end) {
+            this(numbers, start, end, SplitPolicy.adaptive());
+        }
+        
+        SumTask(long[] numbers, int start, int end, SplitPolicy splitPolicy) {
+            this(numbers, start, end, splitPolicy, LeafKernels.best());
+        }
+        
+        SumTask(long[] numbers, int start, int end, SplitPolicy splitPolicy, LeafKernels kernels) {
             this.numbers = numbers;
             this.start = start;
             this.end = end;
+            this.splitPolicy = splitPolicy;
+            this.kernels = kernels;
         }
         
-        @Override
-        protected Long compute() {
-            // İş yeterince küçükse doğrudan hesapla
-            if (end - start <= THRESHOLD) {
-                return computeDirectly();
-            }
-            
-            // Değilse işi böl
-            int middle = start + (end - start) / 2;
-            
-            // Sol yarıyı hesaplamak için yeni bir görev oluştur ve çatalla
-            SumTask leftTask = new SumTask(numbers, start, middle);
-            leftTask.fork(); // Asenkron olarak çalıştır
-            
-            // Sağ yarıyı mevcut thread'de hesapla
-            SumTask rightTask = new SumTask(numbers, middle, end);
-            Long rightResult = rightTask.compute();
-            
-            // Sol görevin sonucunu bekle ve birleştir
-            return leftTask.join() + rightResult;
+        // Yaprak boyutunu bu dizinin başı üzerinde deneme toplamlarıyla seçer
+        static SplitPolicy calibrate(long[] numbers, int parallelism) {
+            return SplitPolicy.calibrated(numbers.length, parallelism,
+                                          length -> LeafKernels.best().sum(numbers, 0, length));
         }
         
-        // Küçük bir alt problem için doğrudan hesaplama
-        private long computeDirectly() {
-            long sum = 0;
-            for (int i = start; i < end; i++) {
-                sum += numbers[i];
-            }
-            return sum;
+        @Override
+        protected Long compute() {
+            // Bölme, yaprak toplamı ve birleştirme LongReducer'a bırakılır: ağaçtaki düğümler
+            // CountedCompleter'dır, Long kutulamaz ve join'de beklemez; sonuç yalnızca burada kutulanır
+            return LongReducer.sum(kernels).task(numbers, start, end, splitPolicy).invoke();
         }
     }
     
-    // Büyük bir rastgele sayı dizisi oluşturmak için yardımcı metod
-    private static long[] generateLargeArray(int size) {
-        long[] array = new long[size];
-        Random random = new Random();
-        for (int i = 0; i < size; i++) {
-            array[i] = random.nextInt(100); // 0-99 arası rastgele sayılar
-        }
-        return array;
+    // Büyük bir rastgele sayı kaynağı oluşturmak için yardımcı metod
+    // Paylaşılan tek bir Random yerine her değer indeksinden üretilir, böylece paralel doldurulabilir
+    private static LongSource randomSource(int size) {
+        return LongSource.random(System.nanoTime(), size, 100); // 0-99 arası rastgele sayılar
     }
 } 
\ No newline at end of file
@@ -0,0 +1,128 @@
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Eski RecursiveTask&lt;Long&gt; toplamını (fork/compute/join, her düğümde Long) LongReducer ile karşılaştırır.
+ *
+ * Her yöntem için en iyi süre ve bir çağrı boyunca tüm thread'lerde ayrılan bellek (bayt) ölçülür.
+ * Yaprak boyutu küçüldükçe görev ağacı büyür ve düğüm başına maliyet belirginleşir.
+ * <pre>
+ * java -Xmx2g -cp out ReducerBenchmark 20000000 4
+ * </pre>
+ * Argümanlar: dizi boyutu, havuz paralelliği.
+ */
+public class ReducerBenchmark {
+
+    private static final int REPS = 10;
+    private static final SplitPolicy[] POLICIES = {
+        SplitPolicy.fixed(1_000), SplitPolicy.fixed(10_000), SplitPolicy.fixed(100_000), SplitPolicy.adaptive()
+    };
+
+    private static long sink; // Sonuçların JIT tarafından silinmemesi için
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        System.out.println("İndirgeme Benchmark'ı (" + size + " eleman, paralellik " + parallelism + ")");
+        System.out.println("=========================================================");
+
+        long[] numbers = new long[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            numbers[i] = random.nextInt(100_000); // Long önbelleğinin (-128..127) dışında kısmi toplamlar
+        }
+        long expected = LeafKernels.scalar().sum(numbers, 0, size);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            LongReducer sum = LongReducer.sum(LeafKernels.scalar());
+            for (SplitPolicy policy : POLICIES) {
+                System.out.println("\n" + policy + ":");
+                measure("RecursiveTask<Long>", expected, () ->
+                        pool.invoke(new BoxedSumTask(numbers, 0, size, policy)));
+                measure("SumTask (LongReducer)", expected, () ->
+                        pool.invoke(new RecursiveTaskExample.SumTask(numbers, 0, size, policy, LeafKernels.scalar())));
+                measure("LongReducer.reduce", expected, () ->
+                        sum.reduce(numbers, 0, size, pool, policy));
+            }
+
+            System.out.println("\nDiğer indirgemeler (uyarlanabilir):");
+            measure("min", LongReducer.min().reduce(numbers, pool), () -> LongReducer.min().reduce(numbers, pool));
+            measure("max", LongReducer.max().reduce(numbers, pool), () -> LongReducer.max().reduce(numbers, pool));
+            measure("histogram (100 kova)", size, () -> {
+                long total = 0;
+                for (long count : LongReducer.histogram(numbers, 0, 100_000, 100, pool)) {
+                    total += count;
+                }
+                return total;
+            });
+        } finally {
+            pool.shutdown();
+        }
+        System.out.println("\n(kontrol: " + sink + ")");
+    }
+
+    private static void measure(String name, long expected, Run run) {
+        long best = Long.MAX_VALUE;
+        long bestBytes = Long.MAX_VALUE;
+        boolean correct = true;
+        for (int rep = 0; rep < REPS; rep++) {
+            long bytesBefore = allocatedBytes();
+            long started = System.nanoTime();
+            long result = run.run();
+            long elapsed = System.nanoTime() - started;
+            bestBytes = Math.min(bestBytes, allocatedBytes() - bytesBefore);
+            best = Math.min(best, elapsed);
+            correct &= result == expected;
+            sink += result;
+        }
+        System.out.printf("  %-24s %8.2f ms  %10d bayt%s%n", name, best / 1e6, bestBytes,
+                          correct ? "" : "  HATALI SONUÇ");
+    }
+
+    // Tüm canlı thread'lerin o ana kadar ayırdığı toplam bellek (HotSpot'a özgü sayaç)
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            total += Math.max(0, bytes);
+        }
+        return total;
+    }
+
+    private interface Run {
+        long run();
+    }
+
+    // LongReducer'dan önceki SumTask: her düğüm RecursiveTask<Long>, sol yarı çatallanır ve join ile beklenir
+    private static final class BoxedSumTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] numbers;
+        private final int start;
+        private final int end;
+        private final SplitPolicy splitPolicy;
+
+        BoxedSumTask(long[] numbers, int start, int end, SplitPolicy splitPolicy) {
+            this.numbers = numbers;
+            this.start = start;
+            this.end = end;
+            this.splitPolicy = splitPolicy;
+        }
+
+        @Override
+        protected Long compute() {
+            if (!splitPolicy.shouldSplit(end - start)) {
+                return LeafKernels.scalar().sum(numbers, start, end);
+            }
+            int middle = start + (end - start) / 2;
+            BoxedSumTask leftTask = new BoxedSumTask(numbers, start, middle, splitPolicy);
+            leftTask.fork();
+            Long rightResult = new BoxedSumTask(numbers, middle, end, splitPolicy).compute();
+            return leftTask.join() + rightResult;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Sıralama yöntemlerini farklı anahtar aralıkları ve paralellik seviyelerinde karşılaştırır:
+ * Arrays.sort, Arrays.parallelSort, MergeSortTask, ParallelMergeSort ve ParallelRadixSort.
+ * Her ölçüm aynı rastgele verinin kopyası üzerinde birkaç tekrarın en iyisidir.
+ *
+ * Arrays.parallelSort verilen havuzun içinden çağrılır, böylece o havuzun thread'lerinde çalışır;
+ * ancak ortak havuzun paralelliği 1 ise (tek çekirdek) her zaman sıralı çalışır.
+ * <pre>
+ * java -Xmx2g -cp out SortBenchmark 20000000 1,4,16,64            # tüm anahtar aralıkları
+ * java -Xmx2g -cp out SortBenchmark 20000000 1,4,16,64 1000000    # yalnızca 0..999.999
+ * </pre>
+ */
+public class SortBenchmark {
+
+    private static final int REPS = 3;
+    private static final String KEY_RANGES = "1000000,65536," + Integer.MAX_VALUE;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        int processors = Runtime.getRuntime().availableProcessors();
+        String[] levelArgs = (args.length > 1 ? args[1] : "1,4,16,64").split(",");
+        String[] rangeArgs = (args.length > 2 ? args[2] : KEY_RANGES).split(",");
+
+        System.out.println("Sıralama Benchmark'ı (" + size + " eleman, işlemci: " + processors + ")");
+        System.out.println("====================================================");
+
+        int[] array = new int[size];
+        int[] temp = new int[size];
+        for (String rangeArg : rangeArgs) {
+            int keyRange = Integer.parseInt(rangeArg.trim());
+            int[] original = new int[size];
+            Random random = new Random(42);
+            for (int i = 0; i < size; i++) {
+                original[i] = random.nextInt(keyRange);
+            }
+            int[] expected = original.clone();
+            Arrays.sort(expected);
+
+            for (String levelArg : levelArgs) {
+                int parallelism = Integer.parseInt(levelArg.trim());
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                try {
+                    System.out.println("\nAnahtar aralığı: 0.." + (keyRange - 1) + ", paralellik: " + parallelism);
+                    long baseline = measure("Arrays.sort", original, array, expected, 0,
+                            () -> Arrays.sort(array));
+                    measure("Arrays.parallelSort", original, array, expected, baseline,
+                            () -> pool.submit(() -> Arrays.parallelSort(array)).join());
+                    measure("MergeSortTask", original, array, expected, baseline,
+                            () -> pool.invoke(new RecursiveActionExample.MergeSortTask(array, 0, size, temp)));
+                    measure("ParallelMergeSort", original, array, expected, baseline,
+                            () -> ParallelMergeSort.sort(array, pool));
+                    boolean[] radix = new boolean[1];
+                    measure("ParallelRadixSort", original, array, expected, baseline,
+                            () -> radix[0] = ParallelRadixSort.sort(array, pool));
+                    if (!radix[0]) {
+                        System.out.println("  (ParallelRadixSort geniş aralık nedeniyle MergeSortTask kullandı)");
+                    }
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+    }
+
+    // En iyi süreyi (ns) yazdırır ve döndürür; baseline verilirse Arrays.sort'a göre hızlanmayı da yazdırır
+    private static long measure(String name, int[] original, int[] array, int[] expected, long baseline,
+                                Runnable sort) {
+        long best = Long.MAX_VALUE;
+        for (int rep = 0; rep < REPS; rep++) {
+            System.arraycopy(original, 0, array, 0, original.length);
+            long started = System.nanoTime();
+            sort.run();
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        String check = Arrays.equals(array, expected) ? "" : "  HATALI SONUÇ";
+        if (baseline == 0) {
+            System.out.printf("  %-20s %9.1f ms%s%n", name, best / 1e6, check);
+        } else {
+            System.out.printf("  %-20s %9.1f ms  (%.2fx)%s%n", name, best / 1e6, (double) baseline / best, check);
+        }
+        return best;
+    }
+}
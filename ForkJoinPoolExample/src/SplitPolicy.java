@@ -0,0 +1,146 @@
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Böl-ve-yönet görevlerinin bir aralığı daha fazla bölüp bölmeyeceğine karar veren politika.
+ *
+ * Sabit bir eşik (ör. 10.000) çekirdek sayısından, dizi boyutundan ve eleman başına maliyetten
+ * bağımsızdır: çok çekirdekli makinelerde yük dengesizliğine, az çekirdekte ise gereksiz sayıda
+ * küçük göreve yol açar. Bu sınıf üç strateji sunar:
+ * - {@link #fixed(int)}: sabit yaprak boyutu (eski davranış)
+ * - {@link #adaptive()}: thread'in kuyruğunda çalınmayı bekleyen fazla görev yoksa böler
+ *   ({@link ForkJoinTask#getSurplusQueuedTaskCount()}); boşta thread varken ince, herkes meşgulken
+ *   kaba taneli çalışır
+ * - {@link #calibrated(int, int, IntToLongFunction)}: yaprak boyutunu paralellik seviyesine göre
+ *   seçer, kısa bir deneme çalışmasıyla ölçülen maliyete göre bölmeye değmeyecek kadar küçük
+ *   yapraklardan kaçınır
+ *
+ * Politikalar durumsuzdur ve birden fazla görev tarafından paylaşılabilir.
+ */
+public abstract class SplitPolicy {
+
+    private static final int DEFAULT_MIN_LEAF_SIZE = 4096;
+    private static final int DEFAULT_SURPLUS_LIMIT = 3; // ForkJoinTask belgelerindeki önerilen değer
+
+    // Kalibrasyon: yük dengesi için thread başına 8 yaprak, ancak her yaprak en az ~50 µs iş
+    // yapmalı ki fork/join maliyeti (yaprak başına birkaç µs) önemsiz kalsın
+    private static final long MIN_LEAF_NANOS = 50_000;
+    private static final int LEAVES_PER_WORKER = 8;
+    private static final int PROBE_SIZE = 1 << 16;
+    private static final int PROBE_RUNS = 20;
+
+    private static final SplitPolicy ADAPTIVE = new Surplus(DEFAULT_MIN_LEAF_SIZE, DEFAULT_SURPLUS_LIMIT);
+
+    private static volatile long probeSink; // Deneme çalışmasının JIT tarafından silinmemesi için
+
+    /**
+     * Verilen boyuttaki aralığın bölünmesi gerekiyorsa true döndürür.
+     * Görevin compute() metodundan, yani çalıştığı ForkJoin thread'inde çağrılmalıdır.
+     *
+     * @param size Aralıktaki eleman sayısı
+     */
+    public abstract boolean shouldSplit(int size);
+
+    /**
+     * Aralıkları verilen boyuta inene kadar böler.
+     */
+    public static SplitPolicy fixed(int leafSize) {
+        return new Fixed(leafSize);
+    }
+
+    /**
+     * En az 4096 elemanlık aralıkları, thread'in kuyruğunda 3'ten fazla bekleyen görev yoksa böler.
+     */
+    public static SplitPolicy adaptive() {
+        return ADAPTIVE;
+    }
+
+    /**
+     * En az minLeafSize elemanlık aralıkları, thread'in kuyruğunda çalınmayı bekleyen fazla görev
+     * sayısı surplusLimit'i geçmiyorsa böler. Diğer thread'ler işi hızlı çalıyorsa kuyruk boş kalır
+     * ve bölme sürer; herkes meşgulse görevler kendi aralıklarını bölmeden hesaplar.
+     *
+     * @param minLeafSize Bundan küçük aralıklar hiçbir zaman bölünmez
+     * @param surplusLimit Kabul edilen fazla görev sayısı
+     */
+    public static SplitPolicy adaptive(int minLeafSize, int surplusLimit) {
+        return new Surplus(minLeafSize, surplusLimit);
+    }
+
+    /**
+     * Yaprak boyutunu paralellik seviyesine ve kısa bir deneme çalışmasına göre seçer (birkaç ms sürer).
+     *
+     * Yaprak sayısı thread başına 8 olacak şekilde hedeflenir; deneme çalışmasıyla ölçülen
+     * eleman başına maliyete göre bir yaprak ~50 µs'den kısa sürecekse yapraklar o süreye kadar
+     * büyütülür (küçük dizilerde veya ucuz işlerde daha az bölme). leaf, ilk length elemanı üzerinde
+     * gerçek yaprak işini yapmalı ve JIT'in işi silmemesi için bir sonuç döndürmelidir.
+     *
+     * @param totalSize İşlenecek toplam eleman sayısı
+     * @param parallelism Görevi çalıştıracak havuzun paralellik seviyesi
+     * @param leaf Deneme çalışması: ilk length elemanı işler
+     * @return Seçilen boyutla sabit bir politika
+     */
+    public static SplitPolicy calibrated(int totalSize, int parallelism, IntToLongFunction leaf) {
+        if (totalSize <= 0) {
+            return new Fixed(DEFAULT_MIN_LEAF_SIZE);
+        }
+        int probeSize = Math.min(totalSize, PROBE_SIZE);
+        long best = Long.MAX_VALUE;
+        long sink = 0;
+        for (int i = 0; i < PROBE_RUNS; i++) {
+            long started = System.nanoTime();
+            sink += leaf.applyAsLong(probeSize);
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        double nanosPerElement = Math.max(1, best) / (double) probeSize;
+        long worthwhile = (long) Math.ceil(MIN_LEAF_NANOS / nanosPerElement);
+        long balanced = (totalSize + (long) parallelism * LEAVES_PER_WORKER - 1) / ((long) parallelism * LEAVES_PER_WORKER);
+        long leafSize = Math.min(totalSize, Math.max(worthwhile, balanced));
+        probeSink = sink;
+        return new Fixed((int) leafSize);
+    }
+
+    private static final class Fixed extends SplitPolicy {
+        private final int leafSize;
+
+        Fixed(int leafSize) {
+            if (leafSize < 1) {
+                throw new IllegalArgumentException("leafSize pozitif olmalı: " + leafSize);
+            }
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        public boolean shouldSplit(int size) {
+            return size > leafSize;
+        }
+
+        @Override
+        public String toString() {
+            return "fixed(" + leafSize + ")";
+        }
+    }
+
+    private static final class Surplus extends SplitPolicy {
+        private final int minLeafSize;
+        private final int surplusLimit;
+
+        Surplus(int minLeafSize, int surplusLimit) {
+            if (minLeafSize < 1 || surplusLimit < 0) {
+                throw new IllegalArgumentException("Geçersiz parametreler: " + minLeafSize + ", " + surplusLimit);
+            }
+            this.minLeafSize = minLeafSize;
+            this.surplusLimit = surplusLimit;
+        }
+
+        @Override
+        public boolean shouldSplit(int size) {
+            return size > minLeafSize && ForkJoinTask.getSurplusQueuedTaskCount() <= surplusLimit;
+        }
+
+        @Override
+        public String toString() {
+            return "adaptive(" + minLeafSize + ", " + surplusLimit + ")";
+        }
+    }
+}
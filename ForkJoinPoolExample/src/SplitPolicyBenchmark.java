@@ -0,0 +1,108 @@
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * SumTask ve MergeSortTask için bölme politikalarını farklı dizi boyutları ve paralellik
+ * seviyelerinde karşılaştırır. Her ölçüm birkaç tekrarın en iyisidir; hızlanma eski sabit
+ * eşiğe (fixed(10000)) göredir.
+ *
+ * Çalıştırma (boyutlar ve paralellik seviyeleri virgülle):
+ * <pre>
+ * java -Xmx2g -cp out SplitPolicyBenchmark 1000000,10000000,30000000 1,4,16,64
+ * </pre>
+ */
+public class SplitPolicyBenchmark {
+
+    private static final int SUM_REPS = 7;
+    private static final int SORT_REPS = 3;
+
+    public static void main(String[] args) {
+        int[] sizes = parse(args.length > 0 ? args[0] : "1000000,10000000,30000000");
+        int processors = Runtime.getRuntime().availableProcessors();
+        int[] levels = parse(args.length > 1 ? args[1] : "1,2,4," + processors);
+
+        System.out.println("Bölme Politikası Benchmark'ı (işlemci: " + processors + ")");
+        System.out.println("=============================================");
+
+        for (int parallelism : levels) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                for (int size : sizes) {
+                    System.out.println("\nParalellik: " + parallelism + ", boyut: " + size);
+                    runSum(pool, size);
+                    runSort(pool, size);
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static void runSum(ForkJoinPool pool, int size) {
+        long[] numbers = new long[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            numbers[i] = random.nextInt(100);
+        }
+        SplitPolicy[] policies = {
+            SplitPolicy.fixed(10_000),
+            SplitPolicy.adaptive(),
+            RecursiveTaskExample.SumTask.calibrate(numbers, pool.getParallelism())
+        };
+        double baseline = 0;
+        for (SplitPolicy policy : policies) {
+            long best = Long.MAX_VALUE;
+            long checksum = 0;
+            for (int rep = 0; rep < SUM_REPS; rep++) {
+                long started = System.nanoTime();
+                checksum += pool.invoke(new RecursiveTaskExample.SumTask(numbers, 0, size, policy));
+                best = Math.min(best, System.nanoTime() - started);
+            }
+            baseline = baseline == 0 ? best : baseline;
+            print("SumTask", policy, best, baseline, checksum);
+        }
+    }
+
+    private static void runSort(ForkJoinPool pool, int size) {
+        int[] original = new int[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            original[i] = random.nextInt(1_000_000);
+        }
+        int[] array = new int[size];
+        int[] temp = new int[size];
+        SplitPolicy[] policies = {
+            SplitPolicy.fixed(10_000),
+            SplitPolicy.adaptive(),
+            RecursiveActionExample.MergeSortTask.calibrate(original, pool.getParallelism())
+        };
+        double baseline = 0;
+        for (SplitPolicy policy : policies) {
+            long best = Long.MAX_VALUE;
+            long checksum = 0;
+            for (int rep = 0; rep < SORT_REPS; rep++) {
+                System.arraycopy(original, 0, array, 0, size);
+                long started = System.nanoTime();
+                pool.invoke(new RecursiveActionExample.MergeSortTask(array, 0, size, temp, policy));
+                best = Math.min(best, System.nanoTime() - started);
+                checksum += array[size / 2];
+            }
+            baseline = baseline == 0 ? best : baseline;
+            print("MergeSortTask", policy, best, baseline, checksum);
+        }
+    }
+
+    private static void print(String task, SplitPolicy policy, long nanos, double baseline, long checksum) {
+        System.out.printf("  %-14s %-20s %9.2f ms  hızlanma: %5.2fx  (kontrol: %d)%n",
+                task, policy, nanos / 1e6, baseline / nanos, checksum);
+    }
+
+    private static int[] parse(String csv) {
+        String[] parts = csv.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,73 @@
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bloklanan görevlerin diğer görevlerin zamanlayıcılarını nasıl geciktirdiğini ve gövdeleri
+ * sanal thread'lere devretmenin bunu nasıl önlediğini gösterir.
+ *
+ * Her iki modda da aynı senaryo çalıştırılır (2 zamanlayıcı thread'i):
+ * - 4 adet, her saniye başlayıp 2 saniye bloklanan (Thread.sleep) görev
+ * - 100 ms'de bir çalışan, hiç bloklanmayan bir ölçüm görevi (fixed-rate)
+ * - 300 ms süren ve 200 ms gecikmeli bir fixed-delay görevi (başlangıçlar arası ~500 ms beklenir)
+ *
+ * Ölçüm görevinin en yüksek başlangıç gecikmesi ve fixed-delay görevinin başlangıçları arasındaki
+ * ortalama süre raporlanır.
+ * <pre>
+ * java -cp out BlockingTaskLagDemo
+ * </pre>
+ */
+public class BlockingTaskLagDemo {
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("Bloklanan Görevler ve Başlangıç Gecikmesi");
+        System.out.println("=========================================");
+
+        run("Gövdeler zamanlayıcı thread'lerinde", false);
+        run("Gövdeler sanal thread'lerde", true);
+    }
+
+    private static void run(String name, boolean virtualThreadBodies) throws InterruptedException {
+        ScheduledTaskManager taskManager = new ScheduledTaskManager(
+                Executors.newScheduledThreadPool(2),
+                virtualThreadBodies ? ScheduledTaskManager.newVirtualThreadExecutor() : null);
+        taskManager.setLogging(false);
+        try {
+            for (int i = 0; i < 4; i++) {
+                taskManager.scheduleAtFixedRate(() -> sleep(2000), 0, 1, TimeUnit.SECONDS);
+            }
+            String probeId = taskManager.scheduleAtFixedRate(() -> { }, 0, 100, TimeUnit.MILLISECONDS);
+
+            AtomicLong firstStart = new AtomicLong();
+            AtomicLong lastStart = new AtomicLong();
+            AtomicLong starts = new AtomicLong();
+            taskManager.scheduleWithFixedDelay(() -> {
+                long now = System.nanoTime();
+                firstStart.compareAndSet(0, now);
+                lastStart.set(now);
+                starts.incrementAndGet();
+                sleep(300);
+            }, 0, 200, TimeUnit.MILLISECONDS);
+
+            Thread.sleep(6000);
+
+            long probeLag = taskManager.getMaxStartLag(probeId, TimeUnit.MILLISECONDS);
+            long intervals = starts.get() - 1;
+            double averageInterval = intervals <= 0 ? Double.NaN
+                    : (lastStart.get() - firstStart.get()) / 1e6 / intervals;
+            System.out.printf("%-36s ölçüm görevi en yüksek gecikme: %5d ms, fixed-delay başlangıç aralığı: %6.1f ms, " +
+                              "tüm görevlerde en yüksek gecikme: %5d ms%n",
+                    name, probeLag, averageInterval, taskManager.getMaxStartLag(TimeUnit.MILLISECONDS));
+        } finally {
+            taskManager.shutdown();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * CronExpression için sonraki çalışma zamanı hesaplama benchmark'ı.
+ * Varsayılan olarak 100.000 farklı rastgele ifade üretir ve şunları ölçer:
+ * - Ayrıştırma/derleme süresi
+ * - nextLocal(): saat diliminden bağımsız hesaplama (ns/işlem, byte/işlem)
+ * - next(zone): UTC ve yaz saati uygulanan bir dilim (Europe/Berlin) için hesaplama
+ *
+ * Çalıştırma:
+ * <pre>
+ * java -cp out CronBenchmark 100000
+ * </pre>
+ */
+public class CronBenchmark {
+
+    private static final int RUNS_PER_EXPRESSION = 10;
+    private static final String[] DAYS = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        System.out.println("Cron Sonraki Çalışma Zamanı Benchmark'ı");
+        System.out.println("=======================================");
+
+        String[] texts = generateDistinct(count, new Random(42));
+        long start = System.nanoTime();
+        CronExpression[] expressions = new CronExpression[count];
+        for (int i = 0; i < count; i++) {
+            expressions[i] = CronExpression.parse(texts[i]);
+        }
+        long parseNanos = System.nanoTime() - start;
+        System.out.printf("%d farklı ifade ayrıştırıldı: %.1f ms (%.0f ns/ifade)%n",
+                count, parseNanos / 1e6, (double) parseNanos / count);
+        System.out.println("Örnekler: " + texts[0] + " | " + texts[1] + " | " + texts[2]);
+
+        long base = LocalDateTime.of(2024, 3, 30, 12, 0).toEpochSecond(ZoneOffset.UTC);
+
+        // JIT ısınması
+        for (int i = 0; i < 3; i++) {
+            runLocal(expressions, base);
+            runZoned(expressions, base * 1000, ZoneOffset.UTC);
+        }
+
+        measure("nextLocal()", () -> runLocal(expressions, base), count);
+        measure("next(UTC)", () -> runZoned(expressions, base * 1000, ZoneOffset.UTC), count);
+        measure("next(Europe/Berlin)", () -> runZoned(expressions, base * 1000, ZoneId.of("Europe/Berlin")), count);
+    }
+
+    private static void measure(String name, java.util.function.LongSupplier body, int count) {
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        long checksum = body.getAsLong();
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        long operations = (long) count * RUNS_PER_EXPRESSION;
+        System.out.printf("%-22s %7.1f ns/işlem, %6.2f byte/işlem (kontrol: %d)%n",
+                name, (double) elapsed / operations,
+                allocated < 0 ? Double.NaN : (double) allocated / operations, checksum);
+    }
+
+    // Her ifade için art arda RUNS_PER_EXPRESSION çalışma zamanı hesaplar
+    private static long runLocal(CronExpression[] expressions, long base) {
+        long checksum = 0;
+        for (CronExpression expression : expressions) {
+            long t = base;
+            for (int i = 0; i < RUNS_PER_EXPRESSION && t != CronExpression.NO_MATCH; i++) {
+                t = expression.nextLocal(t);
+            }
+            checksum += t;
+        }
+        return checksum;
+    }
+
+    private static long runZoned(CronExpression[] expressions, long baseMilli, ZoneId zone) {
+        long checksum = 0;
+        for (CronExpression expression : expressions) {
+            long t = baseMilli;
+            for (int i = 0; i < RUNS_PER_EXPRESSION && t != CronExpression.NO_MATCH; i++) {
+                t = expression.next(t, zone);
+            }
+            checksum += t;
+        }
+        return checksum;
+    }
+
+    private static String[] generateDistinct(int count, Random random) {
+        Set<String> expressions = new LinkedHashSet<>();
+        while (expressions.size() < count) {
+            String minute = pick(random, "*/" + (1 + random.nextInt(30)), String.valueOf(random.nextInt(60)),
+                    random.nextInt(30) + "," + (30 + random.nextInt(30)));
+            String hour = pick(random, "*", random.nextInt(12) + "-" + (12 + random.nextInt(12)),
+                    "*/" + (1 + random.nextInt(6)), String.valueOf(random.nextInt(24)));
+            String dayOfMonth = pick(random, "*", "*", String.valueOf(1 + random.nextInt(28)),
+                    (1 + random.nextInt(10)) + "-" + (15 + random.nextInt(16)));
+            String month = pick(random, "*", "*", "*/" + (1 + random.nextInt(4)), String.valueOf(1 + random.nextInt(12)));
+            int firstDay = random.nextInt(5);
+            String dayOfWeek = pick(random, "*", "*", "MON-FRI", DAYS[firstDay] + "-" + DAYS[firstDay + 1 + random.nextInt(2)]);
+            String second = random.nextInt(4) == 0 ? random.nextInt(60) + " " : "";
+            expressions.add(second + minute + " " + hour + " " + dayOfMonth + " " + month + " " + dayOfWeek);
+        }
+        return expressions.toArray(new String[0]);
+    }
+
+    private static String pick(Random random, String... options) {
+        return options[random.nextInt(options.length)];
+    }
+
+    // Bu thread'in şimdiye kadar ayırdığı byte (HotSpot'a özgü, yoksa -1)
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,67 @@
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aynı ana düşen çok sayıda işin CronScheduler'da gruplanmadan ve gruplanarak
+ * çalıştırılmasını karşılaştırır (varsayılan 10.000 iş).
+ *
+ * Her senaryoda tüm işler aynı saniye başına planlanır ve şunlar raporlanır:
+ * - Zamanlayıcı uyanma sayısı (zamanlayıcı kuyruğundan çıkan girdi sayısı)
+ * - Planlanan an ile işin başlaması arasındaki ortalama ve en yüksek gecikme
+ * - Planlanan andan son işin bitişine kadar geçen süre
+ * <pre>
+ * java -cp out CronCoalescingBenchmark 10000
+ * </pre>
+ */
+public class CronCoalescingBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int jobs = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        System.out.println("CronScheduler Aynı An Gruplama Benchmark'ı (" + jobs + " iş)");
+        System.out.println("===================================================");
+
+        run("Isınma", jobs, 0, 0, false);
+        run("Isınma", jobs, 1, 0, false);
+
+        run("Öncesi: gruplama yok", jobs, 0, 0, true);
+        run("Sonrası: 1 ms gruplama", jobs, 1, 0, true);
+        run("Sonrası: 1 ms + 4 worker", jobs, 1, 4, true);
+    }
+
+    private static void run(String name, int jobs, long coalesceMillis, int workerThreads,
+                            boolean print) throws InterruptedException {
+        CronScheduler scheduler = new CronScheduler(Clock.systemDefaultZone(), coalesceMillis, workerThreads);
+        scheduler.setLogging(false);
+        CountDownLatch finished = new CountDownLatch(jobs);
+        long[] lastFinish = new long[1];
+        try {
+            // Tüm işler 2 saniye sonraki saniye başında
+            long fireTime = (System.currentTimeMillis() / 1000 + 2) * 1000;
+            LocalDateTime executionTime = Instant.ofEpochMilli(fireTime)
+                                                 .atZone(Clock.systemDefaultZone().getZone())
+                                                 .toLocalDateTime();
+            for (int i = 0; i < jobs; i++) {
+                scheduler.scheduleAt(() -> {
+                    synchronized (lastFinish) {
+                        lastFinish[0] = Math.max(lastFinish[0], System.currentTimeMillis());
+                    }
+                    finished.countDown();
+                }, executionTime);
+            }
+            boolean completed = finished.await(30, TimeUnit.SECONDS);
+
+            if (print) {
+                System.out.printf("%-26s uyanma: %6d, başlama gecikmesi ort: %6.2f ms, en yüksek: %4d ms, " +
+                                  "son iş: +%d ms%s%n",
+                        name, scheduler.getTimerWakeupCount(), scheduler.getAverageDispatchLatencyMillis(),
+                        scheduler.getMaxDispatchLatencyMillis(), lastFinish[0] - fireTime,
+                        completed ? "" : " (EKSİK)");
+            }
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,378 @@
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.regex.Pattern;
+
+/**
+ * Önceden derlenmiş bir cron ifadesi.
+ *
+ * Desteklenen biçim, isteğe bağlı saniye alanı olan klasik cron sözdizimidir:
+ * <pre>
+ * [saniye] dakika saat ayın-günü ay haftanın-günü
+ *   "0 9 * * MON-FRI"        hafta içi her gün 09:00
+ *   "*&#47;5 * * * 1-5"          hafta içi her 5 dakikada bir
+ *   "30 0 12 1 * *"          her ayın 1'i 12:00:30
+ * </pre>
+ * Her alan virgülle ayrılmış liste, aralık (a-b), adım (*&#47;n, a-b/n, a/n), "*" veya "?" olabilir.
+ * Ay ve gün adları (JAN-DEC, SUN-SAT) kullanılabilir; haftanın günü için 0 ve 7 pazardır.
+ * Ayın günü ve haftanın günü alanlarının ikisi de kısıtlıysa, klasik cron'daki gibi
+ * birinin eşleşmesi yeterlidir. @yearly, @monthly, @weekly, @daily ve @hourly kısaltmaları da desteklenir.
+ *
+ * Ayrıştırma sırasında her alan bir bit kümesine derlenir. Sonraki çalışma zamanı bu bit
+ * kümeleri üzerinde alan alan atlanarak, dakika dakika tarama yapmadan ve nesne oluşturmadan
+ * hesaplanır ({@link #nextLocal(long)}). Saat dilimi çözümlemesi ({@link #next(long, ZoneId)})
+ * yaz saati geçişlerini de hesaba katar; sabit ofsetli dilimlerde o da nesne oluşturmaz.
+ */
+public final class CronExpression {
+
+    /** Eşleşen bir zaman bulunamadığında (ör. "0 0 30 2 *") döndürülür. */
+    public static final long NO_MATCH = Long.MIN_VALUE;
+
+    private static final String[] MONTH_NAMES = {
+        null, "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"
+    };
+    private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+    // Hiçbir şey eşleşmezse aramanın duracağı yıl sayısı (29 Şubat için 8 yıl yeterlidir)
+    private static final int MAX_YEARS_AHEAD = 8;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String expression;
+    private final long seconds;      // bit 0-59
+    private final long minutes;      // bit 0-59
+    private final int hours;         // bit 0-23
+    private final int daysOfMonth;   // bit 1-31
+    private final int months;        // bit 1-12
+    private final int daysOfWeek;    // bit 0-6 (0 = pazar)
+    private final boolean domRestricted;
+    private final boolean dowRestricted;
+
+    private CronExpression(String expression, long seconds, long minutes, int hours, int daysOfMonth,
+                           int months, int daysOfWeek, boolean domRestricted, boolean dowRestricted) {
+        this.expression = expression;
+        this.seconds = seconds;
+        this.minutes = minutes;
+        this.hours = hours;
+        this.daysOfMonth = daysOfMonth;
+        this.months = months;
+        this.daysOfWeek = daysOfWeek;
+        this.domRestricted = domRestricted;
+        this.dowRestricted = dowRestricted;
+    }
+
+    /**
+     * Bir cron ifadesini ayrıştırır ve derler.
+     *
+     * @param expression 5 veya 6 alanlı cron ifadesi
+     * @return Derlenmiş ifade
+     * @throws IllegalArgumentException İfade geçersizse
+     */
+    public static CronExpression parse(String expression) {
+        String trimmed = expression.trim();
+        String[] fields = WHITESPACE.split(expandMacro(trimmed));
+        if (fields.length != 5 && fields.length != 6) {
+            throw new IllegalArgumentException("Cron ifadesi 5 veya 6 alan içermeli: " + expression);
+        }
+        int offset = fields.length - 5;
+        long seconds = offset == 1 ? parseField(fields[0], 0, 59, null, expression) : 1L;
+        long minutes = parseField(fields[offset], 0, 59, null, expression);
+        long hours = parseField(fields[offset + 1], 0, 23, null, expression);
+        long daysOfMonth = parseField(fields[offset + 2], 1, 31, null, expression);
+        long months = parseField(fields[offset + 3], 1, 12, MONTH_NAMES, expression);
+        long daysOfWeek = parseField(fields[offset + 4], 0, 7, DAY_NAMES, expression);
+        if ((daysOfWeek & (1L << 7)) != 0) {
+            daysOfWeek = (daysOfWeek | 1L) & ~(1L << 7); // 7 de pazar
+        }
+        return new CronExpression(trimmed, seconds, minutes, (int) hours, (int) daysOfMonth,
+                (int) months, (int) daysOfWeek,
+                !isWildcard(fields[offset + 2]), !isWildcard(fields[offset + 4]));
+    }
+
+    /**
+     * Verilen yerel zamandan (dahil değil) sonraki ilk eşleşen yerel zamanı hesaplar.
+     * Zamanlar saat dilimi içermeyen "yerel epoch saniyesi" olarak ifade edilir
+     * (LocalDateTime.toEpochSecond(ZoneOffset.UTC) ile aynı). Bu metod nesne oluşturmaz.
+     *
+     * @param localEpochSecond Başlangıç zamanı
+     * @return Sonraki eşleşme, yoksa {@link #NO_MATCH}
+     */
+    public long nextLocal(long localEpochSecond) {
+        long t = localEpochSecond + 1;
+        long epochDay = Math.floorDiv(t, 86_400L);
+        int secondOfDay = (int) Math.floorMod(t, 86_400L);
+        int hour = secondOfDay / 3600;
+        int minute = secondOfDay / 60 % 60;
+        int second = secondOfDay % 60;
+
+        // Epoch gününden yıl/ay/gün (H. Hinnant, civil_from_days)
+        long z = epochDay + 719_468;
+        long era = (z >= 0 ? z : z - 146_096) / 146_097;
+        int doe = (int) (z - era * 146_097);
+        int yoe = (doe - doe / 1460 + doe / 36_524 - doe / 146_096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = (int) (yoe + era * 400) + (month <= 2 ? 1 : 0);
+
+        int lastYear = year + MAX_YEARS_AHEAD;
+        while (true) {
+            if (month > 12) {
+                month = 1;
+                year++;
+            }
+            if (year > lastYear) {
+                return NO_MATCH;
+            }
+            if ((months & (1 << month)) == 0) {
+                int nextMonth = nextBit(months, month + 1);
+                if (nextMonth < 0) {
+                    year++;
+                    month = nextBit(months, 1);
+                } else {
+                    month = nextMonth;
+                }
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            int nextDay = nextBit(dayMask(year, month), day);
+            if (nextDay < 0) {
+                month++;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextDay != day) {
+                day = nextDay;
+                hour = minute = second = 0;
+            }
+            int nextHour = nextBit(hours, hour);
+            if (nextHour < 0) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextHour != hour) {
+                hour = nextHour;
+                minute = second = 0;
+            }
+            int nextMinute = nextBit(minutes, minute);
+            if (nextMinute < 0) {
+                hour++;
+                minute = second = 0;
+                continue;
+            }
+            if (nextMinute != minute) {
+                minute = nextMinute;
+                second = 0;
+            }
+            int nextSecond = nextBit(seconds, second);
+            if (nextSecond < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            return daysFromCivil(year, month, day) * 86_400L + hour * 3600 + minute * 60 + nextSecond;
+        }
+    }
+
+    /**
+     * Verilen andan (dahil değil) sonraki ilk çalışma anını, saat dilimini hesaba katarak hesaplar.
+     * Yaz saatine geçişte atlanan yerel saatlerdeki çalışmalar geçiş anında bir kez yapılır;
+     * geri dönüşte tekrarlanan saat yalnızca ilk kez çalıştırılır.
+     *
+     * @param afterEpochMilli Başlangıç anı (epoch milisaniye)
+     * @param zone Saat dilimi
+     * @return Sonraki çalışma anı (epoch milisaniye), yoksa {@link #NO_MATCH}
+     */
+    public long next(long afterEpochMilli, ZoneId zone) {
+        long afterSecond = Math.floorDiv(afterEpochMilli, 1000L);
+        if (zone instanceof ZoneOffset) {
+            return nextFixed(afterSecond, ((ZoneOffset) zone).getTotalSeconds());
+        }
+        ZoneRules rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            return nextFixed(afterSecond, rules.getOffset(Instant.EPOCH).getTotalSeconds());
+        }
+        long local = afterSecond + rules.getOffset(Instant.ofEpochSecond(afterSecond)).getTotalSeconds();
+        while (true) {
+            local = nextLocal(local);
+            if (local == NO_MATCH) {
+                return NO_MATCH;
+            }
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC);
+            ZoneOffsetTransition transition = rules.getTransition(dateTime);
+            long instant;
+            if (transition == null) {
+                instant = local - rules.getOffset(dateTime).getTotalSeconds();
+            } else if (transition.isGap()) {
+                instant = transition.toEpochSecond();
+            } else {
+                instant = local - transition.getOffsetBefore().getTotalSeconds();
+            }
+            if (instant > afterSecond) {
+                return instant * 1000;
+            }
+        }
+    }
+
+    private long nextFixed(long afterSecond, int offset) {
+        long next = nextLocal(afterSecond + offset);
+        return next == NO_MATCH ? NO_MATCH : (next - offset) * 1000;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    // ---------------------------------------------------------------------
+    // Yardımcılar
+    // ---------------------------------------------------------------------
+
+    // Ayın eşleşen günlerinin bit kümesi (bit 1-31), ayın gün sayısıyla sınırlı
+    private int dayMask(int year, int month) {
+        int length = daysInMonth(year, month);
+        int valid = (int) ((1L << (length + 1)) - 2);
+        if (!dowRestricted) {
+            return daysOfMonth & valid;
+        }
+        int firstDow = (int) Math.floorMod(daysFromCivil(year, month, 1) + 4, 7L); // 1970-01-01 perşembe
+        int byWeekday = 0;
+        for (int dow = 0; dow < 7; dow++) {
+            if ((daysOfWeek & (1 << dow)) != 0) {
+                for (int d = 1 + Math.floorMod(dow - firstDow, 7); d <= length; d += 7) {
+                    byWeekday |= 1 << d;
+                }
+            }
+        }
+        if (!domRestricted) {
+            return byWeekday;
+        }
+        return (daysOfMonth & valid) | byWeekday;
+    }
+
+    private static int nextBit(int bits, int from) {
+        if (from >= 32) {
+            return -1;
+        }
+        int masked = bits & (-1 << from);
+        return masked == 0 ? -1 : Integer.numberOfTrailingZeros(masked);
+    }
+
+    private static int nextBit(long bits, int from) {
+        if (from >= 64) {
+            return -1;
+        }
+        long masked = bits & (-1L << from);
+        return masked == 0 ? -1 : Long.numberOfTrailingZeros(masked);
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // Yıl/ay/günden epoch günü (H. Hinnant, days_from_civil)
+    private static long daysFromCivil(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        int yoe = (int) (y - era * 400);
+        int doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146_097 + doe - 719_468;
+    }
+
+    private static String expandMacro(String expression) {
+        switch (expression.toLowerCase()) {
+            case "@yearly":
+            case "@annually":
+                return "0 0 1 1 *";
+            case "@monthly":
+                return "0 0 1 * *";
+            case "@weekly":
+                return "0 0 * * 0";
+            case "@daily":
+            case "@midnight":
+                return "0 0 * * *";
+            case "@hourly":
+                return "0 * * * *";
+            default:
+                return expression;
+        }
+    }
+
+    private static boolean isWildcard(String field) {
+        return field.equals("*") || field.equals("?");
+    }
+
+    private static long parseField(String field, int min, int max, String[] names, String expression) {
+        long bits = 0;
+        for (String part : field.split(",")) {
+            int step = 1;
+            String range = part;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                range = part.substring(0, slash);
+                step = parseNumber(part.substring(slash + 1), 1, max - min + 1, null, expression);
+            }
+            int from;
+            int to;
+            if (range.equals("*") || range.equals("?")) {
+                from = min;
+                to = max;
+            } else {
+                int dash = range.indexOf('-');
+                if (dash > 0) {
+                    from = parseNumber(range.substring(0, dash), min, max, names, expression);
+                    to = parseNumber(range.substring(dash + 1), min, max, names, expression);
+                    if (from > to) {
+                        throw new IllegalArgumentException("Geçersiz aralık '" + range + "': " + expression);
+                    }
+                } else {
+                    from = parseNumber(range, min, max, names, expression);
+                    to = slash >= 0 ? max : from;
+                }
+            }
+            for (int value = from; value <= to; value += step) {
+                bits |= 1L << value;
+            }
+        }
+        return bits;
+    }
+
+    private static int parseNumber(String text, int min, int max, String[] names, String expression) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i] != null && names[i].equalsIgnoreCase(text)) {
+                    return i;
+                }
+            }
+        }
+        int value;
+        try {
+            value = Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Geçersiz cron değeri '" + text + "': " + expression);
+        }
+        if (value < min || value > max) {
+            throw new IllegalArgumentException("Cron değeri '" + text + "' " + min + "-" + max +
+                                               " aralığında olmalı: " + expression);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,393 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CronScheduler işleri için belleğe eşlenmiş (memory-mapped), yalnızca sona eklenen bir günlük.
+ *
+ * Kalıcı işler kod olarak değil, bir işleyici (handler) adıyla kaydedilir; yeniden başlatmada
+ * ad tekrar bir Runnable'a çözülür. Günlükte dört kayıt tipi vardır:
+ * - CRON: cron ifadesiyle tekrarlanan bir iş (ID, oluşturulma zamanı, ifade, işleyici)
+ * - ONCE: tek seferlik bir iş (ID, oluşturulma zamanı, çalışma zamanı, işleyici)
+ * - FIRE: cron işinin bir çalışmasının başladığı planlanan an
+ * - REMOVE: işin iptal edildiği, tamamlandığı veya başladığı (tek seferlik) bilgisi
+ *
+ * Kayıt biçimi: [int uzunluk][byte tip][long ID][alanlar]. Uzunluk alanı kayıt yazıldıktan sonra
+ * yazılır ve dosyanın sonu sıfırlarla dolu olduğundan, süreç çökmesinde yarım kalan kayıt okunmaz.
+ * Eşlenmiş sayfalar işletim sistemi tarafından diske yazılır; işletim sistemi çökmesine karşı
+ * {@link #force()} çağrılmalıdır (sıkıştırma ve kapatma bunu kendisi yapar).
+ *
+ * Açılışta dosya tek geçişte okunur ve canlı işler bellekte tutulur. Günlük, canlı kayıtların
+ * birkaç katına ulaştığında yalnızca canlı işleri içeren yeni bir dosyaya sıkıştırılır.
+ * Tüm yazma işlemleri thread-safe'tir. Kayıt yazılamazsa (boyut sınırı, çok uzun metin) canlı işler değişmez;
+ * kayıt yazıldıktan sonra sıkıştırma başarısız olursa UncheckedIOException fırlatılır ama kayıt geçerlidir.
+ */
+public final class CronJournal implements Closeable {
+
+    private static final int MAGIC = 0x43524E4A; // "CRNJ"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16; // Sihirli sayı, sürüm, sıkıştırma anındaki en büyük ID
+    private static final int INITIAL_MAPPING = 1 << 20;
+    private static final int MAX_RECORD_SIZE = 4 + 9 + 8 + 2 * (2 + Short.MAX_VALUE);
+
+    private static final byte CRON = 1;
+    private static final byte ONCE = 2;
+    private static final byte FIRE = 3;
+    private static final byte REMOVE = 4;
+
+    // Sıkıştırma eşikleri: günlük en az bu boyutta ve canlı iş sayısının bu katı kadar kayıt içermeli
+    private static final long COMPACT_MIN_BYTES = 4L << 20;
+    private static final int COMPACT_RATIO = 4;
+
+    private final Path file;
+    private final TaskRegistry<Entry> live = new TaskRegistry<>();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int position;
+    private long records;
+    private long maxId;
+    private boolean closed;
+
+    private CronJournal(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Günlüğü açar (yoksa oluşturur) ve içindeki canlı işleri yükler.
+     *
+     * @param file Günlük dosyası
+     * @return Açılan günlük
+     * @throws IOException Dosya okunamıyor veya bir CronJournal dosyası değilse
+     */
+    public static CronJournal open(Path file) throws IOException {
+        CronJournal journal = new CronJournal(file);
+        journal.map(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                     StandardOpenOption.WRITE));
+        journal.load();
+        return journal;
+    }
+
+    /**
+     * Günlükteki canlı (iptal edilmemiş, tamamlanmamış) iş sayısını döndürür.
+     */
+    public int size() {
+        return live.size();
+    }
+
+    /**
+     * Günlükte kullanılan byte sayısını döndürür.
+     */
+    public synchronized long getUsedBytes() {
+        return position;
+    }
+
+    /**
+     * Günlükteki en büyük iş ID'sini döndürür; yeni işler bu ID'den sonra numaralandırılmalıdır.
+     */
+    public synchronized long getMaxId() {
+        return maxId;
+    }
+
+    // Canlı işlerin anlık bir kopyası (sıra belirsizdir)
+    List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>(live.size());
+        live.forEach(entries::add);
+        return entries;
+    }
+
+    // Canlı işler yalnızca kayıt yazıldıktan sonra güncellenir; sıkıştırma en son yapılır ki yeni durumu içersin
+    synchronized void recordCron(long id, long createdMillis, String expression, String handler) {
+        if (closed) {
+            return;
+        }
+        Entry entry = new Entry(id, createdMillis, expression, 0, handler);
+        append(entry.encodedSize(), CRON, id, entry);
+        live.put(id, entry);
+        compactIfNeeded();
+    }
+
+    synchronized void recordOnce(long id, long createdMillis, long fireTime, String handler) {
+        if (closed) {
+            return;
+        }
+        Entry entry = new Entry(id, createdMillis, null, fireTime, handler);
+        append(entry.encodedSize(), ONCE, id, entry);
+        live.put(id, entry);
+        compactIfNeeded();
+    }
+
+    synchronized void recordFire(long id, long fireTime) {
+        Entry entry = live.get(id);
+        if (entry == null || closed) {
+            return;
+        }
+        ensureCapacity(4 + 17);
+        buffer.putLong(position + 4 + 9, fireTime);
+        publish(FIRE, id, 17);
+        entry.lastFire = fireTime;
+        compactIfNeeded();
+    }
+
+    synchronized void recordRemove(long id) {
+        if (closed || live.get(id) == null) {
+            return;
+        }
+        ensureCapacity(4 + 9);
+        publish(REMOVE, id, 9);
+        live.remove(id);
+        compactIfNeeded();
+    }
+
+    /**
+     * Günlüğü yalnızca canlı işleri içeren yeni bir dosyaya yazar ve eskisinin yerine koyar.
+     * Yazma işlemleri gerektiğinde bunu kendileri de yapar.
+     *
+     * @throws IOException Yeni dosya yazılamazsa (eski günlük bu durumda geçerli kalır)
+     */
+    public synchronized void compact() throws IOException {
+        if (closed) {
+            return;
+        }
+        List<Entry> entries = entries();
+        long size = HEADER_SIZE;
+        for (Entry entry : entries) {
+            size += 4 + entry.encodedSize() + (entry.lastFire != 0 ? 4 + 17 : 0);
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Günlük çok büyük: " + size + " byte");
+        }
+
+        ByteBuffer out = ByteBuffer.allocate((int) size);
+        out.putInt(MAGIC).putInt(VERSION).putLong(maxId); // Silinen işlerin ID'leri tekrar kullanılmasın
+        for (Entry entry : entries) {
+            int length = entry.encodedSize();
+            out.putInt(length);
+            int start = out.position();
+            out.put(entry.expression != null ? CRON : ONCE).putLong(entry.id);
+            entry.encode(out);
+            out.position(start + length);
+            if (entry.lastFire != 0) {
+                out.putInt(17).put(FIRE).putLong(entry.id).putLong(entry.lastFire);
+            }
+        }
+        out.flip();
+
+        Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (out.hasRemaining()) {
+                target.write(out);
+            }
+            target.force(true);
+        }
+        Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel.close();
+        map(FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        position = (int) size;
+        records = entries.size();
+    }
+
+    /**
+     * Eşlenmiş sayfaları diske yazar.
+     */
+    public synchronized void force() {
+        if (!closed) {
+            buffer.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        buffer.force();
+        closed = true;
+        channel.close();
+    }
+
+    // -------------------------------------------------------------------------
+    // Dosya erişimi
+    // -------------------------------------------------------------------------
+
+    private void map(FileChannel newChannel) throws IOException {
+        channel = newChannel;
+        long size = Math.max(INITIAL_MAPPING, channel.size());
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private void load() throws IOException {
+        if (buffer.getInt(0) == 0) {
+            buffer.putInt(0, MAGIC).putInt(4, VERSION);
+        } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            channel.close();
+            throw new IOException("Geçersiz CronJournal dosyası: " + file);
+        }
+        maxId = buffer.getLong(8);
+
+        int pos = HEADER_SIZE;
+        int limit = buffer.capacity();
+        ByteBuffer fields = buffer.duplicate();
+        Map<String, String> handlers = new HashMap<>(); // Aynı işleyici adı tek String olarak tutulur
+        while (pos + 4 <= limit) {
+            int length = buffer.getInt(pos);
+            if (length < 9 || pos + 4 + length > limit) {
+                break; // Günlüğün sonu (veya yarım kalan kayıt)
+            }
+            int body = pos + 4;
+            byte type = buffer.get(body);
+            long id = buffer.getLong(body + 1);
+            switch (type) {
+                case CRON:
+                case ONCE:
+                    fields.position(body + 9);
+                    live.put(id, Entry.decode(id, type == CRON, fields, handlers));
+                    break;
+                case FIRE:
+                    Entry entry = live.get(id);
+                    if (entry != null) {
+                        entry.lastFire = buffer.getLong(body + 9);
+                    }
+                    break;
+                case REMOVE:
+                    live.remove(id);
+                    break;
+                default:
+                    limit = pos; // Tanınmayan kayıt: buradan sonrası güvenilmez
+                    continue;
+            }
+            maxId = Math.max(maxId, id);
+            records++;
+            pos = body + length;
+        }
+        position = pos;
+        // Yarım kalmış bir kaydın gövdesini temizle ki yeni kayıtlar onunla karışmasın
+        for (int i = pos; i < Math.min(buffer.capacity(), pos + MAX_RECORD_SIZE); i++) {
+            buffer.put(i, (byte) 0);
+        }
+    }
+
+    private void append(int length, byte type, long id, Entry entry) {
+        ensureCapacity(4 + length);
+        ByteBuffer body = buffer.duplicate();
+        body.position(position + 4 + 9);
+        entry.encode(body);
+        publish(type, id, length);
+    }
+
+    // Kayıt gövdesi yazıldıktan sonra tipi, ID'yi ve en son uzunluğu yazar
+    private void publish(byte type, long id, int length) {
+        buffer.put(position + 4, type);
+        buffer.putLong(position + 5, id);
+        buffer.putInt(position, length);
+        position += 4 + length;
+        records++;
+        maxId = Math.max(maxId, id);
+    }
+
+    private void compactIfNeeded() {
+        if (position > COMPACT_MIN_BYTES && records > (long) COMPACT_RATIO * live.size()) {
+            try {
+                compact();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void ensureCapacity(int bytes) {
+        long required = (long) position + bytes + 4; // Sondaki uzunluk alanı sıfır kalmalı
+        if (required <= buffer.capacity()) {
+            return;
+        }
+        long size = Math.max(required, 2L * buffer.capacity());
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Günlük 2 GB sınırını aştı: " + file);
+        }
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Günlükteki canlı bir iş.
+     */
+    static final class Entry {
+        final long id;
+        final long createdMillis;
+        final String expression; // Tek seferlik işlerde null
+        final long fireTime;     // Yalnızca tek seferlik işlerde
+        final String handler;
+        volatile long lastFire;  // Cron işinin başlayan son çalışması, hiç çalışmadıysa 0
+
+        Entry(long id, long createdMillis, String expression, long fireTime, String handler) {
+            this.id = id;
+            this.createdMillis = createdMillis;
+            this.expression = expression;
+            this.fireTime = fireTime;
+            this.handler = handler;
+        }
+
+        // Tip ve ID dahil gövde uzunluğu
+        int encodedSize() {
+            int size = 9 + 8 + 2 + utf8Length(handler);
+            return size + (expression != null ? 2 + utf8Length(expression) : 8);
+        }
+
+        void encode(ByteBuffer out) {
+            out.putLong(createdMillis);
+            putString(out, handler);
+            if (expression != null) {
+                putString(out, expression);
+            } else {
+                out.putLong(fireTime);
+            }
+        }
+
+        static Entry decode(long id, boolean cron, ByteBuffer in, Map<String, String> handlers) {
+            long createdMillis = in.getLong();
+            String handler = handlers.computeIfAbsent(getString(in), name -> name);
+            if (cron) {
+                return new Entry(id, createdMillis, getString(in), 0, handler);
+            }
+            return new Entry(id, createdMillis, null, in.getLong(), handler);
+        }
+
+        // Uzunluk, kayıt yazılmaya başlamadan denetlenir: yarım kalan gövde sonraki kayıtlarla karışmasın
+        private static int utf8Length(String text) {
+            int length = text.getBytes(StandardCharsets.UTF_8).length;
+            if (length > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Metin çok uzun: " + length + " byte");
+            }
+            return length;
+        }
+
+        private static void putString(ByteBuffer out, String text) {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Metin çok uzun: " + bytes.length + " byte");
+            }
+            out.putShort((short) bytes.length).put(bytes);
+        }
+
+        private static String getString(ByteBuffer in) {
+            byte[] bytes = new byte[in.getShort()];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
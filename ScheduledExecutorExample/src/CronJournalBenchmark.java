@@ -0,0 +1,107 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * CronScheduler'ın yeniden başlatmada işlerini geri yükleme süresini ölçer (varsayılan 100.000 iş).
+ *
+ * - Öncesi: tüm işlerin genel API ile tek tek yeniden zamanlanması (her kayıt loglanır)
+ * - Sonrası: aynı işlerin CronJournal'dan toplu olarak geri yüklenmesi (günlüğü açma + recover)
+ *
+ * İşler 16 farklı işleyici adına dağıtılır ve çoğu farklı olan rastgele cron ifadeleri kullanır.
+ * <pre>
+ * java -cp out CronJournalBenchmark 100000
+ * </pre>
+ */
+public class CronJournalBenchmark {
+
+    private static final int HANDLERS = 16;
+
+    public static void main(String[] args) throws Exception {
+        int jobs = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        System.out.println("CronJournal Geri Yükleme Benchmark'ı (" + jobs + " iş)");
+        System.out.println("=============================================");
+
+        Map<String, Runnable> handlers = new HashMap<>();
+        for (int i = 0; i < HANDLERS; i++) {
+            handlers.put("rapor-" + i, () -> { });
+        }
+        String[] expressions = generate(jobs, new Random(42));
+
+        Path file = Files.createTempFile("cron-journal", ".bin");
+        try {
+            // Isınma
+            for (int i = 0; i < 2; i++) {
+                Files.deleteIfExists(file);
+                scheduleAll(file, expressions, handlers, false);
+                recoverAll(file, handlers, jobs, false);
+            }
+
+            Files.deleteIfExists(file);
+            scheduleAll(file, expressions, handlers, true);
+            System.out.printf("Günlük boyutu: %.1f MB%n", Files.size(file) / 1e6);
+            recoverAll(file, handlers, jobs, true);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // Öncesi: işleri genel API ile tek tek zamanlar, aynı zamanda günlüğü oluşturur
+    private static void scheduleAll(Path file, String[] expressions,
+                                    Map<String, Runnable> handlers, boolean print) throws Exception {
+        CronScheduler scheduler = new CronScheduler(Clock.systemDefaultZone(), 1, 0, CronJournal.open(file));
+        scheduler.setLogging(false);
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < expressions.length; i++) {
+                String handler = "rapor-" + (i % HANDLERS);
+                scheduler.scheduleCron(expressions[i], handlers.get(handler), handler);
+            }
+            long elapsed = System.nanoTime() - start;
+            if (print) {
+                System.out.printf("%-36s %8.1f ms (%.2f µs/iş)%n", "Öncesi: API ile tek tek zamanlama",
+                        elapsed / 1e6, elapsed / 1e3 / expressions.length);
+            }
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    // Sonrası: günlüğü açar ve tüm işleri toplu olarak geri yükler
+    private static void recoverAll(Path file, Map<String, Runnable> handlers, int expected,
+                                   boolean print) throws Exception {
+        CronScheduler scheduler = null;
+        try {
+            long start = System.nanoTime();
+            CronJournal journal = CronJournal.open(file);
+            long opened = System.nanoTime();
+            scheduler = new CronScheduler(Clock.systemDefaultZone(), 1, 0, journal);
+            scheduler.setLogging(false);
+            int recovered = scheduler.recover(handlers::get, CronScheduler.MissedFirePolicy.FIRE_ONCE);
+            long end = System.nanoTime();
+            if (print) {
+                System.out.printf("%-36s %8.1f ms (günlüğü okuma: %.1f ms, planlama: %.1f ms), %d/%d iş%n",
+                        "Sonrası: günlükten toplu geri yükleme", (end - start) / 1e6,
+                        (opened - start) / 1e6, (end - opened) / 1e6, recovered, expected);
+            }
+        } finally {
+            if (scheduler != null) {
+                scheduler.shutdown();
+            }
+        }
+    }
+
+    private static String[] generate(int count, Random random) {
+        String[] expressions = new String[count];
+        for (int i = 0; i < count; i++) {
+            String dayOfMonth = random.nextBoolean() ? "*" : String.valueOf(1 + random.nextInt(28));
+            String dayOfWeek = random.nextInt(4) == 0 ? "MON-FRI" : "*";
+            expressions[i] = random.nextInt(60) + " " + random.nextInt(60) + " " + random.nextInt(24) + " " +
+                             dayOfMonth + " * " + dayOfWeek;
+        }
+        return expressions;
+    }
+}
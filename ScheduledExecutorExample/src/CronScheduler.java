@@ -1,33 +1,144 @@
 import java.util.concurrent.*;
+import java.io.IOException;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 /**
  * Java ScheduledExecutorService kullanarak cron-benzeri bir zamanlayıcı.
  * Bu sınıf, günlük, saatlik, dakikalık vb. belirli zamanlarda çalışacak işleri zamanlar.
+ * 
+ * Aynı tick'e (varsayılan 1 ms) düşen çalışmalar tek bir zamanlayıcı girdisinde (yuva) toplanır.
+ * Yuva tetiklendiğinde işler tek seferde parçalara bölünerek worker thread'lerine dağıtılır;
+ * böylece dakika ve saat başlarında binlerce ayrı uyanma ve kuyruk işlemi yerine tek bir uyanma olur.
+ * 
+ * Aynı ana yığılan tekrarlanan işler {@link #setLoadSpreading(long, int)} ile bir pencereye yayılabilir.
+ * 
+ * İsteğe bağlı bir {@link CronJournal} verilirse, işleyici adıyla zamanlanan işler günlüğe yazılır
+ * ve yeniden başlatmada {@link #recover(Function, MissedFirePolicy)} ile toplu olarak geri yüklenir.
  */
 public class CronScheduler {
     
-    private final ScheduledExecutorService scheduler;
-    private final Map<String, ScheduledFuture<?>> scheduledJobs;
-    private final AtomicInteger jobIdCounter;
+    private static final int SCHEDULER_THREADS = 2;
+    
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ExecutorService workers;
+    private final int workerParallelism;
+    private final long coalesceMillis;
+    private final ConcurrentHashMap<Long, Slot> slots;
+    private final TaskRegistry<Job> scheduledJobs;
+    private final AtomicLong jobIdCounter;
     private final Clock clock;
     private final DateTimeFormatter formatter;
+    private final CronJournal journal; // null ise işler kalıcı değildir
+    
+    // Yük yayma ayarları (bkz. setLoadSpreading)
+    private volatile long jitterWindowMillis;
+    private volatile int maxStartsPerTick;
+    private volatile boolean logging = true;
+    
+    // Gruplama istatistikleri
+    private final LongAdder timerWakeups = new LongAdder();
+    private final LongAdder dispatchedJobs = new LongAdder();
+    private final LongAdder totalDispatchLatency = new LongAdder();
+    private final AtomicLong maxDispatchLatency = new AtomicLong();
+    private final LongAdder deferredStarts = new LongAdder();
     
     public CronScheduler() {
         this(Clock.systemDefaultZone());
     }
     
     public CronScheduler(Clock clock) {
-        this.scheduler = Executors.newScheduledThreadPool(2);
-        this.scheduledJobs = new HashMap<>();
-        this.jobIdCounter = new AtomicInteger(0);
+        this(clock, 1, 0);
+    }
+    
+    /**
+     * @param clock Zaman kaynağı
+     * @param coalesceMillis Aynı zamanlayıcı girdisinde toplanacak çalışmaların tick süresi (ms).
+     *                       Çalışmalar tick sınırına yukarı yuvarlanır, yani hiçbir zaman erken çalışmaz.
+     *                       0 gruplamayı kapatır: her çalışma kendi zamanlayıcı girdisiyle planlanır.
+     * @param workerThreads İşleri çalıştıracak ayrı worker thread sayısı;
+     *                      0 ise işler zamanlayıcı thread'lerinde çalışır
+     */
+    public CronScheduler(Clock clock, long coalesceMillis, int workerThreads) {
+        this(clock, coalesceMillis, workerThreads, null);
+    }
+    
+    /**
+     * @param clock Zaman kaynağı
+     * @param coalesceMillis Aynı zamanlayıcı girdisinde toplanacak çalışmaların tick süresi (ms), 0 gruplamayı kapatır
+     * @param workerThreads İşleri çalıştıracak ayrı worker thread sayısı; 0 ise işler zamanlayıcı thread'lerinde çalışır
+     * @param journal İşleyici adıyla zamanlanan işlerin yazılacağı günlük (zamanlayıcı kapatılırken o da kapatılır);
+     *                null ise işler kalıcı değildir. Yeni iş ID'leri günlükteki en büyük ID'den devam eder.
+     */
+    public CronScheduler(Clock clock, long coalesceMillis, int workerThreads, CronJournal journal) {
+        if (coalesceMillis < 0) {
+            throw new IllegalArgumentException("coalesceMillis negatif olamaz: " + coalesceMillis);
+        }
+        this.scheduler = new ScheduledThreadPoolExecutor(SCHEDULER_THREADS);
+        // Kapatmada bekleyen yuvalar çalıştırılmasın
+        this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.workers = workerThreads > 0 ? Executors.newFixedThreadPool(workerThreads) : scheduler;
+        this.workerParallelism = workerThreads > 0 ? workerThreads : SCHEDULER_THREADS;
+        this.coalesceMillis = coalesceMillis;
+        this.slots = new ConcurrentHashMap<>();
+        this.scheduledJobs = new TaskRegistry<>();
+        this.jobIdCounter = new AtomicLong(journal != null ? journal.getMaxId() : 0);
         this.clock = clock;
         this.formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        this.journal = journal;
+    }
+    
+    /**
+     * Konsola yazılan olay loglarını açar veya kapatır (varsayılan: açık); kapalıyken mesajlar biçimlendirilmez.
+     */
+    public void setLogging(boolean enabled) {
+        this.logging = enabled;
+    }
+    
+    /**
+     * Aynı ana düşen tekrarlanan işleri bir zaman penceresine yayar (varsayılan olarak kapalı).
+     * 
+     * Her tekrarlanan iş, ID'sinin hash'inden türetilen ve hep aynı kalan bir kayma ile planlanan
+     * zamandan sonra çalışır; böylece ör. binlerce scheduleEveryMinute(job, 0) işi dakikanın ilk
+     * saniyesine yığılmak yerine pencereye dağılır, ama her iş kendi aralığını korur.
+     * Tek seferlik işler kaydırılmaz. Ayarlar her işin bir sonraki planlamasından itibaren geçerlidir.
+     * 
+     * @param jitterWindowMillis Kayma penceresi (ms), 0 kapatır; işin en kısa aralığından küçük olmalıdır
+     * @param maxStartsPerTick Bir tick'te başlatılacak en fazla iş sayısı, 0 sınırsız.
+     *                         Fazlası sonraki tick'e ertelenir; gruplama (coalesceMillis &gt; 0) gerektirir.
+     */
+    public void setLoadSpreading(long jitterWindowMillis, int maxStartsPerTick) {
+        if (jitterWindowMillis < 0 || maxStartsPerTick < 0) {
+            throw new IllegalArgumentException("Pencere ve tick sınırı negatif olamaz");
+        }
+        if (maxStartsPerTick > 0 && coalesceMillis == 0) {
+            throw new IllegalArgumentException("Tick başına sınır gruplama (coalesceMillis > 0) gerektirir");
+        }
+        this.jitterWindowMillis = jitterWindowMillis;
+        this.maxStartsPerTick = maxStartsPerTick;
+    }
+    
+    /**
+     * İşin yük yayma penceresindeki sabit kayması: ID'nin karıştırılmış hash'i, pencereye göre modu.
+     */
+    static long jitterOffset(long id, long windowMillis) {
+        if (windowMillis <= 0) {
+            return 0;
+        }
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return Math.floorMod(h, windowMillis);
     }
     
     /**
@@ -38,36 +149,49 @@ public class CronScheduler {
      * @return İşe atanan ID
      */
     public String scheduleAt(Runnable job, LocalDateTime executionTime) {
-        String jobId = "OneTime-" + jobIdCounter.incrementAndGet();
-        
+        return scheduleAt(job, executionTime, null);
+    }
+    
+    /**
+     * Bir işi belirli bir zamanda çalıştırmak için zamanlar ve (günlük varsa) kalıcı hale getirir.
+     * 
+     * @param job Çalıştırılacak iş
+     * @param executionTime Çalıştırılacak zaman
+     * @param handler Yeniden başlatmada işi {@link #recover} ile tekrar bulmak için işleyici adı;
+     *                null ise iş günlüğe yazılmaz
+     * @return İşe atanan ID
+     */
+    public String scheduleAt(Runnable job, LocalDateTime executionTime, String handler) {
         LocalDateTime now = LocalDateTime.now(clock);
         if (executionTime.isBefore(now)) {
             log("Geçmiş bir zaman için iş zamanlanamaz: " + formatTime(executionTime));
             return null;
         }
         
-        long delay = ChronoUnit.MILLIS.between(now, executionTime);
+        long id = jobIdCounter.incrementAndGet();
+        String jobId = TaskRegistry.alias("OneTime", id);
+        long fireTime = executionTime.atZone(clock.getZone()).toInstant().toEpochMilli();
         log("İş planlanıyor: " + jobId + ", çalışma zamanı: " + formatTime(executionTime) + 
-            " (şimdi: " + formatTime(now) + ", gecikme: " + delay + "ms)");
+            " (şimdi: " + formatTime(now) + ", gecikme: " + (fireTime - clock.millis()) + "ms)");
         
-        ScheduledFuture<?> future = scheduler.schedule(() -> {
+        Job oneTime = new Job(id, "OneTime", "İş", null, job, journal != null ? handler : null);
+        if (oneTime.handler != null) {
             try {
-                log("İş çalıştırılıyor: " + jobId);
-                job.run();
-                log("İş tamamlandı: " + jobId);
-            } catch (Exception e) {
-                log("İş hatası: " + jobId + ", hata: " + e.getMessage());
-            } finally {
-                scheduledJobs.remove(jobId);
+                journal.recordOnce(id, clock.millis(), fireTime, handler);
+            } catch (RuntimeException e) {
+                removeFromJournal(id); // Kayıt yazılıp sıkıştırma başarısız olduysa: zamanlanmayan iş günlükte kalmasın
+                throw e;
             }
-        }, delay, TimeUnit.MILLISECONDS);
-        
-        scheduledJobs.put(jobId, future);
+        }
+        scheduledJobs.put(id, oneTime);
+        planRun(oneTime, fireTime);
         return jobId;
     }
     
     /**
      * Bir işi her gün belirtilen saatte çalıştırmak için zamanlar.
+     * Sonraki çalışma her seferinde takvime göre yeniden hesaplandığı için
+     * yaz saati geçişlerinde ve uzun duraklamalardan sonra kayma olmaz.
      * 
      * @param job Çalıştırılacak iş
      * @param hour Saat (0-23)
@@ -76,35 +200,8 @@ public class CronScheduler {
      * @return İşe atanan ID
      */
     public String scheduleDaily(Runnable job, int hour, int minute, int second) {
-        String jobId = "Daily-" + jobIdCounter.incrementAndGet();
-        
-        LocalDateTime now = LocalDateTime.now(clock);
-        LocalDateTime nextRun = now.withHour(hour).withMinute(minute).withSecond(second).withNano(0);
-        
-        // Eğer belirtilen zaman bugün için geçmişse, sonraki günü hesapla
-        if (nextRun.isBefore(now)) {
-            nextRun = nextRun.plusDays(1);
-        }
-        
-        long initialDelay = ChronoUnit.MILLIS.between(now, nextRun);
-        long dayInMillis = TimeUnit.DAYS.toMillis(1);
-        
-        log("Günlük iş planlanıyor: " + jobId + ", ilk çalışma: " + formatTime(nextRun) + 
-            " (şimdi: " + formatTime(now) + ", ilk gecikme: " + initialDelay + "ms)");
-        
-        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
-            try {
-                log("Günlük iş çalıştırılıyor: " + jobId);
-                job.run();
-                log("Günlük iş tamamlandı: " + jobId);
-            } catch (Exception e) {
-                log("Günlük iş hatası: " + jobId + ", hata: " + e.getMessage());
-                // Periyodik işlerde hata oluştuğunda ScheduledExecutorService görevi iptal eder
-            }
-        }, initialDelay, dayInMillis, TimeUnit.MILLISECONDS);
-        
-        scheduledJobs.put(jobId, future);
-        return jobId;
+        CronExpression cron = CronExpression.parse(second + " " + minute + " " + hour + " * * *");
+        return scheduleRecurring("Daily", "Günlük", cron, job, null);
     }
     
     /**
@@ -116,34 +213,8 @@ public class CronScheduler {
      * @return İşe atanan ID
      */
     public String scheduleHourly(Runnable job, int minute, int second) {
-        String jobId = "Hourly-" + jobIdCounter.incrementAndGet();
-        
-        LocalDateTime now = LocalDateTime.now(clock);
-        LocalDateTime nextRun = now.withMinute(minute).withSecond(second).withNano(0);
-        
-        // Eğer belirtilen zaman bu saat için geçmişse, sonraki saati hesapla
-        if (nextRun.isBefore(now)) {
-            nextRun = nextRun.plusHours(1);
-        }
-        
-        long initialDelay = ChronoUnit.MILLIS.between(now, nextRun);
-        long hourInMillis = TimeUnit.HOURS.toMillis(1);
-        
-        log("Saatlik iş planlanıyor: " + jobId + ", ilk çalışma: " + formatTime(nextRun) + 
-            " (şimdi: " + formatTime(now) + ", ilk gecikme: " + initialDelay + "ms)");
-        
-        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
-            try {
-                log("Saatlik iş çalıştırılıyor: " + jobId);
-                job.run();
-                log("Saatlik iş tamamlandı: " + jobId);
-            } catch (Exception e) {
-                log("Saatlik iş hatası: " + jobId + ", hata: " + e.getMessage());
-            }
-        }, initialDelay, hourInMillis, TimeUnit.MILLISECONDS);
-        
-        scheduledJobs.put(jobId, future);
-        return jobId;
+        CronExpression cron = CronExpression.parse(second + " " + minute + " * * * *");
+        return scheduleRecurring("Hourly", "Saatlik", cron, job, null);
     }
     
     /**
@@ -154,36 +225,238 @@ public class CronScheduler {
      * @return İşe atanan ID
      */
     public String scheduleEveryMinute(Runnable job, int second) {
-        String jobId = "Minute-" + jobIdCounter.incrementAndGet();
-        
-        LocalDateTime now = LocalDateTime.now(clock);
-        LocalDateTime nextRun = now.withSecond(second).withNano(0);
-        
-        // Eğer belirtilen zaman bu dakika için geçmişse, sonraki dakikayı hesapla
-        if (nextRun.isBefore(now)) {
-            nextRun = nextRun.plusMinutes(1);
+        CronExpression cron = CronExpression.parse(second + " * * * * *");
+        return scheduleRecurring("Minute", "Dakikalık", cron, job, null);
+    }
+    
+    /**
+     * Bir işi cron ifadesine göre zamanlar, ör. hafta içi her 5 dakikada bir: "*&#47;5 * * * MON-FRI".
+     * İfade biçimi için {@link CronExpression}'a bakın.
+     * 
+     * @param expression 5 veya 6 alanlı (saniyeli) cron ifadesi
+     * @param job Çalıştırılacak iş
+     * @return İşe atanan ID, ifade hiçbir zaman eşleşmiyorsa null
+     * @throws IllegalArgumentException İfade geçersizse
+     */
+    public String scheduleCron(String expression, Runnable job) {
+        return scheduleCron(expression, job, null);
+    }
+    
+    /**
+     * Bir işi cron ifadesine göre zamanlar ve (günlük varsa) kalıcı hale getirir.
+     * 
+     * @param expression 5 veya 6 alanlı (saniyeli) cron ifadesi
+     * @param job Çalıştırılacak iş
+     * @param handler Yeniden başlatmada işi {@link #recover} ile tekrar bulmak için işleyici adı;
+     *                null ise iş günlüğe yazılmaz
+     * @return İşe atanan ID, ifade hiçbir zaman eşleşmiyorsa null
+     * @throws IllegalArgumentException İfade geçersizse
+     */
+    public String scheduleCron(String expression, Runnable job, String handler) {
+        return scheduleRecurring("Cron", "Cron", CronExpression.parse(expression), job, handler);
+    }
+    
+    // Tekrarlanan bir işi ilk çalışma zamanından itibaren planlar
+    private String scheduleRecurring(String prefix, String label, CronExpression cron, Runnable job, String handler) {
+        long now = clock.millis();
+        // Tam şu an da eşleşiyorsa (eski davranıştaki gibi) hemen çalışsın
+        long nextRun = cron.next(now - 1, clock.getZone());
+        if (nextRun == CronExpression.NO_MATCH) {
+            log("Cron ifadesi hiçbir zamanla eşleşmiyor: " + cron);
+            return null;
         }
         
-        long initialDelay = ChronoUnit.MILLIS.between(now, nextRun);
-        long minuteInMillis = TimeUnit.MINUTES.toMillis(1);
+        long id = jobIdCounter.incrementAndGet();
+        String jobId = TaskRegistry.alias(prefix, id);
+        log(label + " iş planlanıyor: " + jobId + " (" + cron + "), ilk çalışma: " + formatTime(nextRun) + 
+            " (şimdi: " + formatTime(now) + ", ilk gecikme: " + (nextRun - now) + "ms)");
         
-        log("Dakikalık iş planlanıyor: " + jobId + ", ilk çalışma: " + formatTime(nextRun) + 
-            " (şimdi: " + formatTime(now) + ", ilk gecikme: " + initialDelay + "ms)");
-        
-        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
+        Job recurring = new Job(id, prefix, label + " iş", cron, job, journal != null ? handler : null);
+        if (recurring.handler != null) {
             try {
-                log("Dakikalık iş çalıştırılıyor: " + jobId);
-                job.run();
-                log("Dakikalık iş tamamlandı: " + jobId);
-            } catch (Exception e) {
-                log("Dakikalık iş hatası: " + jobId + ", hata: " + e.getMessage());
+                journal.recordCron(id, now, cron.toString(), handler);
+            } catch (RuntimeException e) {
+                removeFromJournal(id);
+                throw e;
             }
-        }, initialDelay, minuteInMillis, TimeUnit.MILLISECONDS);
-        
-        scheduledJobs.put(jobId, future);
+        }
+        scheduledJobs.put(id, recurring);
+        planRun(recurring, nextRun);
         return jobId;
     }
     
+    // İşin bir sonraki çalışmasını planlar; tekrarlanan işler yük yayma kaymasıyla kaydırılır
+    private void planRun(Job job, long fireTime) {
+        job.nextFireTime = fireTime;
+        long planned = job.cron != null ? fireTime + jitterOffset(job.id, jitterWindowMillis) : fireTime;
+        job.plannedTime = planned;
+        enqueue(job, planned);
+    }
+    
+    // İşi, verilen zamanın düştüğü yuvaya ekler
+    private void enqueue(Job job, long fireTime) {
+        try {
+            if (coalesceMillis == 0) {
+                Slot slot = new Slot(fireTime, fireTime);
+                slot.add(job);
+                job.handle.setNext(slot);
+                scheduler.schedule(slot, Math.max(0, fireTime - clock.millis()), TimeUnit.MILLISECONDS);
+                return;
+            }
+            
+            long tick = Math.floorDiv(fireTime + coalesceMillis - 1, coalesceMillis);
+            while (true) {
+                Slot slot = slots.get(tick);
+                if (slot == null) {
+                    Slot created = new Slot(tick, tick * coalesceMillis);
+                    slot = slots.putIfAbsent(tick, created);
+                    if (slot == null) {
+                        created.add(job);
+                        job.handle.setNext(created);
+                        scheduler.schedule(created, Math.max(0, created.fireTime - clock.millis()),
+                                           TimeUnit.MILLISECONDS);
+                        return;
+                    }
+                }
+                if (slot.add(job)) {
+                    job.handle.setNext(slot);
+                    return;
+                }
+                // Yuva bu arada tetiklenmiş; yenisini oluştur
+                slots.remove(tick, slot);
+            }
+        } catch (RejectedExecutionException e) {
+            // Zamanlayıcı kapatılıyor
+            job.handle.cancel(false);
+        }
+    }
+    
+    // Tetiklenen bir yuvadaki işleri worker'lara tek seferde, parçalar halinde dağıtır
+    private void dispatch(List<Job> batch) {
+        if (workers == scheduler && batch.size() == 1) {
+            runJob(batch.get(0));
+            return;
+        }
+        int chunks = Math.min(batch.size(), workerParallelism);
+        int chunkSize = (batch.size() + chunks - 1) / chunks;
+        for (int from = 0; from < batch.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(batch.size(), from + chunkSize);
+            try {
+                workers.execute(() -> {
+                    for (int i = start; i < end; i++) {
+                        runJob(batch.get(i));
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                return; // Zamanlayıcı kapatılıyor
+            }
+        }
+    }
+    
+    // Tek bir işi çalıştırır; hatalar yalnızca o işi etkiler
+    private void runJob(Job job) {
+        if (!job.handle.isActive()) {
+            return;
+        }
+        recordDispatchLatency(clock.millis() - job.plannedTime);
+        if (job.handler != null) {
+            // Çalışma başlarken yazılır: çökmeden sonra aynı çalışma tekrarlanmaz. Günlük hatası işi durdurmaz;
+            // yalnızca yeniden başlatmada bu çalışma bir kez daha yapılabilir
+            try {
+                if (job.cron == null) {
+                    journal.recordRemove(job.id);
+                } else {
+                    journal.recordFire(job.id, job.nextFireTime);
+                }
+            } catch (RuntimeException e) {
+                log("Günlüğe yazılamadı: " + job.jobId() + ", hata: " + e);
+            }
+        }
+        try {
+            log(job.label + " çalıştırılıyor: " + job.jobId());
+            job.body.run();
+            log(job.label + " tamamlandı: " + job.jobId());
+        } catch (Exception e) {
+            log(job.label + " hatası: " + job.jobId() + ", hata: " + e.getMessage());
+        }
+        
+        if (job.cron == null) {
+            job.handle.complete();
+            scheduledJobs.remove(job.id, job);
+            return;
+        }
+        // Sabit periyot yerine planlanan andan veya (gecikme olduysa) şimdiden sonraki eşleşme.
+        // Kaçırılan çalışmalar telafi ediliyorsa (FIRE_ALL) şimdiye yetişene kadar planlanan andan devam edilir.
+        long now = clock.millis();
+        long next = job.cron.next(job.catchUp ? job.nextFireTime : Math.max(job.nextFireTime, now), clock.getZone());
+        if (job.catchUp && next > now) {
+            job.catchUp = false;
+        }
+        if (next == CronExpression.NO_MATCH) {
+            log(job.label + " için başka çalışma zamanı yok: " + job.jobId());
+            job.handle.complete();
+            scheduledJobs.remove(job.id, job);
+            if (job.handler != null) {
+                removeFromJournal(job.id);
+            }
+        } else if (job.handle.isActive()) {
+            planRun(job, next);
+        }
+    }
+    
+    // Günlük hataları (sıkıştırma hatası, boyut sınırı) loglanır, zamanlamayı bozmaz
+    private void removeFromJournal(long id) {
+        try {
+            journal.recordRemove(id);
+        } catch (RuntimeException e) {
+            log("Günlükten silinemedi: " + id + ", hata: " + e);
+        }
+    }
+    
+    private void recordDispatchLatency(long latencyMillis) {
+        dispatchedJobs.increment();
+        totalDispatchLatency.add(latencyMillis);
+        maxDispatchLatency.accumulateAndGet(latencyMillis, Math::max);
+    }
+    
+    /**
+     * Zamanlayıcı thread'lerinin yuva tetiklemek için kaç kez uyandığını döndürür.
+     * Gruplama kapalıyken bu, çalıştırılan iş sayısına eşittir.
+     */
+    public long getTimerWakeupCount() {
+        return timerWakeups.sum();
+    }
+    
+    /**
+     * Tick başına sınır nedeniyle sonraki tick'e ertelenen başlatma sayısını döndürür.
+     */
+    public long getDeferredStartCount() {
+        return deferredStarts.sum();
+    }
+    
+    /**
+     * Başlatılan iş çalışması sayısını döndürür.
+     */
+    public long getDispatchedJobCount() {
+        return dispatchedJobs.sum();
+    }
+    
+    /**
+     * Planlanan çalışma zamanı ile işin gerçekte başladığı an arasındaki ortalama gecikme (ms).
+     */
+    public double getAverageDispatchLatencyMillis() {
+        long count = dispatchedJobs.sum();
+        return count == 0 ? 0 : (double) totalDispatchLatency.sum() / count;
+    }
+    
+    /**
+     * Planlanan çalışma zamanı ile işin gerçekte başladığı an arasındaki en yüksek gecikme (ms).
+     */
+    public long getMaxDispatchLatencyMillis() {
+        return maxDispatchLatency.get();
+    }
+    
     /**
      * Belirtilen ID'ye sahip işi iptal eder.
      * 
@@ -191,12 +464,17 @@ public class CronScheduler {
      * @return İşlem başarılıysa true, aksi halde false
      */
     public boolean cancelJob(String jobId) {
-        ScheduledFuture<?> future = scheduledJobs.get(jobId);
-        if (future != null) {
+        long id = TaskRegistry.idOf(jobId);
+        Job job = id == 0 ? null : scheduledJobs.get(id);
+        // idOf yalnızca sayısal soneki çözer: "Daily-5" ile "OneTime-5" aynı işe çıkmasın diye önek de denetlenir
+        if (job != null && job.jobId().equals(jobId)) {
             log("İş iptal ediliyor: " + jobId);
-            boolean result = future.cancel(false);
+            boolean result = job.handle.cancel(false);
             if (result) {
-                scheduledJobs.remove(jobId);
+                scheduledJobs.remove(id, job);
+                if (journal != null) {
+                    removeFromJournal(id);
+                }
                 log("İş başarıyla iptal edildi: " + jobId);
             } else {
                 log("İş iptal edilemedi: " + jobId);
@@ -207,38 +485,224 @@ public class CronScheduler {
         return false;
     }
     
+    /**
+     * Günlükteki canlı işleri toplu olarak geri yükler ve planlar.
+     * İşler tek tek loglanmaz; aynı cron ifadesi bir kez derlenir.
+     * 
+     * Kaçırılan çalışmalar, işin günlükteki son çalışmasından (hiç çalışmadıysa oluşturulduğu andan)
+     * şimdiye kadar eşleşen zamanlardır. Tek seferlik işlerde FIRE_ONCE ve FIRE_ALL aynıdır.
+     * 
+     * @param handlers İşleyici adını çalıştırılacak işe çeviren fonksiyon; null dönerse iş atlanır
+     *                 (günlükte kalır, sonraki bir kurtarmada yüklenebilir)
+     * @param policy Kaçırılan çalışmalar için uygulanacak politika
+     * @return Geri yüklenen iş sayısı
+     * @throws IllegalStateException Zamanlayıcı günlük olmadan oluşturulduysa
+     */
+    public int recover(Function<String, Runnable> handlers, MissedFirePolicy policy) {
+        if (journal == null) {
+            throw new IllegalStateException("Bu zamanlayıcı için günlük (CronJournal) tanımlanmadı");
+        }
+        long start = System.nanoTime();
+        long now = clock.millis();
+        ZoneId zone = clock.getZone();
+        Map<String, CronExpression> compiled = new HashMap<>();
+        int recovered = 0;
+        int missed = 0;
+        int unresolved = 0;
+        
+        for (CronJournal.Entry entry : journal.entries()) {
+            if (scheduledJobs.get(entry.id) != null) {
+                continue; // Zaten yüklenmiş
+            }
+            Runnable body = handlers.apply(entry.handler);
+            if (body == null) {
+                unresolved++;
+                continue;
+            }
+            
+            Job job;
+            long fireTime;
+            if (entry.expression == null) {
+                job = new Job(entry.id, "OneTime", "İş", null, body, entry.handler);
+                fireTime = entry.fireTime;
+                if (fireTime <= now) {
+                    missed++;
+                    if (policy == MissedFirePolicy.SKIP) {
+                        removeFromJournal(entry.id);
+                        continue;
+                    }
+                }
+            } else {
+                CronExpression cron = compiled.computeIfAbsent(entry.expression, CronExpression::parse);
+                job = new Job(entry.id, "Cron", "Cron iş", cron, body, entry.handler);
+                long lastFire = entry.lastFire;
+                fireTime = cron.next(lastFire != 0 ? lastFire : entry.createdMillis - 1, zone);
+                if (fireTime != CronExpression.NO_MATCH && fireTime <= now) {
+                    missed++;
+                    switch (policy) {
+                        case SKIP:
+                            fireTime = cron.next(now, zone);
+                            break;
+                        case FIRE_ONCE:
+                            fireTime = now;
+                            break;
+                        case FIRE_ALL:
+                            job.catchUp = true;
+                            break;
+                    }
+                }
+                if (fireTime == CronExpression.NO_MATCH) {
+                    removeFromJournal(entry.id);
+                    continue;
+                }
+            }
+            
+            scheduledJobs.put(entry.id, job);
+            planRun(job, fireTime);
+            recovered++;
+        }
+        
+        log("Günlükten " + recovered + " iş geri yüklendi (kaçırılan: " + missed + ", politika: " + policy +
+            ", işleyicisi bulunamayan: " + unresolved + ", süre: " + (System.nanoTime() - start) / 1_000_000 + "ms)");
+        return recovered;
+    }
+    
     /**
      * Zamanlayıcıyı durdurur ve tüm zamanlanmış işleri iptal eder.
      */
     public void shutdown() {
         log("CronScheduler kapatılıyor, tüm işler iptal ediliyor...");
         
-        // Tüm işleri iptal et
-        for (String jobId : scheduledJobs.keySet()) {
-            cancelJob(jobId);
-        }
+        // Tüm işleri toplu olarak iptal et (eşzamanlı ekleme/silme ile güvenli)
+        int cancelled = scheduledJobs.drain(job -> job.handle.cancel(false));
+        log(cancelled + " iş iptal edildi.");
         
         // Scheduler'ı kapat
         scheduler.shutdown();
+        workers.shutdown();
         
         try {
-            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS) ||
+                !workers.awaitTermination(10, TimeUnit.SECONDS)) {
                 log("İşler 10 saniye içinde tamamlanmadı, zorla kapatılıyor...");
                 scheduler.shutdownNow();
+                workers.shutdownNow();
             } else {
                 log("Tüm işler düzgünce tamamlandı.");
             }
         } catch (InterruptedException e) {
             log("Kapatma beklemesi kesintiye uğradı, zorla kapatılıyor...");
             scheduler.shutdownNow();
+            workers.shutdownNow();
             Thread.currentThread().interrupt();
         }
         
+        // Günlükteki işler iptal edilmez, sonraki başlatmada geri yüklenir
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                log("Günlük kapatılamadı: " + e.getMessage());
+            }
+        }
+        
         log("CronScheduler kapatıldı.");
     }
     
+    /**
+     * Yeniden başlatmada, zamanlayıcı kapalıyken kaçırılan çalışmalar için politika.
+     */
+    public enum MissedFirePolicy {
+        FIRE_ONCE, // Kaçırılan tüm çalışmalar yerine hemen bir kez çalıştır
+        SKIP,      // Kaçırılanları atla, sonraki planlı zamanı bekle
+        FIRE_ALL   // Kaçırılan her çalışmayı sırayla çalıştır
+    }
+    
+    // Zamanlanmış bir iş: tek seferlik (cron == null) veya cron ifadesine göre tekrarlanan
+    private static final class Job {
+        final long id;
+        final String prefix;  // Dış ID öneki; ID gerektiğinde türetilir, ör. "Cron-42"
+        final String label; // Log öneki, ör. "Günlük iş"
+        final CronExpression cron;
+        final Runnable body;
+        final String handler; // Günlüğe yazılan işlerde işleyici adı, aksi halde null
+        final RecurringFuture handle = new RecurringFuture();
+        volatile long nextFireTime; // Yuvaya yuvarlanmamış, planlanan çalışma zamanı (epoch ms)
+        volatile long plannedTime;  // Yük yayma kayması eklenmiş çalışma zamanı
+        boolean catchUp;            // Kaçırılan çalışmalar tek tek telafi ediliyor (FIRE_ALL)
+        
+        Job(long id, String prefix, String label, CronExpression cron, Runnable body, String handler) {
+            this.id = id;
+            this.prefix = prefix;
+            this.label = label;
+            this.cron = cron;
+            this.body = body;
+            this.handler = handler;
+        }
+        
+        String jobId() {
+            return TaskRegistry.alias(prefix, id);
+        }
+    }
+    
+    // Aynı tick'e düşen çalışmaları toplayan tek zamanlayıcı girdisi
+    private final class Slot implements Runnable, Delayed {
+        final long tick;
+        final long fireTime;
+        private List<Job> jobs = new ArrayList<>(1);
+        
+        Slot(long tick, long fireTime) {
+            this.tick = tick;
+            this.fireTime = fireTime;
+        }
+        
+        // Yuva henüz tetiklenmediyse işi ekler
+        synchronized boolean add(Job job) {
+            if (jobs == null) {
+                return false;
+            }
+            jobs.add(job);
+            return true;
+        }
+        
+        @Override
+        public void run() {
+            List<Job> batch;
+            synchronized (this) {
+                batch = jobs;
+                jobs = null;
+            }
+            slots.remove(tick, this);
+            timerWakeups.increment();
+            int cap = maxStartsPerTick;
+            if (cap > 0 && batch.size() > cap) {
+                // Sınırı aşan işler sonraki tick'e; sonraki yuva da doluysa oradan da ertelenir
+                long nextTickTime = (tick + 1) * coalesceMillis;
+                for (int i = cap; i < batch.size(); i++) {
+                    enqueue(batch.get(i), nextTickTime);
+                }
+                deferredStarts.add(batch.size() - cap);
+                batch = batch.subList(0, cap);
+            }
+            dispatch(batch);
+        }
+        
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireTime - clock.millis(), TimeUnit.MILLISECONDS);
+        }
+        
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+    
     // Loglama için yardımcı metod
     private void log(String message) {
+        if (!logging) {
+            return;
+        }
         System.out.println("[" + formatTime(LocalDateTime.now(clock)) + "] " + message);
     }
     
@@ -247,6 +711,10 @@ public class CronScheduler {
         return time.format(formatter);
     }
     
+    private String formatTime(long epochMilli) {
+        return formatTime(Instant.ofEpochMilli(epochMilli).atZone(clock.getZone()).toLocalDateTime());
+    }
+    
     public static void main(String[] args) throws Exception {
         CronScheduler scheduler = new CronScheduler();
         
@@ -277,6 +745,11 @@ public class CronScheduler {
                 System.out.println(">> Bu iş her gün çalışıyor!");
             }, now.getHour(), now.getMinute(), now.plusSeconds(30).getSecond()); // Her gün şu andan 30 saniye sonra
             
+            // 5. Cron ifadesiyle zamanlanan iş (saniyeli biçim: hafta içi her 10 saniyede bir)
+            String cronJobId = scheduler.scheduleCron("*/10 * * * * MON-FRI", () -> {
+                System.out.println(">> Bu iş cron ifadesiyle çalışıyor!");
+            });
+            
             // Örnek olarak, 15 saniye sonra dakikalık işi iptal edelim
             Thread.sleep(15000);
             System.out.println("\n>> Dakikalık iş iptal ediliyor...");
@@ -0,0 +1,98 @@
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * CronScheduler'da yük yaymanın (jitter ve tick başına sınır) etkisini gösteren simülasyon
+ * (varsayılan 10.000 iş).
+ *
+ * 1. Gerçek çalışma: her saniye başında çalışan işler 10 ms'lik tick'lerle 3 saniye çalıştırılır,
+ *    10 ms'lik dilimlerdeki en yüksek başlatma sayısı ölçülür.
+ * 2. Dakika ölçeği: aynı kayma fonksiyonuyla, her dakika 0. saniyede çalışan işlerin
+ *    30 saniyelik pencereye dağılımı hesaplanır (saniye başına en yüksek başlatma).
+ * <pre>
+ * java -cp out CronSmoothingSimulation 10000
+ * </pre>
+ */
+public class CronSmoothingSimulation {
+
+    private static final long TICK_MILLIS = 10;
+    private static final int RUN_SECONDS = 3;
+
+    public static void main(String[] args) throws InterruptedException {
+        int jobs = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        System.out.println("CronScheduler Yük Yayma Simülasyonu (" + jobs + " iş)");
+        System.out.println("===============================================");
+        System.out.println("Her saniye çalışan işler, 10 ms'lik dilimlerde en yüksek başlatma sayısı:");
+        run("Öncesi: yayma yok", jobs, 0, 0);
+        run("Sonrası: 900 ms pencere", jobs, 900, 0);
+        int cap = (int) (jobs * TICK_MILLIS / 900); // Penceredeki ortalama tick yükü
+        run("Sonrası: 900 ms + tick başına " + cap, jobs, 900, cap);
+
+        System.out.println();
+        System.out.println("Her dakika 0. saniyede çalışan işler, saniye başına en yüksek başlatma sayısı (hesaplanan):");
+        simulateMinute("Öncesi: yayma yok", jobs, 0, 0);
+        simulateMinute("Sonrası: 30 sn pencere", jobs, 30_000, 0);
+        simulateMinute("Sonrası: 30 sn + saniye başına 340", jobs, 30_000, 340);
+    }
+
+    private static void run(String name, int jobs, long windowMillis, int maxStartsPerTick)
+            throws InterruptedException {
+        CronScheduler scheduler = new CronScheduler(Clock.systemDefaultZone(), TICK_MILLIS, 4);
+        scheduler.setLogging(false);
+        scheduler.setLoadSpreading(windowMillis, maxStartsPerTick);
+        int slices = (int) ((RUN_SECONDS + 2) * 1000 / TICK_MILLIS);
+        AtomicIntegerArray starts = new AtomicIntegerArray(slices);
+        long origin = (System.currentTimeMillis() / 1000 + 1) * 1000;
+        try {
+            for (int i = 0; i < jobs; i++) {
+                scheduler.scheduleCron("* * * * * *", () -> {
+                    int slice = (int) ((System.currentTimeMillis() - origin) / TICK_MILLIS);
+                    if (slice >= 0 && slice < slices) {
+                        starts.incrementAndGet(slice);
+                    }
+                });
+            }
+            Thread.sleep(origin + RUN_SECONDS * 1000L - System.currentTimeMillis());
+        } finally {
+            scheduler.shutdown();
+        }
+
+        int peak = 0;
+        long total = 0;
+        int busySlices = 0;
+        for (int i = 0; i < RUN_SECONDS * 1000 / TICK_MILLIS; i++) {
+            peak = Math.max(peak, starts.get(i));
+            total += starts.get(i);
+            busySlices += starts.get(i) > 0 ? 1 : 0;
+        }
+        System.out.printf("  %-36s en yüksek: %6d, başlatma: %6d, dolu dilim: %3d/%d, ertelenen: %d, " +
+                   "ort. başlama gecikmesi: %.1f ms%n",
+                name, peak, total, busySlices, RUN_SECONDS * 1000 / TICK_MILLIS,
+                scheduler.getDeferredStartCount(), scheduler.getAverageDispatchLatencyMillis());
+    }
+
+    // Aynı kayma ve erteleme kurallarıyla bir dakikalık başlatma dağılımını hesaplar
+    private static void simulateMinute(String name, int jobs, long windowMillis, int maxPerSecond) {
+        int[] perSecond = new int[120];
+        for (long id = 1; id <= jobs; id++) {
+            perSecond[(int) (CronScheduler.jitterOffset(id, windowMillis) / 1000)]++;
+        }
+        if (maxPerSecond > 0) {
+            for (int second = 0; second < perSecond.length - 1; second++) {
+                if (perSecond[second] > maxPerSecond) {
+                    perSecond[second + 1] += perSecond[second] - maxPerSecond;
+                    perSecond[second] = maxPerSecond;
+                }
+            }
+        }
+        int peak = 0;
+        int last = 0;
+        for (int second = 0; second < perSecond.length; second++) {
+            peak = Math.max(peak, perSecond[second]);
+            if (perSecond[second] > 0) {
+                last = second;
+            }
+        }
+        System.out.printf("  %-36s en yüksek: %6d/sn, son başlatma: %2d. saniye%n", name, peak, last);
+    }
+}
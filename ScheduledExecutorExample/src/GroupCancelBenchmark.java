@@ -0,0 +1,105 @@
+import java.util.concurrent.*;
+
+/**
+ * ScheduledTaskManager'da bir grubun (ör. bir kiracının) tüm zamanlayıcılarını iptal etmeyi ölçer.
+ *
+ * İki grupta N'er adet (varsayılan 50.000) 1 saat sonraya zamanlanmış görev oluşturulur, ardından
+ * ilk grup iptal edilir. Her senaryo için şunlar raporlanır:
+ * - İptal: toplam süre ve görev başına ns
+ * - Kuyruk: iptalden sonra zamanlayıcı kuyruğunda kalan giriş sayısı (ScheduledThreadPoolExecutor)
+ * - Heap: zamanlamadan sonra ve iptalden sonra kullanılan heap (GC sonrası)
+ * - Kapatma: kalan N görevle shutdown() süresi
+ *
+ * Senaryolar:
+ * 1. removeOnCancel kapalı ScheduledThreadPoolExecutor, görevler tek tek cancelTask ile (eski davranış)
+ * 2. Yöneticinin kendi zamanlayıcısı (removeOnCancel açık), tek tek cancelTask
+ * 3. Yöneticinin kendi zamanlayıcısı, cancelGroup
+ * 4. HashedWheelTimer, cancelGroup
+ * <pre>
+ * java -Xmx1g -cp out GroupCancelBenchmark 50000
+ * </pre>
+ */
+public class GroupCancelBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+
+        System.out.println("Grup İptali Benchmark'ı (" + size + " + " + size + " görev, ilk grup iptal ediliyor)");
+        System.out.println("==================================================================");
+
+        // JIT ısınması
+        runRound("ısınma", new ScheduledTaskManager(2), null, 10_000, true, false);
+        runRound("ısınma", new ScheduledTaskManager(2), null, 10_000, false, false);
+
+        ScheduledThreadPoolExecutor plain = new ScheduledThreadPoolExecutor(2);
+        runRound("STPE, tek tek (eski)", new ScheduledTaskManager(plain), plain, size, false, true);
+        ScheduledThreadPoolExecutor purging = new ScheduledThreadPoolExecutor(2);
+        purging.setRemoveOnCancelPolicy(true);
+        runRound("STPE+removeOnCancel, tek tek", new ScheduledTaskManager(purging), purging, size, false, true);
+        purging = new ScheduledThreadPoolExecutor(2);
+        purging.setRemoveOnCancelPolicy(true);
+        runRound("STPE+removeOnCancel, cancelGroup", new ScheduledTaskManager(purging), purging, size, true, true);
+        runRound("HashedWheelTimer, cancelGroup", new ScheduledTaskManager(new HashedWheelTimer(2)), null,
+                 size, true, true);
+    }
+
+    private static void runRound(String name, ScheduledTaskManager taskManager, ScheduledThreadPoolExecutor queueOwner,
+                                 int size, boolean byGroup, boolean print) throws InterruptedException {
+        String[] tenantIds = new String[size];
+        Runnable noop = () -> { };
+        long heapBefore;
+        long heapScheduled;
+        long heapCancelled;
+        long cancelNanos;
+        long shutdownNanos;
+        int cancelled = 0;
+        int queued = -1;
+
+        taskManager.setLogging(false);
+        try {
+            heapBefore = usedHeap();
+            for (int i = 0; i < size; i++) {
+                tenantIds[i] = taskManager.scheduleOneTimeTask("kiracı-A", noop, 1, TimeUnit.HOURS);
+                taskManager.scheduleOneTimeTask("kiracı-B", noop, 1, TimeUnit.HOURS);
+            }
+            heapScheduled = usedHeap();
+
+            long start = System.nanoTime();
+            if (byGroup) {
+                cancelled = taskManager.cancelGroup("kiracı-A");
+            } else {
+                for (String taskId : tenantIds) {
+                    cancelled += taskManager.cancelTask(taskId) ? 1 : 0;
+                }
+            }
+            cancelNanos = System.nanoTime() - start;
+            Thread.sleep(10); // Tekerleğin bekleyen iptalleri işlemesine izin ver
+            if (queueOwner != null) {
+                queued = queueOwner.getQueue().size();
+            }
+            heapCancelled = usedHeap();
+        } finally {
+            long start = System.nanoTime();
+            taskManager.shutdown();
+            shutdownNanos = System.nanoTime() - start;
+        }
+
+        if (print) {
+            System.out.printf("%-34s iptal: %6d görev, %7.1f ms (%6.0f ns/görev), kuyrukta kalan: %s%n",
+                    name, cancelled, cancelNanos / 1e6, (double) cancelNanos / size,
+                    queued < 0 ? "-" : String.valueOf(queued));
+            System.out.printf("%-34s heap: zamanlama +%.1f MB, iptal sonrası +%.1f MB, kapatma: %.1f ms%n",
+                    "", (heapScheduled - heapBefore) / 1048576.0, (heapCancelled - heapBefore) / 1048576.0,
+                    shutdownNanos / 1e6);
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,489 @@
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hiyerarşik hashed timing wheel tabanlı bir ScheduledExecutorService uygulaması.
+ *
+ * ScheduledThreadPoolExecutor tüm zamanlayıcıları tek bir kilitli heap'te (DelayedWorkQueue)
+ * tutar; her ekleme ve iptal O(log n) maliyetlidir ve tüm thread'ler aynı kilit için yarışır.
+ * Bu sınıf ise zamanı sabit uzunlukta "tick"lere böler ve görevleri seviyeli tekerleklerin
+ * kovalarına (çift yönlü bağlı liste) yerleştirir:
+ * - Zamanlama ve iptal O(1)'dir; çağıran thread'ler kilitsiz bir yığına (stack) ekleme yapar
+ * - Tüm tekerlek yapısına yalnızca tek bir tick thread'i dokunur, bu yüzden kilit gerekmez
+ * - Uzak zamanlı görevler üst seviyelerde bekler ve zamanı geldikçe alt seviyelere kaydırılır
+ * - Süresi dolan görevler ayrı bir worker havuzunda çalıştırılır, tick thread'i bloklanmaz
+ *
+ * Zamanlama hassasiyeti tick süresi kadardır: görevler hiçbir zaman erken çalışmaz,
+ * ancak en fazla bir tick geç çalışabilir.
+ */
+public class HashedWheelTimer extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private static final int DEFAULT_WHEEL_SIZE = 256;
+    private static final int DEFAULT_LEVELS = 4;
+
+    private final long tickNanos;
+    private final int wheelBits;
+    private final int mask;
+    private final int levels;
+    private final Bucket[][] wheels;      // [seviye][kova]
+    private final Bucket overflow;        // En üst seviyenin kapsamından da uzak görevler
+    private final ExecutorService workers;
+    private final Thread tickThread;
+    private final long startNanos;
+    private final CountDownLatch tickThreadTerminated = new CountDownLatch(1);
+
+    // Diğer thread'lerden gelen ekleme ve iptal istekleri (kilitsiz, node tahsisi olmadan)
+    private final AtomicReference<WheelTask<?>> pendingAdds = new AtomicReference<>();
+    private final AtomicReference<WheelTask<?>> pendingCancels = new AtomicReference<>();
+    // Tick thread'i son kez boşalttıktan sonra pendingAdds'e konan işaret: sonraki eklemeler başarısız olur
+    private final WheelTask<Void> addsClosed = new WheelTask<>(() -> { }, null, 0, 0);
+
+    private volatile boolean shutdown;
+    private long currentTick; // Sadece tick thread'i tarafından kullanılır
+
+    /**
+     * 1 ms tick, 256 kovalı ve 4 seviyeli (yaklaşık 50 günlük kapsam) bir tekerlek oluşturur.
+     *
+     * @param workerThreads Süresi dolan görevleri çalıştıracak thread sayısı
+     */
+    public HashedWheelTimer(int workerThreads) {
+        this(1, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE, DEFAULT_LEVELS, workerThreads);
+    }
+
+    /**
+     * @param tickDuration Bir tick'in süresi (zamanlama hassasiyeti)
+     * @param unit Tick süresinin zaman birimi
+     * @param wheelSize Her seviyedeki kova sayısı (2'nin kuvveti olmalı)
+     * @param levels Tekerlek seviyesi sayısı
+     * @param workerThreads Süresi dolan görevleri çalıştıracak thread sayısı
+     */
+    public HashedWheelTimer(long tickDuration, TimeUnit unit, int wheelSize, int levels, int workerThreads) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration pozitif olmalı: " + tickDuration);
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize 2'nin kuvveti olmalı: " + wheelSize);
+        }
+        if (levels < 1 || Integer.numberOfTrailingZeros(wheelSize) * levels > 62) {
+            throw new IllegalArgumentException("Geçersiz seviye sayısı: " + levels);
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheelBits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.wheels = new Bucket[levels][wheelSize];
+        for (int level = 0; level < levels; level++) {
+            for (int slot = 0; slot < wheelSize; slot++) {
+                wheels[level][slot] = new Bucket();
+            }
+        }
+        this.overflow = new Bucket();
+        this.workers = Executors.newFixedThreadPool(workerThreads, new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                return new Thread(r, "HashedWheelTimer-worker-" + threadNumber.getAndIncrement());
+            }
+        });
+        this.startNanos = System.nanoTime();
+        this.tickThread = new Thread(this::runTickLoop, "HashedWheelTimer-tick");
+        this.tickThread.setDaemon(true);
+        this.tickThread.start();
+    }
+
+    // ---------------------------------------------------------------------
+    // ScheduledExecutorService API
+    // ---------------------------------------------------------------------
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return enqueue(new WheelTask<Void>(command, null, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return enqueue(new WheelTask<>(callable, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period pozitif olmalı: " + period);
+        }
+        return enqueue(new WheelTask<Void>(command, null, triggerTime(initialDelay, unit), clamp(unit.toNanos(period))));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay pozitif olmalı: " + delay);
+        }
+        return enqueue(new WheelTask<Void>(command, null, triggerTime(initialDelay, unit), -clamp(unit.toNanos(delay))));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("HashedWheelTimer kapatıldı");
+        }
+        workers.execute(command);
+    }
+
+    /**
+     * Kapatma başlatır. Yeni görev kabul edilmez; tekerlekte bekleyen tüm görevler
+     * (ScheduledThreadPoolExecutor'dan farklı olarak tek seferlik olanlar da) iptal edilir,
+     * o anda çalışmakta olan görevlerin bitmesine izin verilir.
+     */
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        LockSupport.unpark(tickThread);
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        return workers.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return tickThreadTerminated.getCount() == 0 && workers.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (!tickThreadTerminated.await(timeout, unit)) {
+            return false;
+        }
+        return workers.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    // ---------------------------------------------------------------------
+    // Diğer thread'lerden tick thread'ine aktarım
+    // ---------------------------------------------------------------------
+
+    private long triggerTime(long delay, TimeUnit unit) {
+        return System.nanoTime() + clamp(Math.max(0, unit.toNanos(delay)));
+    }
+
+    // Çok büyük gecikmeler (ör. Long.MAX_VALUE) nanoTime'a eklenince taşar ve görev hemen çalışır; süre
+    // karşılaştırmaları farkla yapıldığı için Long.MAX_VALUE >> 1 ile sınırlanır (~146 yıl)
+    private static long clamp(long nanos) {
+        return Math.min(nanos, Long.MAX_VALUE >> 1);
+    }
+
+    private <V> WheelTask<V> enqueue(WheelTask<V> task) {
+        if (shutdown || !pushAdd(task)) {
+            throw new RejectedExecutionException("HashedWheelTimer kapatıldı");
+        }
+        return task;
+    }
+
+    // Tick thread'i eklemeleri son kez boşalttıysa false: görev hiçbir zaman tekerleğe girmeyecektir.
+    // Boşaltmadan önce eklenen görevleri ise kapatmadaki son boşaltma iptal eder
+    private boolean pushAdd(WheelTask<?> task) {
+        WheelTask<?> head;
+        do {
+            head = pendingAdds.get();
+            if (head == addsClosed) {
+                return false;
+            }
+            task.addNext = head;
+        } while (!pendingAdds.compareAndSet(head, task));
+        return true;
+    }
+
+    private void pushCancel(WheelTask<?> task) {
+        WheelTask<?> head;
+        do {
+            head = pendingCancels.get();
+            task.cancelNext = head;
+        } while (!pendingCancels.compareAndSet(head, task));
+    }
+
+    // ---------------------------------------------------------------------
+    // Tick thread'i
+    // ---------------------------------------------------------------------
+
+    private void runTickLoop() {
+        try {
+            while (!shutdown) {
+                long targetTick = (System.nanoTime() - startNanos) / tickNanos;
+                drainAdds();
+                drainCancels();
+                while (currentTick < targetTick) {
+                    advance();
+                }
+                long nextTickAt = startNanos + (currentTick + 1) * tickNanos;
+                LockSupport.parkNanos(this, nextTickAt - System.nanoTime());
+            }
+            cancelAllPending();
+        } finally {
+            workers.shutdown();
+            tickThreadTerminated.countDown();
+        }
+    }
+
+    private void drainAdds() {
+        WheelTask<?> task = pendingAdds.getAndSet(null);
+        while (task != null) {
+            WheelTask<?> next = task.addNext;
+            task.addNext = null;
+            if (!task.isCancelled()) {
+                place(task);
+            }
+            task = next;
+        }
+    }
+
+    private void drainCancels() {
+        WheelTask<?> task = pendingCancels.getAndSet(null);
+        while (task != null) {
+            WheelTask<?> next = task.cancelNext;
+            task.cancelNext = null;
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+            }
+            task = next;
+        }
+    }
+
+    /**
+     * Görevi son tarihine göre uygun seviye ve kovaya yerleştirir.
+     * Son tarih ile şimdiki tick'in ortak üst bitleri, görevin hangi seviyede
+     * bekleyeceğini belirler (Varghese &amp; Lauck hiyerarşik tekerlek şeması).
+     */
+    private void place(WheelTask<?> task) {
+        long deadlineTick = deadlineTick(task.deadlineNanos);
+        if (deadlineTick <= currentTick) {
+            dispatch(task);
+            return;
+        }
+        for (int level = 0; level < levels; level++) {
+            int shift = wheelBits * (level + 1);
+            if ((deadlineTick >>> shift) == (currentTick >>> shift)) {
+                int slot = (int) (deadlineTick >>> (wheelBits * level)) & mask;
+                wheels[level][slot].add(task);
+                return;
+            }
+        }
+        overflow.add(task);
+    }
+
+    private long deadlineTick(long deadlineNanos) {
+        long elapsed = deadlineNanos - startNanos;
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return (elapsed + tickNanos - 1) / tickNanos; // Yukarı yuvarla: asla erken çalışmasın
+    }
+
+    private void advance() {
+        currentTick++;
+        int topShift = wheelBits * levels;
+        if ((currentTick & ((1L << topShift) - 1)) == 0) {
+            cascade(overflow);
+        }
+        // Üst seviyelerden başlayarak sınırı geçilen kovaları alt seviyelere kaydır
+        for (int level = levels - 1; level >= 1; level--) {
+            int shift = wheelBits * level;
+            if ((currentTick & ((1L << shift) - 1)) == 0) {
+                cascade(wheels[level][(int) (currentTick >>> shift) & mask]);
+            }
+        }
+        Bucket due = wheels[0][(int) currentTick & mask];
+        WheelTask<?> task = due.head;
+        due.head = due.tail = null;
+        while (task != null) {
+            WheelTask<?> next = task.next;
+            task.unlink();
+            dispatch(task);
+            task = next;
+        }
+    }
+
+    private void cascade(Bucket bucket) {
+        WheelTask<?> task = bucket.head;
+        bucket.head = bucket.tail = null;
+        while (task != null) {
+            WheelTask<?> next = task.next;
+            task.unlink();
+            place(task);
+            task = next;
+        }
+    }
+
+    private void dispatch(WheelTask<?> task) {
+        if (task.isCancelled()) {
+            return;
+        }
+        try {
+            workers.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.cancel(false);
+        }
+    }
+
+    private void cancelAllPending() {
+        drainAdds();
+        drainCancels();
+        for (Bucket[] wheel : wheels) {
+            for (Bucket bucket : wheel) {
+                cancelAll(bucket);
+            }
+        }
+        cancelAll(overflow);
+        // Kapatma sırasında eklenmiş olabilecek görevler; işaretten sonra ekleme yapılamaz
+        WheelTask<?> task = pendingAdds.getAndSet(addsClosed);
+        while (task != null) {
+            task.cancel(false);
+            task = task.addNext;
+        }
+    }
+
+    private void cancelAll(Bucket bucket) {
+        WheelTask<?> task = bucket.head;
+        bucket.head = bucket.tail = null;
+        while (task != null) {
+            WheelTask<?> next = task.next;
+            task.unlink();
+            task.cancel(false);
+            task = next;
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Veri yapıları
+    // ---------------------------------------------------------------------
+
+    // Bir tekerlek kovası: görevlerin kendileri üzerinden bağlanan çift yönlü liste
+    private static final class Bucket {
+        WheelTask<?> head;
+        WheelTask<?> tail;
+
+        void add(WheelTask<?> task) {
+            task.bucket = this;
+            if (tail == null) {
+                head = tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        void remove(WheelTask<?> task) {
+            WheelTask<?> next = task.next;
+            if (task.prev != null) {
+                task.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = task.prev;
+            }
+            if (task == head) {
+                head = next;
+            }
+            if (task == tail) {
+                tail = task.prev;
+            }
+            task.unlink();
+        }
+    }
+
+    // Tekerlekte bekleyen görev; aynı zamanda çağırana döndürülen ScheduledFuture
+    private final class WheelTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        private volatile long deadlineNanos;
+        // 0: tek seferlik, pozitif: sabit oran, negatif: sabit gecikme (ScheduledThreadPoolExecutor gibi)
+        private final long period;
+
+        // Kova bağlantıları (yalnızca tick thread'i)
+        WheelTask<?> prev;
+        WheelTask<?> next;
+        Bucket bucket;
+
+        // Bekleyen ekleme/iptal yığınları için bağlantılar
+        WheelTask<?> addNext;
+        WheelTask<?> cancelNext;
+
+        WheelTask(Runnable runnable, V result, long deadlineNanos, long period) {
+            super(runnable, result);
+            this.deadlineNanos = deadlineNanos;
+            this.period = period;
+        }
+
+        WheelTask(Callable<V> callable, long deadlineNanos, long period) {
+            super(callable);
+            this.deadlineNanos = deadlineNanos;
+            this.period = period;
+        }
+
+        void unlink() {
+            prev = next = null;
+            bucket = null;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (super.runAndReset()) {
+                deadlineNanos = period > 0 ? deadlineNanos + period : System.nanoTime() - period;
+                if (shutdown || !pushAdd(this)) {
+                    cancel(false);
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                pushCancel(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * Tekerlek yapısının kapsadığı toplam süreyi döndürür (taşma listesine düşmeden).
+     */
+    public long getWheelSpan(TimeUnit unit) {
+        long ticks = Math.min(1L << (wheelBits * levels), Long.MAX_VALUE / tickNanos);
+        return unit.convert(tickNanos * ticks, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "HashedWheelTimer[tick=" + tickNanos + "ns, wheelSize=" + (mask + 1) +
+               ", levels=" + levels + ", shutdown=" + shutdown + "]";
+    }
+}
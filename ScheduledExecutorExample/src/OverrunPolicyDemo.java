@@ -0,0 +1,70 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ScheduledTaskManager'daki fixed-rate taşma politikalarını karşılaştırır.
+ *
+ * 100 ms periyotlu bir görevin ilk çalışması 1 saniye sürer (uzun bir GC duraklaması veya yavaş bir
+ * bağımlılık gibi), sonrakiler 10 ms. 1,5 saniye boyunca her çalışmanın başlangıç anı kaydedilir:
+ * - CATCH_UP: kaçırılan 9 çalışma art arda, patlama halinde yapılır
+ * - SKIP_MISSED: kaçırılanlar atlanır, zaman çizelgesinde devam edilir
+ * - COALESCE_TO_ONE: kaçırılanlar yerine hemen bir kez çalışılır
+ * - ALLOW_CONCURRENT (en fazla 3): her nokta kendi thread'inde başlar, sınır dolunca atlanır
+ * <pre>
+ * java -cp out OverrunPolicyDemo
+ * </pre>
+ */
+public class OverrunPolicyDemo {
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("Fixed-rate Taşma Politikaları (periyot 100 ms, ilk çalışma 1 sn)");
+        System.out.println("================================================================");
+
+        run(ScheduledTaskManager.OverrunPolicy.SKIP_MISSED, false); // Isınma
+        for (ScheduledTaskManager.OverrunPolicy policy : ScheduledTaskManager.OverrunPolicy.values()) {
+            run(policy, true);
+        }
+    }
+
+    private static void run(ScheduledTaskManager.OverrunPolicy policy, boolean print)
+            throws InterruptedException {
+        ScheduledTaskManager taskManager = new ScheduledTaskManager(2);
+        taskManager.setLogging(false);
+        List<Long> starts = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        long origin = System.nanoTime();
+        try {
+            String taskId = taskManager.scheduleAtFixedRate(() -> {
+                starts.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - origin));
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(calls.getAndIncrement() == 0 ? 1000 : 10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            }, 0, 100, TimeUnit.MILLISECONDS, policy, 3);
+
+            Thread.sleep(1500);
+            taskManager.cancelTask(taskId);
+            TaskMetrics.Snapshot metrics = taskManager.getAggregateMetrics();
+
+            synchronized (starts) {
+                if (!print) {
+                    return;
+                }
+                System.out.printf("%-16s çalışma: %2d, atlanan: %2d, birleştirilen: %2d, en fazla eşzamanlı: %d%n",
+                        policy, metrics.getRuns(), metrics.getSkipped(), metrics.getCoalesced(), maxRunning.get());
+                System.out.println("                 başlangıçlar (ms): " + starts);
+            }
+        } finally {
+            taskManager.shutdown();
+        }
+    }
+}
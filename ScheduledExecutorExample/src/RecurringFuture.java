@@ -0,0 +1,123 @@
+import java.util.concurrent.*;
+
+/**
+ * Her çalışmadan sonra kendini yeniden zamanlayan işler için sabit bir ScheduledFuture tutamacı.
+ *
+ * Böyle bir işin her çalışması ayrı bir plan ile (tek seferlik bir ScheduledFuture veya
+ * birden çok işin paylaştığı bir zamanlayıcı girdisi) yapılır. Bu sınıf o anki planı temsil eder;
+ * iptal edildiğinde plan bir Future ise onu iptal eder ve sonraki planlamaları engeller.
+ * Paylaşılan planlarda iptal tembeldir: plan tetiklendiğinde {@link #isActive()} kontrol edilir.
+ * Görev kayıtlarında (TaskRegistry) işin ömrü boyunca aynı nesne tutulur, böylece TaskStatus
+ * anlamları periyodik görevlerle aynı kalır.
+ */
+final class RecurringFuture implements ScheduledFuture<Void> {
+
+    private static final int ACTIVE = 0;
+    private static final int COMPLETED = 1;
+    private static final int CANCELLED = 2;
+
+    private volatile Delayed current;
+    private volatile int state = ACTIVE;
+
+    /**
+     * Sonraki çalışmanın planını bağlar. Tutamaç bu arada iptal edildiyse plan da iptal edilir.
+     *
+     * @return Plan geçerliyse true
+     */
+    boolean setNext(Delayed next) {
+        current = next;
+        if (state != ACTIVE) {
+            if (next instanceof Future) {
+                ((Future<?>) next).cancel(false);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    boolean isActive() {
+        return state == ACTIVE;
+    }
+
+    /**
+     * İşin başka çalışması kalmadığını (ör. cron ifadesi artık eşleşmiyor) işaretler.
+     */
+    void complete() {
+        synchronized (this) {
+            if (state != ACTIVE) {
+                return;
+            }
+            state = COMPLETED;
+            notifyAll();
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        synchronized (this) {
+            if (state != ACTIVE) {
+                return false;
+            }
+            state = CANCELLED;
+            notifyAll();
+        }
+        Delayed planned = current;
+        if (planned instanceof Future) {
+            ((Future<?>) planned).cancel(mayInterruptIfRunning);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    @Override
+    public boolean isDone() {
+        return state != ACTIVE;
+    }
+
+    @Override
+    public Void get() throws InterruptedException, ExecutionException {
+        synchronized (this) {
+            while (state == ACTIVE) {
+                wait();
+            }
+        }
+        return result();
+    }
+
+    @Override
+    public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this) {
+            while (state == ACTIVE) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException();
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+        return result();
+    }
+
+    private Void result() {
+        if (state == CANCELLED) {
+            throw new CancellationException();
+        }
+        return null;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        Delayed planned = current;
+        return planned == null ? 0 : planned.getDelay(unit);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
@@ -1,24 +1,108 @@
 import java.util.concurrent.*;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
 import java.text.SimpleDateFormat;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.lang.reflect.Method;
 
 /**
  * Java ScheduledExecutorService kullanarak zamanlı görevleri yöneten bir uygulama.
  * Bu örnek, gerçek dünya uygulamalarında periyodik görevlerin nasıl yönetilebileceğini gösterir.
  */
 public class ScheduledTaskManager {
-
+    
+    // Histogram hassasiyeti (bit): görev başına (açıksa) ~%6 hata ve sabit ~7 KB, toplamda ~%1,6 hata
+    private static final int TASK_METRICS_PRECISION = 4;
+    private static final int AGGREGATE_METRICS_PRECISION = 6;
+    // Grup kayıtlarının şerit sayısı: varsayılan (4 × işlemci) grup başına 8-64 KB tutar, kiracı başına grupta
+    // çok fazla; gruba ekleme/silme zaten grup haritasının kilidi altında yapılır
+    private static final int GROUP_CONCURRENCY_LEVEL = 2;
+    
     private final ScheduledExecutorService scheduler;
-    private final Map<String, ScheduledFuture<?>> scheduledTasks;
-    private final AtomicInteger taskIdCounter;
+    private final ExecutorService bodyExecutor; // null ise gövdeler zamanlayıcı thread'lerinde çalışır
+    private final TaskRegistry<ManagedTask> scheduledTasks;
+    private final ConcurrentHashMap<String, TaskRegistry<ManagedTask>> groups = new ConcurrentHashMap<>();
+    private final AtomicLong taskIdCounter;
+    private final TaskMetrics aggregateMetrics = new TaskMetrics(AGGREGATE_METRICS_PRECISION);
+    private ExecutorService concurrentRuns; // ALLOW_CONCURRENT için, ilk kullanımda oluşturulur
+    private volatile boolean perTaskHistograms; // Kapalıyken görev başına yalnızca sayaçlar tutulur
+    private volatile boolean logging = true;
     
     public ScheduledTaskManager(int threadPoolSize) {
-        this.scheduler = Executors.newScheduledThreadPool(threadPoolSize);
-        this.scheduledTasks = new HashMap<>();
-        this.taskIdCounter = new AtomicInteger(0);
+        this(newScheduler(threadPoolSize));
+    }
+    
+    /**
+     * Görev gövdelerini isteğe bağlı olarak sanal thread'lerde çalıştıran bir görev yöneticisi oluşturur.
+     * 
+     * @param threadPoolSize Zamanlayıcı thread sayısı
+     * @param virtualThreadBodies true ise zamanlayıcı thread'leri yalnızca zamanlamayı yapar,
+     *                            her çalışma {@link #newVirtualThreadExecutor()} ile çalıştırılır
+     */
+    public ScheduledTaskManager(int threadPoolSize, boolean virtualThreadBodies) {
+        this(newScheduler(threadPoolSize),
+             virtualThreadBodies ? newVirtualThreadExecutor() : null);
+    }
+    
+    /**
+     * Görevleri verilen zamanlayıcı arka ucu üzerinde çalıştıran bir görev yöneticisi oluşturur.
+     * Örneğin çok sayıda kısa ömürlü zamanlayıcı için {@link HashedWheelTimer} kullanılabilir:
+     * <pre>
+     * new ScheduledTaskManager(new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 512, 4, 2));
+     * </pre>
+     * 
+     * ScheduledThreadPoolExecutor verilirse iptal edilen girişlerin kuyruktan hemen silinmesi için
+     * {@code setRemoveOnCancelPolicy(true)} ayarlanmış olmalıdır; aksi halde her iptal edilen giriş
+     * gecikmesi dolana kadar heap'te kalır.
+     * 
+     * @param scheduler Zamanlayıcı arka ucu (görev yöneticisi kapatılırken o da kapatılır)
+     */
+    public ScheduledTaskManager(ScheduledExecutorService scheduler) {
+        this(scheduler, null);
+    }
+    
+    /**
+     * Zamanlama ile görev gövdelerinin çalıştırılmasını ayıran bir görev yöneticisi oluşturur.
+     * 
+     * Zamanlayıcı thread'leri yalnızca zamanı gelen çalışmayı bodyExecutor'a devreder, böylece
+     * uzun süre bloklanan görevler diğer görevlerin zamanlayıcılarını geciktirmez.
+     * Periyodik görevler her çalışmanın sonunda yeniden planlanır:
+     * - Fixed-rate: sonraki çalışma başlangıç zaman çizelgesine göre planlanır, çalışmalar üst üste binmez
+     *   (gecikmiş bir çalışmanın ardından sonraki hemen başlar, ScheduledThreadPoolExecutor ile aynı)
+     * - Fixed-delay: sonraki çalışma gövdenin gerçekten bittiği andan itibaren ölçülür
+     * 
+     * @param scheduler Zamanlayıcı arka ucu (görev yöneticisi kapatılırken o da kapatılır)
+     * @param bodyExecutor Görev gövdelerini çalıştıran servis; null ise gövdeler zamanlayıcı
+     *                     thread'lerinde çalışır (görev yöneticisi kapatılırken o da kapatılır)
+     */
+    public ScheduledTaskManager(ScheduledExecutorService scheduler, ExecutorService bodyExecutor) {
+        this.scheduler = scheduler;
+        this.bodyExecutor = bodyExecutor;
+        this.scheduledTasks = new TaskRegistry<>();
+        this.taskIdCounter = new AtomicLong(0);
+    }
+    
+    // İptal edilen görevleri kuyruktan hemen silen (O(log n)) bir ScheduledThreadPoolExecutor
+    private static ScheduledExecutorService newScheduler(int threadPoolSize) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threadPoolSize);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+    
+    /**
+     * Her görev için yeni bir sanal thread başlatan bir servis döndürür (Java 21+).
+     * Daha eski JVM'lerde görev başına platform thread'i kullanan önbellekli bir havuza geri döner.
+     * 
+     * @return Görev başına thread çalıştıran servis
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        try {
+            // Kaynak Java 8+ ile derlenebilsin diye yansıma ile çağrılır
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
     }
     
     /**
@@ -30,23 +114,32 @@ public class ScheduledTaskManager {
      * @return Göreve verilen benzersiz ID
      */
     public String scheduleOneTimeTask(Runnable task, long delay, TimeUnit unit) {
-        String taskId = "OneTime-" + taskIdCounter.incrementAndGet();
+        return scheduleOneTimeTask(null, task, delay, unit);
+    }
+    
+    /**
+     * Bir görevi belirtilen gecikme sonrası bir kez çalıştırır ve verilen gruba ekler.
+     * 
+     * @param group Görevin grubu (ör. kiracı adı), {@link #cancelGroup(String)} ile toplu iptal için; null ise grupsuz
+     * @param task Çalıştırılacak görev
+     * @param delay Gecikme süresi
+     * @param unit Zaman birimi
+     * @return Göreve verilen benzersiz ID
+     */
+    public String scheduleOneTimeTask(String group, Runnable task, long delay, TimeUnit unit) {
+        long id = taskIdCounter.incrementAndGet();
+        String taskId = TaskRegistry.alias("OneTime", id);
         
         log("One-time görev planlanıyor: " + taskId + ", gecikme: " + delay + " " + unit);
         
-        ScheduledFuture<?> future = scheduler.schedule(() -> {
-            try {
-                log("One-time görev çalıştırılıyor: " + taskId);
-                task.run();
-                log("One-time görev tamamlandı: " + taskId);
-            } catch (Exception e) {
-                log("One-time görev hatası: " + taskId + ", hata: " + e.getMessage());
-            } finally {
-                scheduledTasks.remove(taskId);
-            }
-        }, delay, unit);
+        ManagedTask managed = new ManagedTask(id, taskId, group, "One-time", task, 0, unit.toNanos(delay));
+        if (bodyExecutor == null) {
+            managed.future = scheduler.schedule(managed, delay, unit);
+        } else {
+            managed.planChain(delay, unit);
+        }
         
-        scheduledTasks.put(taskId, future);
+        register(managed);
         return taskId;
     }
     
@@ -61,23 +154,94 @@ public class ScheduledTaskManager {
      * @return Göreve verilen benzersiz ID
      */
     public String scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
-        String taskId = "FixedRate-" + taskIdCounter.incrementAndGet();
+        return scheduleAtFixedRate(null, task, initialDelay, period, unit, OverrunPolicy.CATCH_UP, 1);
+    }
+    
+    /**
+     * Bir görevi sabit oranla çalıştırır ve verilen gruba ekler.
+     * 
+     * @param group Görevin grubu, {@link #cancelGroup(String)} ile toplu iptal için; null ise grupsuz
+     * @param task Çalıştırılacak görev
+     * @param initialDelay Başlangıç gecikmesi
+     * @param period Periyot
+     * @param unit Zaman birimi
+     * @return Göreve verilen benzersiz ID
+     */
+    public String scheduleAtFixedRate(String group, Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return scheduleAtFixedRate(group, task, initialDelay, period, unit, OverrunPolicy.CATCH_UP, 1);
+    }
+    
+    /**
+     * Bir görevi sabit oranla çalıştırır; bir çalışma periyottan uzun sürdüğünde ne olacağını
+     * verilen politika belirler (bkz. {@link OverrunPolicy}).
+     * 
+     * @param task Çalıştırılacak görev
+     * @param initialDelay Başlangıç gecikmesi
+     * @param period Periyot
+     * @param unit Zaman birimi
+     * @param overrunPolicy Taşma politikası
+     * @return Göreve verilen benzersiz ID
+     */
+    public String scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit,
+                                      OverrunPolicy overrunPolicy) {
+        return scheduleAtFixedRate(null, task, initialDelay, period, unit, overrunPolicy, 1);
+    }
+    
+    /**
+     * Bir görevi sabit oranla çalıştırır; bir çalışma periyottan uzun sürdüğünde ne olacağını
+     * verilen politika belirler (bkz. {@link OverrunPolicy}).
+     * 
+     * @param task Çalıştırılacak görev
+     * @param initialDelay Başlangıç gecikmesi
+     * @param period Periyot
+     * @param unit Zaman birimi
+     * @param overrunPolicy Taşma politikası
+     * @param maxConcurrentRuns ALLOW_CONCURRENT için aynı anda sürebilecek en fazla çalışma sayısı
+     *                          (diğer politikalarda kullanılmaz)
+     * @return Göreve verilen benzersiz ID
+     */
+    public String scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit,
+                                      OverrunPolicy overrunPolicy, int maxConcurrentRuns) {
+        return scheduleAtFixedRate(null, task, initialDelay, period, unit, overrunPolicy, maxConcurrentRuns);
+    }
+    
+    /**
+     * Bir görevi verilen taşma politikasıyla sabit oranla çalıştırır ve verilen gruba ekler.
+     * 
+     * @param group Görevin grubu, {@link #cancelGroup(String)} ile toplu iptal için; null ise grupsuz
+     * @param task Çalıştırılacak görev
+     * @param initialDelay Başlangıç gecikmesi
+     * @param period Periyot
+     * @param unit Zaman birimi
+     * @param overrunPolicy Taşma politikası
+     * @param maxConcurrentRuns ALLOW_CONCURRENT için aynı anda sürebilecek en fazla çalışma sayısı
+     * @return Göreve verilen benzersiz ID
+     */
+    public String scheduleAtFixedRate(String group, Runnable task, long initialDelay, long period, TimeUnit unit,
+                                      OverrunPolicy overrunPolicy, int maxConcurrentRuns) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Periyot pozitif olmalı: " + period);
+        }
+        if (maxConcurrentRuns < 1) {
+            throw new IllegalArgumentException("maxConcurrentRuns en az 1 olmalı: " + maxConcurrentRuns);
+        }
+        long id = taskIdCounter.incrementAndGet();
+        String taskId = TaskRegistry.alias("FixedRate", id);
         
         log("Fixed-rate görev planlanıyor: " + taskId + ", başlangıç gecikmesi: " + 
-            initialDelay + ", periyot: " + period + " " + unit);
+            initialDelay + ", periyot: " + period + " " + unit + ", taşma politikası: " + overrunPolicy);
         
-        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
-            try {
-                log("Fixed-rate görev çalıştırılıyor: " + taskId);
-                task.run();
-                log("Fixed-rate görev yineleme tamamlandı: " + taskId);
-            } catch (Exception e) {
-                log("Fixed-rate görev hatası: " + taskId + ", hata: " + e.getMessage());
-                cancelTask(taskId); // Hata oluşursa periyodik görevi iptal et
-            }
-        }, initialDelay, period, unit);
+        ManagedTask managed = new ManagedTask(id, taskId, group, "Fixed-rate", task, unit.toNanos(period),
+                                              unit.toNanos(initialDelay), overrunPolicy, maxConcurrentRuns);
+        if (overrunPolicy == OverrunPolicy.ALLOW_CONCURRENT
+                || (overrunPolicy == OverrunPolicy.CATCH_UP && bodyExecutor == null)) {
+            // Zamanlayıcının kendi sabit oranlı planı: CATCH_UP ScheduledThreadPoolExecutor davranışıdır
+            managed.future = scheduler.scheduleAtFixedRate(managed, initialDelay, period, unit);
+        } else {
+            managed.planChain(initialDelay, unit);
+        }
         
-        scheduledTasks.put(taskId, future);
+        register(managed);
         return taskId;
     }
     
@@ -92,23 +256,38 @@ public class ScheduledTaskManager {
      * @return Göreve verilen benzersiz ID
      */
     public String scheduleWithFixedDelay(Runnable task, long initialDelay, long delay, TimeUnit unit) {
-        String taskId = "FixedDelay-" + taskIdCounter.incrementAndGet();
+        return scheduleWithFixedDelay(null, task, initialDelay, delay, unit);
+    }
+    
+    /**
+     * Bir görevi sabit gecikmeyle çalıştırır ve verilen gruba ekler.
+     * 
+     * @param group Görevin grubu, {@link #cancelGroup(String)} ile toplu iptal için; null ise grupsuz
+     * @param task Çalıştırılacak görev
+     * @param initialDelay Başlangıç gecikmesi
+     * @param delay Her çalışma sonrası gecikme
+     * @param unit Zaman birimi
+     * @return Göreve verilen benzersiz ID
+     */
+    public String scheduleWithFixedDelay(String group, Runnable task, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("Gecikme pozitif olmalı: " + delay);
+        }
+        long id = taskIdCounter.incrementAndGet();
+        String taskId = TaskRegistry.alias("FixedDelay", id);
         
         log("Fixed-delay görev planlanıyor: " + taskId + ", başlangıç gecikmesi: " + 
             initialDelay + ", gecikme: " + delay + " " + unit);
         
-        ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(() -> {
-            try {
-                log("Fixed-delay görev çalıştırılıyor: " + taskId);
-                task.run();
-                log("Fixed-delay görev yineleme tamamlandı: " + taskId);
-            } catch (Exception e) {
-                log("Fixed-delay görev hatası: " + taskId + ", hata: " + e.getMessage());
-                cancelTask(taskId); // Hata oluşursa periyodik görevi iptal et
-            }
-        }, initialDelay, delay, unit);
+        ManagedTask managed = new ManagedTask(id, taskId, group, "Fixed-delay", task,
+                                              -unit.toNanos(delay), unit.toNanos(initialDelay));
+        if (bodyExecutor == null) {
+            managed.future = scheduler.scheduleWithFixedDelay(managed, initialDelay, delay, unit);
+        } else {
+            managed.planChain(initialDelay, unit);
+        }
         
-        scheduledTasks.put(taskId, future);
+        register(managed);
         return taskId;
     }
     
@@ -119,12 +298,12 @@ public class ScheduledTaskManager {
      * @return Görev varsa ve iptal edildiyse true, aksi halde false
      */
     public boolean cancelTask(String taskId) {
-        ScheduledFuture<?> future = scheduledTasks.get(taskId);
-        if (future != null) {
+        ManagedTask managed = find(taskId);
+        if (managed != null) {
             log("Görev iptal ediliyor: " + taskId);
-            boolean result = future.cancel(false);
+            boolean result = managed.future.cancel(false);
             if (result) {
-                scheduledTasks.remove(taskId);
+                unregister(managed);
                 log("Görev başarıyla iptal edildi: " + taskId);
             } else {
                 log("Görev iptal edilemedi: " + taskId);
@@ -135,6 +314,42 @@ public class ScheduledTaskManager {
         return false;
     }
     
+    /**
+     * Verilen gruptaki tüm görevleri tek bir toplu işlemle iptal eder. Görevler tek tek loglanmaz;
+     * yönetici tarafından oluşturulan zamanlayıcıda iptal edilen girişler kuyruktan hemen silinir.
+     * Bu çağrı ile eşzamanlı olarak gruba eklenen görevler yeni bir grup olarak kalır.
+     * 
+     * @param group İptal edilecek grup
+     * @return İptal edilen görev sayısı
+     */
+    public int cancelGroup(String group) {
+        TaskRegistry<ManagedTask> members = groups.remove(group);
+        if (members == null) {
+            log("İptal edilecek grup bulunamadı: " + group);
+            return 0;
+        }
+        AtomicInteger cancelled = new AtomicInteger();
+        members.drain(managed -> {
+            if (managed.future.cancel(false)) {
+                cancelled.incrementAndGet();
+            }
+            scheduledTasks.remove(managed.id, managed);
+        });
+        log("Grup iptal edildi: " + group + ", " + cancelled.get() + " görev");
+        return cancelled.get();
+    }
+    
+    /**
+     * Gruptaki aktif görev sayısını döndürür.
+     * 
+     * @param group Grup
+     * @return Gruptaki görev sayısı, grup yoksa 0
+     */
+    public int getGroupSize(String group) {
+        TaskRegistry<ManagedTask> members = groups.get(group);
+        return members == null ? 0 : members.size();
+    }
+    
     /**
      * Belirtilen ID'ye sahip görevin durumunu kontrol eder.
      * 
@@ -142,7 +357,8 @@ public class ScheduledTaskManager {
      * @return Görev durumu
      */
     public TaskStatus getTaskStatus(String taskId) {
-        ScheduledFuture<?> future = scheduledTasks.get(taskId);
+        ManagedTask managed = find(taskId);
+        ScheduledFuture<?> future = managed == null ? null : managed.future;
         if (future == null) {
             return TaskStatus.NOT_FOUND;
         } else if (future.isCancelled()) {
@@ -154,35 +370,169 @@ public class ScheduledTaskManager {
         }
     }
     
+    /**
+     * Konsola yazılan olay loglarını açar veya kapatır (varsayılan: açık). Kapalıyken mesajlar biçimlendirilmez;
+     * benchmark'lar ve çok sayıda kısa görev için System.out'u değiştirmek yerine bu kullanılır.
+     */
+    public void setLogging(boolean enabled) {
+        this.logging = enabled;
+    }
+    
+    /**
+     * Görev başına gecikme ve süre histogramlarını açar veya kapatır (varsayılan: kapalı). Açıkken her görev
+     * ~7 KB ek bellek kullanır; on binlerce görevde yalnızca {@link #getAggregateMetrics()} histogramları
+     * tutulmalıdır. Ayar, ilk kez çalışacak görevlere uygulanır.
+     */
+    public void setPerTaskHistograms(boolean enabled) {
+        this.perTaskHistograms = enabled;
+    }
+    
+    /**
+     * Görevin ölçümlerini döndürür: başlangıç gecikmesi ve çalışma süresi histogramları,
+     * taşma ve hata sayıları. Başlangıç gecikmesi, planlanan ile gerçek başlangıç arasındaki farktır;
+     * fixed-rate görevlerde planlanan başlangıç zaman çizelgesidir, fixed-delay görevlerde önceki
+     * çalışmanın bitişi artı gecikmedir. Tamamlanan tek seferlik görevler kayıttan çıktığı için
+     * yalnızca {@link #getAggregateMetrics()} içinde görünür. Histogramlar yalnızca
+     * {@link #setPerTaskHistograms(boolean)} açıkken doludur.
+     * 
+     * @param taskId Görevin ID'si
+     * @return Ölçümlerin anlık kopyası; görev bulunamadıysa null
+     */
+    public TaskMetrics.Snapshot getTaskMetrics(String taskId) {
+        ManagedTask managed = find(taskId);
+        return managed == null ? null : managed.metrics().snapshot();
+    }
+    
+    /**
+     * Yönetici oluşturulduğundan beri tüm görevlerin toplam ölçümlerini döndürür
+     * (tamamlanıp kayıttan çıkan görevler dahil), ör. p99 başlangıç gecikmesine alarm kurmak için:
+     * <pre>
+     * taskManager.getAggregateMetrics().getStartLagPercentile(99, TimeUnit.MILLISECONDS)
+     * </pre>
+     * 
+     * @return Ölçümlerin anlık kopyası
+     */
+    public TaskMetrics.Snapshot getAggregateMetrics() {
+        return aggregateMetrics.snapshot();
+    }
+    
+    /**
+     * Görevin son çalışmasının başlangıç gecikmesini döndürür.
+     * 
+     * @param taskId Görevin ID'si
+     * @param unit Sonucun zaman birimi
+     * @return Gecikme; görev bulunamadıysa veya henüz çalışmadıysa -1
+     */
+    public long getLastStartLag(String taskId, TimeUnit unit) {
+        ManagedTask managed = find(taskId);
+        TaskMetrics metrics = managed == null ? null : managed.metrics;
+        return metrics == null ? -1 : unit.convert(metrics.getLastStartLagNanos(), TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Görevin çalışmaları arasında görülen en yüksek başlangıç gecikmesini döndürür.
+     * 
+     * @param taskId Görevin ID'si
+     * @param unit Sonucun zaman birimi
+     * @return En yüksek gecikme; görev bulunamadıysa veya henüz çalışmadıysa -1
+     */
+    public long getMaxStartLag(String taskId, TimeUnit unit) {
+        ManagedTask managed = find(taskId);
+        TaskMetrics metrics = managed == null ? null : managed.metrics;
+        return metrics == null ? -1 : unit.convert(metrics.getMaxStartLagNanos(), TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Yönetici oluşturulduğundan beri tüm görevlerde görülen en yüksek başlangıç gecikmesini döndürür.
+     * 
+     * @param unit Sonucun zaman birimi
+     * @return En yüksek gecikme (mikrosaniye çözünürlüğünde)
+     */
+    public long getMaxStartLag(TimeUnit unit) {
+        return unit.convert(aggregateMetrics.snapshot().getStartLag().getMax(), TimeUnit.MICROSECONDS);
+    }
+    
     /**
      * Zamanlayıcı servisini kapatır ve tüm bekleyen görevleri iptal eder.
      */
     public void shutdown() {
         log("Task Manager kapatılıyor, tüm görevler iptal ediliyor...");
         
-        // Tüm görevleri iptal et
-        for (String taskId : scheduledTasks.keySet()) {
-            cancelTask(taskId);
+        // Tüm görevleri toplu olarak iptal et (eşzamanlı ekleme/silme ile güvenli)
+        int cancelled = scheduledTasks.drain(managed -> managed.future.cancel(false));
+        groups.clear();
+        log(cancelled + " görev iptal edildi.");
+        
+        // Önce scheduler'ı, ardından (varsa) gövdeleri çalıştıran servisi kapat
+        terminate(scheduler);
+        if (bodyExecutor != null) {
+            terminate(bodyExecutor);
+        }
+        synchronized (this) {
+            if (concurrentRuns != null) {
+                terminate(concurrentRuns);
+            }
         }
         
-        // Scheduler'ı kapat
-        scheduler.shutdown();
+        log("Task Manager kapatıldı.");
+    }
+    
+    private void terminate(ExecutorService executor) {
+        executor.shutdown();
         
         try {
             // Tüm görevlerin tamamlanması için maksimum 5 saniye bekle
-            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
                 log("Görevler 5 saniye içinde tamamlanmadı, zorla kapatılıyor...");
-                scheduler.shutdownNow();
+                executor.shutdownNow();
             } else {
                 log("Tüm görevler düzgünce tamamlandı.");
             }
         } catch (InterruptedException e) {
             log("Kapatma beklemesi kesintiye uğradı, zorla kapatılıyor...");
-            scheduler.shutdownNow();
+            executor.shutdownNow();
             Thread.currentThread().interrupt();
         }
-        
-        log("Task Manager kapatıldı.");
+    }
+    
+    // Görevi kayda (ve varsa grubuna) ekler; görev kayıttan önce bitmiş veya hata vermişse (çok kısa gecikme)
+    // girişi geri alır
+    private void register(ManagedTask managed) {
+        scheduledTasks.put(managed.id, managed);
+        if (managed.group != null) {
+            // Grup haritası kilidi altında: cancelGroup ile yarışta görev silinen gruba eklenmez
+            groups.compute(managed.group, (group, members) -> {
+                if (members == null) {
+                    members = new TaskRegistry<>(GROUP_CONCURRENCY_LEVEL);
+                }
+                members.put(managed.id, managed);
+                return members;
+            });
+        }
+        if (managed.failed) {
+            managed.future.cancel(false); // Hata future atanmadan önce oluştuysa plan henüz iptal edilmedi
+        }
+        if (managed.future.isDone()) {
+            unregister(managed);
+        }
+    }
+    
+    // Görevi kayıttan ve grubundan çıkarır; boşalan grup silinir
+    private void unregister(ManagedTask managed) {
+        scheduledTasks.remove(managed.id, managed);
+        if (managed.group != null) {
+            groups.computeIfPresent(managed.group, (group, members) -> {
+                members.remove(managed.id, managed);
+                return members.size() == 0 ? null : members;
+            });
+        }
+    }
+    
+    // idOf yalnızca sayısal soneki çözer: "OneTime-5" ile "FixedRate-5" aynı göreve çıkmasın diye önek de denetlenir
+    private ManagedTask find(String taskId) {
+        long id = TaskRegistry.idOf(taskId);
+        ManagedTask managed = id == 0 ? null : scheduledTasks.get(id);
+        return managed != null && managed.taskId.equals(taskId) ? managed : null;
     }
     
     /**
@@ -194,6 +544,240 @@ public class ScheduledTaskManager {
         return scheduledTasks.size();
     }
     
+    /**
+     * Yönetilen bir görevin gövdesi, planı ve ölçümleri.
+     * Aynı görevin çalışmaları hiçbir zaman üst üste binmediğinden zamanlama alanları
+     * yalnızca o an görevi çalıştıran thread tarafından güncellenir.
+     */
+    private final class ManagedTask implements Runnable {
+        final long id;
+        final String taskId;
+        final String group; // null ise grupsuz
+        final String kind;
+        final Runnable task;
+        final long periodNanos; // 0: tek seferlik, pozitif: fixed-rate, negatif: fixed-delay
+        final OverrunPolicy overrunPolicy;
+        final int maxConcurrentRuns;
+        volatile ScheduledFuture<?> future;
+        volatile boolean failed; // Periyodik gövde hata verdi; kayıttan önce olduysa register iptal eder
+        
+        private long intendedStart; // Sonraki çalışmanın planlanan başlangıcı (System.nanoTime)
+        private final AtomicInteger running = new AtomicInteger(); // ALLOW_CONCURRENT: süren çalışmalar
+        volatile TaskMetrics metrics; // İlk çalışmada oluşturulur, hiç çalışmayan görevler bellek harcamaz
+        
+        ManagedTask(long id, String taskId, String group, String kind, Runnable task, long periodNanos,
+                    long initialDelayNanos) {
+            this(id, taskId, group, kind, task, periodNanos, initialDelayNanos, OverrunPolicy.CATCH_UP, 1);
+        }
+        
+        ManagedTask(long id, String taskId, String group, String kind, Runnable task, long periodNanos,
+                    long initialDelayNanos, OverrunPolicy overrunPolicy, int maxConcurrentRuns) {
+            this.id = id;
+            this.taskId = taskId;
+            this.group = group;
+            this.kind = kind;
+            this.task = task;
+            this.periodNanos = periodNanos;
+            this.overrunPolicy = overrunPolicy;
+            this.maxConcurrentRuns = maxConcurrentRuns;
+            this.intendedStart = System.nanoTime() + Math.max(0, initialDelayNanos);
+        }
+        
+        // Zamanlayıcının kendi periyodik planıyla çağrılır: CATCH_UP ve fixed-delay gövdeleri
+        // doğrudan zamanlayıcı thread'inde çalışır, ALLOW_CONCURRENT her periyotta bir çalışma devreder
+        @Override
+        public void run() {
+            if (overrunPolicy == OverrunPolicy.ALLOW_CONCURRENT) {
+                fireConcurrent();
+                return;
+            }
+            execute(intendedStart);
+            intendedStart = nextStart(intendedStart);
+        }
+        
+        TaskMetrics metrics() {
+            TaskMetrics current = metrics;
+            if (current == null) {
+                synchronized (this) {
+                    current = metrics;
+                    if (current == null) {
+                        metrics = current = perTaskHistograms ? new TaskMetrics(TASK_METRICS_PRECISION)
+                                                              : new TaskMetrics();
+                    }
+                }
+            }
+            return current;
+        }
+        
+        // Gövdeyi çağıran thread'de çalıştırır; hata oluştuysa false döner
+        private boolean execute(long intended) {
+            TaskMetrics taskMetrics = metrics();
+            long started = System.nanoTime();
+            long lag = Math.max(0, started - intended);
+            taskMetrics.recordStart(lag);
+            aggregateMetrics.recordStart(lag);
+            
+            boolean periodic = periodNanos != 0;
+            boolean succeeded = true;
+            long finished = started;
+            try {
+                log(kind + " görev çalıştırılıyor: " + taskId);
+                started = System.nanoTime();
+                task.run();
+                finished = System.nanoTime();
+                log(kind + (periodic ? " görev yineleme tamamlandı: " : " görev tamamlandı: ") + taskId);
+            } catch (Exception e) {
+                finished = System.nanoTime();
+                succeeded = false;
+                log(kind + " görev hatası: " + taskId + ", hata: " + e.getMessage());
+                if (periodic) {
+                    stopAfterFailure(); // Hata oluşursa periyodik görevi iptal et
+                }
+            } finally {
+                if (!periodic) {
+                    unregister(this);
+                }
+            }
+            
+            // Taşma: fixed-rate çalışması sonraki planlanan başlangıçtan sonra bitti
+            boolean overrun = periodNanos > 0 && finished - (intended + periodNanos) > 0;
+            taskMetrics.recordEnd(finished - started, !succeeded, overrun);
+            aggregateMetrics.recordEnd(finished - started, !succeeded, overrun);
+            return succeeded;
+        }
+        
+        // Kayıt aramadan doğrudan iptal: gövde ilk çalışmada (gecikme 0) görev kayda girmeden hata verebilir,
+        // bu durumda cancelTask görevi bulamaz ve plan çalışmaya devam ederdi
+        private void stopAfterFailure() {
+            failed = true;
+            ScheduledFuture<?> current = future;
+            if (current != null) {
+                current.cancel(false);
+            }
+            unregister(this);
+            log(kind + " görev hata nedeniyle iptal edildi: " + taskId);
+        }
+        
+        // Bir çalışma bittikten sonra sonraki planlanan başlangıç
+        private long nextStart(long intended) {
+            if (periodNanos < 0) {
+                return System.nanoTime() - periodNanos; // Fixed-delay: gövdenin bitişi + gecikme
+            }
+            long next = intended + periodNanos;
+            long behind = System.nanoTime() - next;
+            if (behind < 0 || overrunPolicy == OverrunPolicy.CATCH_UP) {
+                return next; // Geride değil veya kaçırılanlar art arda çalışacak
+            }
+            long missed = behind / periodNanos + 1; // Geçmişte kalan zaman çizelgesi noktaları
+            if (overrunPolicy == OverrunPolicy.SKIP_MISSED) {
+                metrics().recordSkipped(missed);
+                aggregateMetrics.recordSkipped(missed);
+                return next + missed * periodNanos;
+            }
+            // COALESCE_TO_ONE: kaçırılanların sonuncusu hemen bir kez çalışır
+            if (missed > 1) {
+                metrics().recordCoalesced(missed - 1);
+                aggregateMetrics.recordCoalesced(missed - 1);
+            }
+            return next + (missed - 1) * periodNanos;
+        }
+        
+        // ALLOW_CONCURRENT: zamanlayıcı thread'inde her periyotta çağrılır, sınır doluysa çalışma atlanır
+        private void fireConcurrent() {
+            long intended = intendedStart;
+            intendedStart += periodNanos;
+            if (running.incrementAndGet() > maxConcurrentRuns) {
+                running.decrementAndGet();
+                metrics().recordSkipped(1);
+                aggregateMetrics.recordSkipped(1);
+                return;
+            }
+            try {
+                concurrentRunExecutor().execute(() -> {
+                    try {
+                        execute(intended);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                running.decrementAndGet(); // Yönetici kapatılıyor
+            }
+        }
+        
+        // Zincirleme plan: her çalışma bitince sonraki tek seferlik olarak planlanır
+        // (devretme modu ile SKIP_MISSED ve COALESCE_TO_ONE), sabit tutamaç olarak RecurringFuture kullanılır
+        void planChain(long delay, TimeUnit unit) {
+            RecurringFuture handle = new RecurringFuture();
+            future = handle;
+            plan(handle, unit.toNanos(delay));
+        }
+        
+        private void plan(RecurringFuture handle, long delayNanos) {
+            try {
+                handle.setNext(scheduler.schedule(() -> fire(handle), delayNanos, TimeUnit.NANOSECONDS));
+            } catch (RejectedExecutionException e) {
+                handle.cancel(false);
+                unregister(this);
+            }
+        }
+        
+        // Zamanlayıcı thread'inde çalışır: devretme modunda yalnızca gövdeyi devreder
+        private void fire(RecurringFuture handle) {
+            if (!handle.isActive()) {
+                return;
+            }
+            if (bodyExecutor == null) {
+                runChained(handle);
+                return;
+            }
+            try {
+                bodyExecutor.execute(() -> runChained(handle));
+            } catch (RejectedExecutionException e) {
+                handle.cancel(false);
+                unregister(this);
+            }
+        }
+        
+        private void runChained(RecurringFuture handle) {
+            if (!handle.isActive()) {
+                return;
+            }
+            boolean succeeded = execute(intendedStart);
+            if (periodNanos == 0) {
+                handle.complete();
+            } else if (succeeded && handle.isActive()) {
+                // Fixed-rate: politikaya göre zaman çizelgesindeki sonraki an; fixed-delay: gövdenin bitişi + gecikme
+                intendedStart = nextStart(intendedStart);
+                plan(handle, Math.max(0, intendedStart - System.nanoTime()));
+            }
+        }
+    }
+    
+    /**
+     * Fixed-rate bir çalışma sonraki planlanan başlangıcı kaçırdığında (uzun çalışma, GC duraklaması) ne olacağı.
+     * Zaman çizelgesi her politikada korunur: başlangıçlar ilk başlangıç + k * periyot noktalarındadır.
+     */
+    public enum OverrunPolicy {
+        SKIP_MISSED,      // Kaçırılan noktalar atlanır, sonraki gelecek noktada devam edilir
+        COALESCE_TO_ONE,  // Kaçırılan noktaların hepsi yerine hemen bir kez çalışılır
+        CATCH_UP,         // Kaçırılan her nokta için art arda çalışılır (varsayılan, ScheduledThreadPoolExecutor davranışı)
+        ALLOW_CONCURRENT  // Her nokta ayrı bir thread'de başlar, en fazla N çalışma üst üste biner; sınır doluysa atlanır
+    }
+    
+    // ALLOW_CONCURRENT çalışmaları: devretme modunda bodyExecutor, aksi halde ilk kullanımda oluşturulan havuz
+    private ExecutorService concurrentRunExecutor() {
+        if (bodyExecutor != null) {
+            return bodyExecutor;
+        }
+        synchronized (this) {
+            if (concurrentRuns == null) {
+                concurrentRuns = Executors.newCachedThreadPool();
+            }
+            return concurrentRuns;
+        }
+    }
+    
     // Görev durumları için enum
     public enum TaskStatus {
         SCHEDULED,  // Planlandı, henüz tamamlanmadı
@@ -204,6 +788,9 @@ public class ScheduledTaskManager {
     
     // Loglama için yardımcı metod
     private void log(String message) {
+        if (!logging) {
+            return;
+        }
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
         System.out.println("[" + sdf.format(new Date()) + "] " + message);
     }
@@ -211,6 +798,7 @@ public class ScheduledTaskManager {
     public static void main(String[] args) throws InterruptedException {
         // ScheduledTaskManager örneği oluştur (2 thread'li)
         ScheduledTaskManager taskManager = new ScheduledTaskManager(2);
+        taskManager.setPerTaskHistograms(true); // Aşağıda tek bir görevin histogramları yazdırılıyor
         
         try {
             // 1. One-time görev örneği
@@ -280,6 +868,10 @@ public class ScheduledTaskManager {
             System.out.println("Fixed-delay görev: " + taskManager.getTaskStatus(fixedDelayTaskId));
             System.out.println("Hata görevi: " + taskManager.getTaskStatus(errorTaskId));
             
+            // 7. Gecikme ve süre ölçümleri
+            System.out.println("\n>> Fixed-delay görev ölçümleri: " + taskManager.getTaskMetrics(fixedDelayTaskId));
+            System.out.println(">> Tüm görevlerin ölçümleri: " + taskManager.getAggregateMetrics());
+            
             // Tüm görevlerin çalışabilmesi için biraz daha bekle
             Thread.sleep(10000); // 10 saniye daha bekle
             
@@ -0,0 +1,172 @@
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bir görevin (veya tüm görevlerin toplamının) çalışma ölçümleri:
+ * - Başlangıç gecikmesi: gerçek başlangıç - planlanan başlangıç
+ * - Çalışma süresi
+ * - Taşma (overrun) sayısı: sonraki planlanan başlangıçtan sonra biten fixed-rate çalışmaları
+ * - Hata sayısı
+ * - Atlanan ve birleştirilen çalışma sayıları (bkz. {@link ScheduledTaskManager.OverrunPolicy})
+ *
+ * Gecikme ve süreler mikrosaniye çözünürlüklü {@link LatencyHistogram}'larda tutulur (en fazla 1 saat);
+ * kayıt nesne oluşturmaz ve bellek kullanımı sabittir. Histogramsız oluşturulan ölçümler (çok sayıda görevde
+ * görev başına) yalnızca sayaçları, son ve en yüksek başlangıç gecikmesini tutar.
+ */
+public final class TaskMetrics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final LatencyHistogram startLag; // null: histogramsız
+    private final LatencyHistogram duration;
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong overruns = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong maxStartLagNanos = new AtomicLong();
+    private volatile long lastStartLagNanos;
+
+    /**
+     * Histogramsız ölçümler: yalnızca sayaçlar ve başlangıç gecikmesinin son ve en yüksek değeri (~100 byte).
+     */
+    public TaskMetrics() {
+        this.startLag = null;
+        this.duration = null;
+    }
+
+    /**
+     * @param significantBits Histogram hassasiyeti, bkz. {@link LatencyHistogram}
+     *                        (4 bit ≈ %6 hata ve iki histogram için ~7 KB; 6 bit ≈ %1,6 hata ve ~27 KB)
+     */
+    public TaskMetrics(int significantBits) {
+        this.startLag = new LatencyHistogram(HIGHEST_TRACKABLE_MICROS, significantBits);
+        this.duration = new LatencyHistogram(HIGHEST_TRACKABLE_MICROS, significantBits);
+    }
+
+    void recordStart(long lagNanos) {
+        lastStartLagNanos = lagNanos;
+        runs.incrementAndGet();
+        if (lagNanos > maxStartLagNanos.get()) {
+            maxStartLagNanos.accumulateAndGet(lagNanos, Math::max);
+        }
+        if (startLag != null) {
+            startLag.record(TimeUnit.NANOSECONDS.toMicros(lagNanos));
+        }
+    }
+
+    void recordEnd(long durationNanos, boolean failed, boolean overrun) {
+        if (duration != null) {
+            duration.record(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+        }
+        if (failed) {
+            failures.incrementAndGet();
+        }
+        if (overrun) {
+            overruns.incrementAndGet();
+        }
+    }
+
+    void recordSkipped(long runs) {
+        skipped.addAndGet(runs);
+    }
+
+    void recordCoalesced(long runs) {
+        coalesced.addAndGet(runs);
+    }
+
+    long getLastStartLagNanos() {
+        return lastStartLagNanos;
+    }
+
+    long getMaxStartLagNanos() {
+        return maxStartLagNanos.get();
+    }
+
+    /**
+     * Ölçümlerin anlık bir kopyasını döndürür.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(runs.get(), overruns.get(), failures.get(), skipped.get(), coalesced.get(),
+                            startLag == null ? null : startLag.snapshot(),
+                            duration == null ? null : duration.snapshot());
+    }
+
+    /**
+     * TaskMetrics'in değişmez kopyası. Histogram değerleri mikrosaniyedir; histogramsız ölçümlerde
+     * histogramlar null'dır.
+     */
+    public static final class Snapshot {
+        private final long runs;
+        private final long overruns;
+        private final long failures;
+        private final long skipped;
+        private final long coalesced;
+        private final LatencyHistogram.Snapshot startLag;
+        private final LatencyHistogram.Snapshot duration;
+
+        Snapshot(long runs, long overruns, long failures, long skipped, long coalesced,
+                 LatencyHistogram.Snapshot startLag, LatencyHistogram.Snapshot duration) {
+            this.runs = runs;
+            this.overruns = overruns;
+            this.failures = failures;
+            this.skipped = skipped;
+            this.coalesced = coalesced;
+            this.startLag = startLag;
+            this.duration = duration;
+        }
+
+        /** Başlatılan çalışma sayısı */
+        public long getRuns() {
+            return runs;
+        }
+
+        /** Sonraki planlanan başlangıçtan sonra biten fixed-rate çalışma sayısı */
+        public long getOverruns() {
+            return overruns;
+        }
+
+        /** İstisna ile biten çalışma sayısı */
+        public long getFailures() {
+            return failures;
+        }
+
+        /** Atlanan çalışma sayısı (SKIP_MISSED, ya da ALLOW_CONCURRENT sınırı dolduğunda) */
+        public long getSkipped() {
+            return skipped;
+        }
+
+        /** Tek bir çalışmaya birleştirilen kaçırılmış çalışma sayısı (COALESCE_TO_ONE) */
+        public long getCoalesced() {
+            return coalesced;
+        }
+
+        /** Başlangıç gecikmesi histogramı (mikrosaniye); histogramsız ölçümlerde null */
+        public LatencyHistogram.Snapshot getStartLag() {
+            return startLag;
+        }
+
+        /** Çalışma süresi histogramı (mikrosaniye); histogramsız ölçümlerde null */
+        public LatencyHistogram.Snapshot getDuration() {
+            return duration;
+        }
+
+        /**
+         * Başlangıç gecikmesinin verilen yüzdelik değeri, ör. alarm için getStartLagPercentile(99, MILLISECONDS).
+         */
+        public long getStartLagPercentile(double percentile, TimeUnit unit) {
+            if (startLag == null) {
+                throw new IllegalStateException("Bu ölçümler histogramsız tutuluyor");
+            }
+            return unit.convert(startLag.getValueAtPercentile(percentile), TimeUnit.MICROSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return "çalışma: " + runs + ", hata: " + failures + ", taşma: " + overruns +
+                   ", atlanan: " + skipped + ", birleştirilen: " + coalesced +
+                   (startLag == null ? "" : "\n  başlangıç gecikmesi (µs): " + startLag +
+                                            "\n  çalışma süresi (µs): " + duration);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+import java.util.function.Consumer;
+
+/**
+ * Görev yöneticileri için thread-safe ve kompakt bir görev kaydı.
+ *
+ * Anahtarlar ilkel (primitive) long ID'lerdir; girişler için Entry nesnesi ya da String anahtar
+ * oluşturulmaz. Kayıt, her biri kendi kilidine sahip şeritlere (stripe) bölünmüş açık adresli
+ * (linear probing) hash tablolarından oluşur:
+ * - Farklı şeritlerdeki işlemler birbirini beklemez
+ * - Her giriş yalnızca bir long anahtar ve bir referans kadar yer kaplar
+ * - Toplu iptal (drain) şerit şerit yapılır, eşzamanlı ekleme/silme ile güvenle çalışır
+ *
+ * Dış API'de kullanılan "OneTime-42" gibi String ID'ler için {@link #alias(String, long)} ve
+ * {@link #idOf(String)} yardımcıları vardır; String'ler kayıtta tutulmaz, gerektiğinde
+ * ID'den türetilir ve ID'ye geri çözülür. 0 geçerli bir ID değildir.
+ *
+ * @param <V> Kayıtta tutulan değer tipi (ör. ScheduledFuture)
+ */
+public class TaskRegistry<V> {
+
+    private static final int INITIAL_STRIPE_CAPACITY = 16;
+
+    private final Stripe<V>[] stripes;
+    private final int stripeMask;
+
+    public TaskRegistry() {
+        this(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * @param concurrencyLevel Beklenen eşzamanlı thread sayısı (2'nin kuvvetine yuvarlanır)
+     */
+    @SuppressWarnings("unchecked")
+    public TaskRegistry(int concurrencyLevel) {
+        int stripeCount = Integer.highestOneBit(Math.max(1, concurrencyLevel - 1) << 1);
+        this.stripes = (Stripe<V>[]) new Stripe<?>[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * ID'ye bir değer bağlar.
+     *
+     * @return Daha önce bu ID'ye bağlı değer, yoksa null
+     */
+    public V put(long id, V value) {
+        checkId(id);
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        long hash = mix(id);
+        return stripeFor(hash).put(id, value, hash);
+    }
+
+    public V get(long id) {
+        long hash = mix(id);
+        return stripeFor(hash).get(id, hash);
+    }
+
+    /**
+     * @return Silinen değer, ID kayıtlı değilse null
+     */
+    public V remove(long id) {
+        long hash = mix(id);
+        return stripeFor(hash).remove(id, null, hash);
+    }
+
+    /**
+     * ID yalnızca verilen değere bağlıysa siler.
+     *
+     * @return Silme yapıldıysa true
+     */
+    public boolean remove(long id, V expected) {
+        long hash = mix(id);
+        return stripeFor(hash).remove(id, expected, hash) != null;
+    }
+
+    /**
+     * Kayıttaki değer sayısını döndürür (eşzamanlı değişikliklerde anlık bir tahmindir).
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    /**
+     * Kayıttaki her değere verilen işlemi uygular. Her şeridin o anki içeriği kilit altında kopyalanır,
+     * işlem kilit dışında çalıştırılır; bu sırada yapılan ekleme ve silmeler görülmeyebilir.
+     *
+     * @return İşlenen değer sayısı
+     */
+    public int forEach(Consumer<? super V> action) {
+        int visited = 0;
+        for (Stripe<V> stripe : stripes) {
+            Object[] values = stripe.snapshot();
+            if (values == null) {
+                continue;
+            }
+            for (Object value : values) {
+                if (value != null) {
+                    @SuppressWarnings("unchecked")
+                    V v = (V) value;
+                    action.accept(v);
+                    visited++;
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Tüm girişleri şerit şerit kayıttan çıkarır ve her değere verilen işlemi uygular.
+     * İşlem kilit dışında çalıştırılır; bu sırada yapılan ekleme ve silmeler güvenlidir.
+     * Boşaltılan şeritlerin tabloları başlangıç boyutuna küçültülür.
+     *
+     * @return İşlenen değer sayısı
+     */
+    public int drain(Consumer<? super V> action) {
+        int drained = 0;
+        for (Stripe<V> stripe : stripes) {
+            Object[] values = stripe.detach();
+            if (values == null) {
+                continue;
+            }
+            for (Object value : values) {
+                if (value != null) {
+                    @SuppressWarnings("unchecked")
+                    V v = (V) value;
+                    action.accept(v);
+                    drained++;
+                }
+            }
+        }
+        return drained;
+    }
+
+    // ---------------------------------------------------------------------
+    // String takma ad katmanı
+    // ---------------------------------------------------------------------
+
+    /**
+     * Dış API için "önek-ID" biçiminde bir takma ad oluşturur, ör. alias("OneTime", 42) = "OneTime-42".
+     */
+    public static String alias(String prefix, long id) {
+        return prefix + "-" + id;
+    }
+
+    /**
+     * {@link #alias(String, long)} ile üretilmiş bir takma adı, yeni nesne oluşturmadan ID'ye çözer.
+     * Önek denetlenmez; ID'ler önekler arasında paylaşılıyorsa çağıran, bulunan girişin önekini karşılaştırmalıdır.
+     *
+     * @return ID, takma ad geçersizse 0
+     */
+    public static long idOf(String alias) {
+        if (alias == null) {
+            return 0;
+        }
+        int dash = alias.lastIndexOf('-');
+        if (dash < 0 || dash == alias.length() - 1) {
+            return 0;
+        }
+        long id = 0;
+        for (int i = dash + 1; i < alias.length(); i++) {
+            char c = alias.charAt(i);
+            if (c < '0' || c > '9' || id > (Long.MAX_VALUE - 9) / 10) {
+                return 0;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id;
+    }
+
+    // ---------------------------------------------------------------------
+    // İç yapı
+    // ---------------------------------------------------------------------
+
+    private Stripe<V> stripeFor(long hash) {
+        // Şerit seçimi üst bitlerden, şerit içi konum alt bitlerden yapılır
+        return stripes[(int) (hash >>> 40) & stripeMask];
+    }
+
+    private static void checkId(long id) {
+        if (id == 0) {
+            throw new IllegalArgumentException("0 geçerli bir görev ID'si değil");
+        }
+    }
+
+    // MurmurHash3 fmix64: ardışık ID'leri tabloya düzgün dağıtır
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    // Tek bir kilitle korunan açık adresli long -> değer tablosu
+    private static final class Stripe<V> {
+        private long[] keys = new long[INITIAL_STRIPE_CAPACITY];
+        private Object[] values = new Object[INITIAL_STRIPE_CAPACITY];
+        private volatile int size;
+
+        synchronized V put(long id, V value, long hash) {
+            int mask = keys.length - 1;
+            int index = (int) hash & mask;
+            while (keys[index] != 0) {
+                if (keys[index] == id) {
+                    @SuppressWarnings("unchecked")
+                    V previous = (V) values[index];
+                    values[index] = value;
+                    return previous;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[index] = id;
+            values[index] = value;
+            size++;
+            if (size > (keys.length >> 1) + (keys.length >> 2)) { // %75 doluluk
+                rehash(keys.length << 1);
+            }
+            return null;
+        }
+
+        synchronized V get(long id, long hash) {
+            int mask = keys.length - 1;
+            int index = (int) hash & mask;
+            while (keys[index] != 0) {
+                if (keys[index] == id) {
+                    @SuppressWarnings("unchecked")
+                    V value = (V) values[index];
+                    return value;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        synchronized V remove(long id, V expected, long hash) {
+            int mask = keys.length - 1;
+            int index = (int) hash & mask;
+            while (keys[index] != 0) {
+                if (keys[index] == id) {
+                    @SuppressWarnings("unchecked")
+                    V value = (V) values[index];
+                    if (expected != null && value != expected) {
+                        return null;
+                    }
+                    deleteAt(index);
+                    size--;
+                    if (keys.length > INITIAL_STRIPE_CAPACITY && size < keys.length >> 3) {
+                        rehash(keys.length >> 1); // Boşalan belleği geri ver
+                    }
+                    return value;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        synchronized Object[] snapshot() {
+            return size == 0 ? null : values.clone();
+        }
+
+        // Tabloyu boş bir tabloyla değiştirir ve eski değerleri döndürür
+        synchronized Object[] detach() {
+            if (size == 0) {
+                return null;
+            }
+            Object[] detached = values;
+            keys = new long[INITIAL_STRIPE_CAPACITY];
+            values = new Object[INITIAL_STRIPE_CAPACITY];
+            size = 0;
+            return detached;
+        }
+
+        // Geri kaydırmalı silme: mezar taşı (tombstone) bırakmadan probe zincirini onarır
+        private void deleteAt(int index) {
+            int mask = keys.length - 1;
+            int gap = index;
+            int next = (gap + 1) & mask;
+            while (keys[next] != 0) {
+                int home = (int) mix(keys[next]) & mask;
+                // next'teki giriş, kendi yeri ile next arasında boşluk yoksa boşluğa taşınabilir
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[gap] = 0;
+            values[gap] = null;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new long[capacity];
+            values = new Object[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                long key = oldKeys[i];
+                if (key != 0) {
+                    int index = (int) mix(key) & mask;
+                    while (keys[index] != 0) {
+                        index = (index + 1) & mask;
+                    }
+                    keys[index] = key;
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+    }
+}
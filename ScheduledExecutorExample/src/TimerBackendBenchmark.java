@@ -0,0 +1,136 @@
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ScheduledThreadPoolExecutor ile HashedWheelTimer arka uçlarını karşılaştıran basit bir benchmark.
+ * Her bekleyen zamanlayıcı sayısı (varsayılan 10k / 100k / 1M) için şunlar ölçülür:
+ * - Zamanlama: birden fazla üretici thread'den N uzak zamanlı görev eklemek (ns/işlem)
+ * - Bellek: N görev beklerken heap kullanımı (byte/görev)
+ * - İptal: bekleyen tüm görevleri iptal etmek (ns/işlem)
+ * - Tetikleme: 1 saniyeye yayılmış N kısa zamanlayıcının hepsinin çalışması ve ortalama gecikme
+ *
+ * Çalıştırma (1M için yeterli heap verin):
+ * <pre>
+ * javac -d out src/HashedWheelTimer.java src/TimerBackendBenchmark.java
+ * java -Xmx4g -cp out TimerBackendBenchmark 10000 100000 1000000
+ * </pre>
+ */
+public class TimerBackendBenchmark {
+
+    private static final int PRODUCERS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length == 0 ? new int[] {10_000, 100_000, 1_000_000} : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+
+        System.out.println("Zamanlayıcı Arka Ucu Benchmark'ı (üretici thread: " + PRODUCERS + ")");
+        System.out.println("=================================================");
+
+        // JIT ısınması
+        runRound("STPE", new ScheduledThreadPoolExecutor(2), 20_000, false);
+        runRound("Wheel", new HashedWheelTimer(2), 20_000, false);
+
+        for (int size : sizes) {
+            System.out.println("\nBekleyen zamanlayıcı sayısı: " + size);
+            runRound("ScheduledThreadPoolExecutor", new ScheduledThreadPoolExecutor(2), size, true);
+            runRound("HashedWheelTimer", new HashedWheelTimer(2), size, true);
+        }
+    }
+
+    private static void runRound(String name, ScheduledExecutorService backend, int size, boolean print)
+            throws Exception {
+        try {
+            ScheduledFuture<?>[] futures = new ScheduledFuture<?>[size];
+            Runnable noop = () -> { };
+
+            // 1. Uzak zamanlı görevleri zamanla
+            long heapBefore = usedHeap();
+            long scheduleNanos = parallel(size, (from, to) -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = from; i < to; i++) {
+                    futures[i] = backend.schedule(noop, 60_000 + random.nextInt(60_000), TimeUnit.MILLISECONDS);
+                }
+            });
+            Thread.sleep(50); // Tekerleğin bekleyen eklemeleri işlemesine izin ver
+            long heapAfter = usedHeap();
+
+            // 2. Hepsini iptal et
+            long cancelNanos = parallel(size, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    futures[i].cancel(false);
+                }
+            });
+
+            // 3. Bir saniyeye yayılmış kısa zamanlayıcıların tetiklenmesi
+            CountDownLatch fired = new CountDownLatch(size);
+            AtomicLong totalLagNanos = new AtomicLong();
+            long fireStart = System.nanoTime();
+            parallel(size, (from, to) -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = from; i < to; i++) {
+                    long delayNanos = TimeUnit.MILLISECONDS.toNanos(random.nextInt(1_000));
+                    long due = System.nanoTime() + delayNanos;
+                    backend.schedule(() -> {
+                        totalLagNanos.addAndGet(System.nanoTime() - due);
+                        fired.countDown();
+                    }, delayNanos, TimeUnit.NANOSECONDS);
+                }
+            });
+            boolean allFired = fired.await(60, TimeUnit.SECONDS);
+            long fireMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - fireStart);
+
+            if (print) {
+                System.out.printf("  %-28s zamanlama: %7.1f ns/op, iptal: %7.1f ns/op, bellek: %6.1f B/görev%n",
+                        name, (double) scheduleNanos / size, (double) cancelNanos / size,
+                        (double) (heapAfter - heapBefore) / size);
+                System.out.printf("  %-28s tetikleme: %s %d ms, ortalama gecikme: %.2f ms%n",
+                        "", allFired ? "tümü" : "EKSİK", fireMillis,
+                        totalLagNanos.get() / 1e6 / Math.max(1, size - fired.getCount()));
+            }
+        } finally {
+            backend.shutdownNow();
+            backend.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // Aralığı üretici thread'lere bölüp paralel çalıştırır, geçen süreyi ns olarak döndürür
+    private static long parallel(int size, RangeBody body) throws InterruptedException {
+        Thread[] threads = new Thread[PRODUCERS];
+        CountDownLatch start = new CountDownLatch(1);
+        int chunk = (size + PRODUCERS - 1) / PRODUCERS;
+        for (int t = 0; t < PRODUCERS; t++) {
+            int from = Math.min(size, t * chunk);
+            int to = Math.min(size, from + chunk);
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    body.run(from, to);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return System.nanoTime() - begin;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private interface RangeBody {
+        void run(int from, int to);
+    }
+}